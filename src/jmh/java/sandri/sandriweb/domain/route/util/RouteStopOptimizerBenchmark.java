@@ -0,0 +1,45 @@
+package sandri.sandriweb.domain.route.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 루트 장소 순서 최적화 실행 시간 벤치마크 (./gradlew jmh)
+ * 경산/대구 일대에 무작위로 흩어진 장소 N곳의 방문 순서를 최적화하는 데 걸리는 평균 시간 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RouteStopOptimizerBenchmark {
+
+    @Param({"10", "30", "50"})
+    public int stopCount;
+
+    private double[][] distance;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        double[] latitudes = new double[stopCount];
+        double[] longitudes = new double[stopCount];
+        for (int i = 0; i < stopCount; i++) {
+            latitudes[i] = 35.7 + random.nextDouble() * 0.3;
+            longitudes[i] = 128.6 + random.nextDouble() * 0.3;
+        }
+        distance = RouteStopOptimizer.distanceMatrix(latitudes, longitudes);
+    }
+
+    @Benchmark
+    public int[] optimize() {
+        return RouteStopOptimizer.optimize(distance);
+    }
+}
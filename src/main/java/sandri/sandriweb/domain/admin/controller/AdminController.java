@@ -27,6 +27,7 @@ import sandri.sandriweb.domain.magazine.dto.UpdateMagazineRequestDto;
 import sandri.sandriweb.domain.magazine.service.MagazineService;
 import sandri.sandriweb.domain.place.dto.CreatePlaceRequestDto;
 import sandri.sandriweb.domain.place.dto.CreatePlaceFormRequestDto;
+import sandri.sandriweb.domain.place.dto.CreatePlaceResultDto;
 import sandri.sandriweb.domain.place.dto.PlaceListDto;
 import sandri.sandriweb.domain.place.dto.UpdatePlaceRequestDto;
 import sandri.sandriweb.domain.place.entity.Place;
@@ -35,9 +36,14 @@ import sandri.sandriweb.domain.point.dto.CreatePointEarnConditionRequestDto;
 import sandri.sandriweb.domain.point.service.PointService;
 import sandri.sandriweb.domain.review.dto.ReviewListDto;
 import sandri.sandriweb.domain.review.service.ReviewService;
+import sandri.sandriweb.domain.search.dto.SearchLogWriterStatsDto;
+import sandri.sandriweb.domain.search.service.SearchLogWriter;
 import sandri.sandriweb.domain.user.dto.ApiResponseDto;
+import sandri.sandriweb.global.cache.CacheRegistry;
+import sandri.sandriweb.global.cache.CacheStatsDto;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -51,6 +57,8 @@ public class AdminController {
     private final AdvertiseService advertiseService;
     private final ReviewService reviewService;
     private final PointService pointService;
+    private final CacheRegistry cacheRegistry;
+    private final SearchLogWriter searchLogWriter;
 
     // ========== 장소 관련 ==========
 
@@ -142,6 +150,27 @@ public class AdminController {
         }
     }
 
+    @PostMapping("/places/like-counts/recalculate")
+    @Operation(summary = "장소 좋아요 수 재계산 (관리자용)",
+               description = "place_likes 기준으로 장소별 좋아요 수를 다시 계산합니다. 값이 달라진 장소만 갱신하며, 갱신된 장소 수를 반환합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "재계산 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "재계산 실패")
+    })
+    public ResponseEntity<ApiResponseDto<Integer>> recalculateLikeCounts() {
+
+        log.info("장소 좋아요 수 재계산 (관리자)");
+
+        try {
+            int updated = placeService.recalculateLikeCounts();
+            return ResponseEntity.ok(ApiResponseDto.success("장소 좋아요 수가 재계산되었습니다.", updated));
+        } catch (Exception e) {
+            log.error("장소 좋아요 수 재계산 중 오류 발생: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error("장소 좋아요 수를 재계산하는 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     // ========== 매거진 관련 ==========
 
     @PostMapping("/magazines")
@@ -508,6 +537,27 @@ public class AdminController {
         }
     }
 
+    @PostMapping("/reviews/rating-stats/recalculate")
+    @Operation(summary = "장소 평점 집계 재계산 (관리자용)",
+               description = "리뷰 테이블 기준으로 place_rating_stats 전체를 다시 계산합니다. 집계 불일치 경고가 기록된 경우 실행합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "재계산 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "재계산 실패")
+    })
+    public ResponseEntity<ApiResponseDto<Integer>> recalculateRatingStats() {
+
+        log.info("장소 평점 집계 재계산 (관리자)");
+
+        try {
+            int changed = reviewService.recalculateRatingStats();
+            return ResponseEntity.ok(ApiResponseDto.success("장소 평점 집계가 재계산되었습니다.", changed));
+        } catch (Exception e) {
+            log.error("장소 평점 집계 재계산 중 오류 발생: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error("장소 평점 집계를 재계산하는 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     // ========== 포인트 관련 ==========
 
     @PostMapping("/point/conditions")
@@ -592,13 +642,50 @@ public class AdminController {
         }
     }
 
+    // ========== 캐시 관련 ==========
+
+    @GetMapping("/caches")
+    @Operation(summary = "메모리 캐시 통계 조회 (관리자용)",
+               description = "서버 메모리 캐시별 항목 수, 히트/미스 횟수, 히트율, loader 실행/합류 횟수를 조회합니다. 캐시 크기 조정에 사용합니다. " +
+                             "(googlePlacesSearch의 경우 hitCount + coalescedCount가 절약한 Google API 호출 수)")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<ApiResponseDto<List<CacheStatsDto>>> getCacheStats() {
+
+        log.info("메모리 캐시 통계 조회 (관리자)");
+
+        return ResponseEntity.ok(ApiResponseDto.success(cacheRegistry.getStats()));
+    }
+
+    @GetMapping("/search-logs/stats")
+    @Operation(summary = "검색 로그 일괄 저장 통계 조회 (관리자용)",
+               description = "검색 로그 저장 큐의 현재 깊이, 누적 저장/버림/실패 건수, 일괄 INSERT 횟수를 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<ApiResponseDto<SearchLogWriterStatsDto>> getSearchLogStats() {
+
+        log.info("검색 로그 저장 통계 조회 (관리자)");
+
+        return ResponseEntity.ok(ApiResponseDto.success(searchLogWriter.getStats()));
+    }
+
     // ========== 공통 핸들러 ==========
 
     private ResponseEntity<ApiResponseDto<Long>> handleCreatePlace(CreatePlaceRequestDto request, List<MultipartFile> photos) {
         log.info("장소 생성 요청: name={}", request.getName());
         try {
-            Long placeId = placeService.createPlace(request, photos);
-            return ResponseEntity.ok(ApiResponseDto.success("장소가 생성되었습니다.", placeId));
+            CreatePlaceResultDto result = placeService.createPlace(request, photos);
+            if (result.hasFailedUploads()) {
+                String failedFiles = result.getFailedUploads().stream()
+                        .map(failed -> failed.getOriginalFileName() + "(" + failed.getErrorMessage() + ")")
+                        .collect(Collectors.joining(", "));
+                return ResponseEntity.ok(ApiResponseDto.success(
+                        "장소가 생성되었습니다. 사진 " + result.getFailedUploads().size() + "개 업로드 실패: " + failedFiles,
+                        result.getPlaceId()));
+            }
+            return ResponseEntity.ok(ApiResponseDto.success("장소가 생성되었습니다.", result.getPlaceId()));
         } catch (Exception e) {
             log.error("장소 생성 중 오류 발생: ", e);
             return ResponseEntity.badRequest()
@@ -14,11 +14,13 @@ import org.springframework.web.multipart.MultipartFile;
 import sandri.sandriweb.domain.dataImport.dto.GooglePlaceDetailsResponse;
 import sandri.sandriweb.domain.dataImport.dto.GooglePlaceResponse;
 import sandri.sandriweb.domain.dataImport.dto.StoreCsvDto;
+import sandri.sandriweb.domain.place.cache.PlaceDetailCache;
 import sandri.sandriweb.domain.place.entity.Place;
 import sandri.sandriweb.domain.place.entity.PlacePhoto;
 import sandri.sandriweb.domain.place.enums.Category;
 import sandri.sandriweb.domain.place.enums.DataSource;
 import sandri.sandriweb.domain.place.enums.PlaceCategory;
+import sandri.sandriweb.domain.place.index.PlaceSpatialIndex;
 import sandri.sandriweb.domain.place.repository.PlaceRepository;
 
 import java.io.BufferedReader;
@@ -38,13 +40,19 @@ public class CsvImportService {
 
     private final PlaceRepository placeRepository;
     private final GooglePlaceService googlePlaceService;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceDetailCache placeDetailCache;
     private final CsvImportService self;  // Self-injection for @Transactional(REQUIRES_NEW)
 
     public CsvImportService(PlaceRepository placeRepository,
                            GooglePlaceService googlePlaceService,
+                           PlaceSpatialIndex placeSpatialIndex,
+                           PlaceDetailCache placeDetailCache,
                            @org.springframework.context.annotation.Lazy CsvImportService self) {
         this.placeRepository = placeRepository;
         this.googlePlaceService = googlePlaceService;
+        this.placeSpatialIndex = placeSpatialIndex;
+        this.placeDetailCache = placeDetailCache;
         this.self = self;
     }
 
@@ -211,6 +219,8 @@ public class CsvImportService {
                 Place place = existingPlace.get();
                 boolean updated = updatePlaceFromCsv(place, store, placeDetails);
                 if (updated) {
+                    placeSpatialIndex.index(place);
+                    placeDetailCache.evict(place.getId());
                     log.info("장소 업데이트 성공 (PATCH): {}", fullName);
                     return true;
                 } else {
@@ -225,6 +235,7 @@ public class CsvImportService {
                 Place savedPlace = createAndSavePlaceFromCsv(store, placeDetails);
 
                 if (savedPlace != null) {
+                    placeSpatialIndex.index(savedPlace);
                     log.info("장소 저장 성공 (POST - Google 데이터): {}", fullName);
                     return true;
                 }
@@ -234,6 +245,7 @@ public class CsvImportService {
                 Place savedPlace = createAndSavePlaceFromCsvOnly(store);
 
                 if (savedPlace != null) {
+                    placeSpatialIndex.index(savedPlace);
                     log.info("장소 저장 성공 (POST - CSV 데이터): {}", fullName);
                     return true;
                 }
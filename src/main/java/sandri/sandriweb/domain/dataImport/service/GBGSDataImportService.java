@@ -15,11 +15,13 @@ import org.springframework.web.util.UriComponentsBuilder;
 import sandri.sandriweb.domain.dataImport.dto.GbgsTourApiResponse;
 import sandri.sandriweb.domain.dataImport.dto.GooglePlaceDetailsResponse;
 import sandri.sandriweb.domain.dataImport.dto.GooglePlaceResponse;
+import sandri.sandriweb.domain.place.cache.PlaceDetailCache;
 import sandri.sandriweb.domain.place.entity.Place;
 import sandri.sandriweb.domain.place.entity.PlacePhoto;
 import sandri.sandriweb.domain.place.enums.Category;
 import sandri.sandriweb.domain.place.enums.PlaceCategory;
 import sandri.sandriweb.domain.place.enums.DataSource;
+import sandri.sandriweb.domain.place.index.PlaceSpatialIndex;
 import sandri.sandriweb.domain.place.repository.PlaceRepository;
 
 import java.util.ArrayList;
@@ -32,6 +34,8 @@ public class GBGSDataImportService {
     private final PlaceRepository placeRepository;
     private final GooglePlaceService googlePlaceService;
     private final EntityManager entityManager;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceDetailCache placeDetailCache;
     private final GBGSDataImportService self;  // Self-injection for @Transactional(REQUIRES_NEW)
     private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -39,10 +43,14 @@ public class GBGSDataImportService {
     public GBGSDataImportService(PlaceRepository placeRepository,
                                 GooglePlaceService googlePlaceService,
                                 EntityManager entityManager,
+                                PlaceSpatialIndex placeSpatialIndex,
+                                PlaceDetailCache placeDetailCache,
                                 @org.springframework.context.annotation.Lazy GBGSDataImportService self) {
         this.placeRepository = placeRepository;
         this.googlePlaceService = googlePlaceService;
         this.entityManager = entityManager;
+        this.placeSpatialIndex = placeSpatialIndex;
+        this.placeDetailCache = placeDetailCache;
         this.self = self;
     }
 
@@ -235,6 +243,8 @@ public class GBGSDataImportService {
                     Place place = existingPlace.get();
                     boolean updated = updatePlaceFromGbgs(place, item, placeDetails, categoryCode);
                     if (updated) {
+                        placeSpatialIndex.index(place);
+                        placeDetailCache.evict(place.getId());
                         log.info("장소 업데이트 성공 (PATCH): {}", placeName);
                         return ProcessResult.IMPORTED;
                     } else {
@@ -247,6 +257,7 @@ public class GBGSDataImportService {
                 Place savedPlace = createAndSavePlace(item, placeDetails, categoryCode);
 
                 if (savedPlace != null) {
+                    placeSpatialIndex.index(savedPlace);
                     log.info("장소 저장 성공 (POST): {}", placeName);
                     return ProcessResult.IMPORTED;
                 } else {
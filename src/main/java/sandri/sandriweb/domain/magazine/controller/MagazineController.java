@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import sandri.sandriweb.domain.magazine.dto.AddPlaceFromMagazineRequestDto;
 import sandri.sandriweb.domain.magazine.dto.MagazineDetailResponseDto;
 import sandri.sandriweb.domain.magazine.dto.MagazineListCursorResponseDto;
+import sandri.sandriweb.domain.magazine.dto.MagazineListDto;
 import sandri.sandriweb.domain.magazine.dto.MagazinePlaceThumbnailDto;
 import sandri.sandriweb.domain.magazine.service.MagazineService;
 import sandri.sandriweb.domain.place.dto.SimplePlaceDto;
@@ -119,6 +120,31 @@ public class MagazineController {
         }
     }
 
+    @GetMapping("/hot")
+    @Operation(summary = "HOT 매거진 조회",
+               description = "최근 좋아요가 많은 매거진 목록을 인기 순으로 조회합니다." +
+                             "좋아요 점수는 시간이 지날수록 감소하므로 최근 좋아요일수록 순위에 크게 반영됩니다." +
+                             "매거진 객체에서는 매거진 ID, 매거진 제목, 매거진 썸네일(첫 번째 카드 이미지), 매거진 요약, 매거진 태그, 사용자 좋아요 여부를 반환합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    public ResponseEntity<ApiResponseDto<List<MagazineListDto>>> getHotMagazines(
+            @Parameter(description = "조회할 개수 (최대 20)", example = "5")
+            @RequestParam(defaultValue = "5") int limit,
+            @AuthenticationPrincipal User user) {
+
+        log.info("HOT 매거진 조회: limit={}", limit);
+
+        try {
+            Long userId = extractUserId(user);
+            List<MagazineListDto> response = magazineService.getHotMagazines(limit, userId);
+            return ResponseEntity.ok(ApiResponseDto.success(response));
+        } catch (Exception e) {
+            return handleException(e, "HOT 매거진 조회", "HOT 매거진을 조회하는 중 오류가 발생했습니다.");
+        }
+    }
+
     @PostMapping("/{magazineId}/like")
     @Operation(summary = "매거진 좋아요 토글",
                description = "매거진 상세 페이지에서 호출합니다." +
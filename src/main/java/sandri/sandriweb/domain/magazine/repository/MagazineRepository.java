@@ -40,6 +40,17 @@ public interface MagazineRepository extends JpaRepository<Magazine, Long> {
            "ORDER BY m.id DESC")
     List<Magazine> findEnabledWithThumbnailByCursor(@Param("lastId") Long lastId, Pageable pageable);
 
+    /*
+     * ID 목록으로 enabled된 매거진 조회 (썸네일만 fetch, 순서는 호출 측에서 정렬)
+     */
+    @Query("SELECT DISTINCT m FROM Magazine m " +
+           "LEFT JOIN FETCH m.cards c " +
+           "WHERE m.id IN :magazineIds " +
+           "AND m.enabled = true " +
+           "AND (c.order = 0 OR c IS NULL) " +
+           "AND (c.enabled = true OR c IS NULL)")
+    List<Magazine> findEnabledWithThumbnailByIdIn(@Param("magazineIds") List<Long> magazineIds);
+
     /**
      * enabled된 매거진 총 개수 조회
      */
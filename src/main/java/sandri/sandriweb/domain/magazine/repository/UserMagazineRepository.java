@@ -40,5 +40,13 @@ public interface UserMagazineRepository extends JpaRepository<UserMagazine, Long
            "AND um.enabled = true " +
            "ORDER BY um.updatedAt DESC")
     List<sandri.sandriweb.domain.magazine.entity.Magazine> findLikedMagazinesByUserId(@Param("userId") Long userId);
-}
 
+    /**
+     * enabled된 좋아요의 매거진 ID와 시각 목록 (인기 점수 최초 계산용)
+     * @return [magazineId, updatedAt] 형태의 Object[] 리스트
+     */
+    @Query("SELECT um.magazine.id, um.updatedAt " +
+           "FROM UserMagazine um " +
+           "WHERE um.enabled = true")
+    List<Object[]> findEnabledLikeTimes();
+}
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import sandri.sandriweb.domain.favorite.enums.FavoriteType;
 import sandri.sandriweb.domain.magazine.dto.*;
 import sandri.sandriweb.domain.magazine.entity.Magazine;
 import sandri.sandriweb.domain.magazine.entity.MagazineCard;
@@ -19,16 +20,20 @@ import sandri.sandriweb.domain.magazine.repository.TagRepository;
 import sandri.sandriweb.domain.magazine.repository.UserMagazineRepository;
 import sandri.sandriweb.domain.place.dto.SimplePlaceDto;
 import sandri.sandriweb.domain.place.entity.Place;
-import sandri.sandriweb.domain.place.repository.PlacePhotoRepository;
+import sandri.sandriweb.domain.place.cache.PlaceThumbnailCache;
 import sandri.sandriweb.domain.place.repository.PlaceRepository;
 import sandri.sandriweb.domain.place.repository.UserPlaceRepository;
+import sandri.sandriweb.domain.trending.service.TrendingService;
 import sandri.sandriweb.domain.user.entity.User;
 import sandri.sandriweb.domain.user.repository.UserRepository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,11 +46,12 @@ public class MagazineService {
     private final MagazineCardRepository magazineCardRepository;
     private final UserMagazineRepository userMagazineRepository;
     private final UserRepository userRepository;
-    private final PlacePhotoRepository placePhotoRepository;
+    private final PlaceThumbnailCache placeThumbnailCache;
     private final PlaceRepository placeRepository;
     private final UserPlaceRepository userPlaceRepository;
     private final TagRepository tagRepository;
     private final MagazineTagRepository magazineTagRepository;
+    private final TrendingService trendingService;
 
     /*
      * 매거진 상세 조회 (카드뉴스 포함)
@@ -110,7 +116,81 @@ public class MagazineService {
         boolean hasNext = all.size() > size;
         List<Magazine> pageItems = hasNext ? all.subList(0, size) : all;
 
-        // 2. 사용자가 좋아요한 매거진 ID 조회 (로그인한 경우)
+        // 2. DTO 변환 (좋아요 여부, 태그 포함)
+        List<MagazineListDto> content = toMagazineListDtos(pageItems, userId);
+
+        // 다음 커서 설정 (hasNext가 true이고 항목이 있을 때만 마지막 항목의 ID를 커서로 사용)
+        Long nextCursor = (hasNext && !pageItems.isEmpty()) 
+                ? pageItems.get(pageItems.size() - 1).getId() 
+                : null;
+
+        // 전체 매거진 개수 조회
+        long totalCount = magazineRepository.countByEnabledTrue();
+
+        return MagazineListCursorResponseDto.builder()
+                .magazines(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalCount(totalCount)
+                .build();
+    }
+
+    /*
+     * HOT 매거진 조회 (메모리 인기 점수 기준)
+     * 인기 점수가 있는 매거진이 부족하거나 점수 적재 전이면 최신 매거진(좋아요 0개 포함)으로 나머지를 채움
+     * @param limit 조회 개수
+     * @param userId 사용자 ID (로그인한 경우에만 제공, null 가능)
+     * @return 인기 순 매거진 목록 (제목, 썸네일, 요약, 좋아요 여부)
+     */
+    @Transactional(readOnly = true)
+    public List<MagazineListDto> getHotMagazines(int limit, Long userId) {
+        int fetchSize = Math.min(Math.max(limit, 1), 20);
+
+        List<Magazine> ranked = new ArrayList<>(fetchSize);
+        if (trendingService.isReady()) {
+            // 비활성화된 매거진을 건너뛸 수 있도록 여유 있게 조회
+            List<Long> rankedIds = trendingService.getTop(FavoriteType.MAGAZINE, fetchSize * 2).stream()
+                    .map(TrendingService.TrendingItem::getTargetId)
+                    .collect(Collectors.toList());
+            if (!rankedIds.isEmpty()) {
+                Map<Long, Magazine> magazineMap = magazineRepository.findEnabledWithThumbnailByIdIn(rankedIds).stream()
+                        .collect(Collectors.toMap(Magazine::getId, magazine -> magazine));
+                rankedIds.stream()
+                        .map(magazineMap::get)
+                        .filter(Objects::nonNull)
+                        .limit(fetchSize)
+                        .forEach(ranked::add);
+            }
+        } else {
+            log.warn("인기 점수 적재 전이라 최신 매거진으로 HOT 매거진을 조회합니다");
+        }
+
+        if (ranked.size() < fetchSize) {
+            Set<Long> selectedIds = ranked.stream().map(Magazine::getId).collect(Collectors.toSet());
+            for (Magazine magazine : magazineRepository.findEnabledWithThumbnailByCursor(
+                    null, PageRequest.of(0, fetchSize + selectedIds.size()))) {
+                if (ranked.size() >= fetchSize) {
+                    break;
+                }
+                if (selectedIds.add(magazine.getId())) {
+                    ranked.add(magazine);
+                }
+            }
+        }
+
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        return toMagazineListDtos(ranked, userId);
+    }
+
+    /*
+     * 매거진 목록을 DTO로 변환 (썸네일은 order = 0 카드가 fetch join되어 있어야 함)
+     */
+    private List<MagazineListDto> toMagazineListDtos(List<Magazine> pageItems, Long userId) {
+        // 사용자가 좋아요한 매거진 ID 조회 (로그인한 경우)
         List<Long> magazineIds = pageItems.stream().map(Magazine::getId).collect(Collectors.toList());
         Map<Long, Boolean> likedMagazineIds;
         if (userId != null) {
@@ -124,13 +204,12 @@ public class MagazineService {
             likedMagazineIds = new HashMap<>();
         }
 
-        // 3. 매거진 태그를 batch fetch (N+1 문제 방지)
+        // 매거진 태그를 batch fetch (N+1 문제 방지)
         List<MagazineTag> magazineTags = magazineTagRepository.findByMagazineIdInWithTag(magazineIds);
         Map<Long, List<MagazineTag>> tagsByMagazineId = magazineTags.stream()
                 .collect(Collectors.groupingBy(mt -> mt.getMagazine().getId()));
 
-        // 4. DTO 변환
-        List<MagazineListDto> content = pageItems.stream()
+        return pageItems.stream()
                 .map(magazine -> {
                     // 썸네일 가져오기 (order = 0인 카드만 fetch join되어 있음)
                     String thumbnail = null;
@@ -166,22 +245,6 @@ public class MagazineService {
                             .build();
                 })
                 .collect(Collectors.toList());
-
-        // 다음 커서 설정 (hasNext가 true이고 항목이 있을 때만 마지막 항목의 ID를 커서로 사용)
-        Long nextCursor = (hasNext && !pageItems.isEmpty()) 
-                ? pageItems.get(pageItems.size() - 1).getId() 
-                : null;
-
-        // 전체 매거진 개수 조회
-        long totalCount = magazineRepository.countByEnabledTrue();
-
-        return MagazineListCursorResponseDto.builder()
-                .magazines(content)
-                .size(size)
-                .nextCursor(nextCursor)
-                .hasNext(hasNext)
-                .totalCount(totalCount)
-                .build();
     }
 
     /*
@@ -203,16 +266,19 @@ public class MagazineService {
         }
         
         // 기존 좋아요 조회
-        return userMagazineRepository.findByUserIdAndMagazineId(userId, magazineId)
+        boolean liked = userMagazineRepository.findByUserIdAndMagazineId(userId, magazineId)
                 .map(userMagazine -> {
                     // 이미 좋아요가 있는 경우: 토글
                     if (userMagazine.isEnabled()) {
+                        LocalDateTime likedAt = userMagazine.getUpdatedAt();
                         userMagazine.disable(); // 좋아요 취소
                         userMagazineRepository.save(userMagazine);
+                        trendingService.recordUnlike(FavoriteType.MAGAZINE, magazineId, likedAt);
                         return false;
                     } else {
                         userMagazine.enable(); // 좋아요 재활성화
                         userMagazineRepository.save(userMagazine);
+                        trendingService.recordLike(FavoriteType.MAGAZINE, magazineId);
                         return true;
                     }
                 })
@@ -225,8 +291,11 @@ public class MagazineService {
                             .magazine(magazine)
                             .build();
                     userMagazineRepository.save(newUserMagazine);
+                    trendingService.recordLike(FavoriteType.MAGAZINE, magazineId);
                     return true;
                 });
+
+        return liked;
     }
 
     // createMagazineCards 헬퍼 메소드    
@@ -585,14 +654,8 @@ public class MagazineService {
             return new HashMap<>();
         }
         
-        // 배치 조회로 각 장소당 첫 번째 사진만 조회 (N+1 문제 방지)
-        List<Object[]> photoResults = placePhotoRepository.findFirstPhotoUrlByPlaceIdIn(placeIds);
-        
-        return photoResults.stream()
-                .collect(Collectors.toMap(
-                        result -> ((Number) result[0]).longValue(), // place_id
-                        result -> (String) result[1]  // photo_url
-                ));
+        // 캐시에 없는 장소만 배치 조회 (N+1 문제 방지)
+        return placeThumbnailCache.getAll(placeIds);
     }
 
     /**
@@ -0,0 +1,46 @@
+package sandri.sandriweb.domain.place.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sandri.sandriweb.domain.place.dto.PlaceDetailResponseDto;
+import sandri.sandriweb.global.cache.CacheRegistry;
+import sandri.sandriweb.global.cache.LruTtlCache;
+import sandri.sandriweb.global.util.TransactionUtils;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 장소 상세 정보 응답 캐시 (placeId 기준, LRU + TTL)
+ * 장소 정보/공식 사진/리뷰 평점이 바뀌는 곳에서 evict 호출
+ */
+@Component
+public class PlaceDetailCache {
+
+    private final LruTtlCache<Long, PlaceDetailResponseDto> cache;
+
+    public PlaceDetailCache(CacheRegistry cacheRegistry,
+                            @Value("${app.cache.place-detail.max-size:2000}") int maxSize,
+                            @Value("${app.cache.place-detail.ttl-minutes:30}") long ttlMinutes) {
+        this.cache = cacheRegistry.create("placeDetail", maxSize, Duration.ofMinutes(ttlMinutes));
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 저장
+     */
+    public PlaceDetailResponseDto get(Long placeId, Function<Long, PlaceDetailResponseDto> loader) {
+        return cache.get(placeId, loader);
+    }
+
+    /**
+     * 장소 상세 캐시 제거
+     * 즉시 제거하고, 커밋 전에 다른 요청이 이전 값으로 다시 채우는 경우를 막기 위해 커밋 후 한 번 더 제거
+     */
+    public void evict(Long placeId) {
+        if (placeId == null) {
+            return;
+        }
+        cache.invalidate(placeId);
+        TransactionUtils.afterCommit(() -> cache.invalidate(placeId));
+    }
+}
@@ -0,0 +1,103 @@
+package sandri.sandriweb.domain.place.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sandri.sandriweb.domain.place.repository.PlacePhotoRepository;
+import sandri.sandriweb.global.cache.CacheRegistry;
+import sandri.sandriweb.global.cache.LruTtlCache;
+import sandri.sandriweb.global.util.TransactionUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 장소 대표 사진(첫 번째 사진) URL 캐시
+ * 캐시에 없는 장소만 모아 findFirstPhotoUrlByPlaceIdIn 한 번으로 조회
+ * 사진이 없는 장소도 빈 값으로 저장하여 반복 조회를 막음
+ */
+@Component
+public class PlaceThumbnailCache {
+
+    private final PlacePhotoRepository placePhotoRepository;
+    private final LruTtlCache<Long, Optional<String>> cache;
+
+    public PlaceThumbnailCache(PlacePhotoRepository placePhotoRepository,
+                               CacheRegistry cacheRegistry,
+                               @Value("${app.cache.place-thumbnail.max-size:20000}") int maxSize,
+                               @Value("${app.cache.place-thumbnail.ttl-minutes:60}") long ttlMinutes) {
+        this.placePhotoRepository = placePhotoRepository;
+        this.cache = cacheRegistry.create("placeThumbnail", maxSize, Duration.ofMinutes(ttlMinutes));
+    }
+
+    /**
+     * 여러 장소의 대표 사진 URL 일괄 조회
+     * @param placeIds 장소 ID 목록 (null, 중복 허용)
+     * @return Place ID를 키로, 사진 URL을 값으로 하는 Map (사진이 없는 장소는 포함되지 않음)
+     */
+    public Map<Long, String> getAll(Collection<Long> placeIds) {
+        if (placeIds == null || placeIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(placeIds);
+        distinctIds.remove(null);
+
+        Map<Long, Optional<String>> cached = cache.getAllPresent(distinctIds);
+        Map<Long, String> result = new HashMap<>();
+        cached.forEach((placeId, photoUrl) -> photoUrl.ifPresent(url -> result.put(placeId, url)));
+
+        List<Long> missingIds = new ArrayList<>();
+        for (Long placeId : distinctIds) {
+            if (!cached.containsKey(placeId)) {
+                missingIds.add(placeId);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return result;
+        }
+
+        // 캐시에 없는 장소만 배치 조회 (윈도우 함수로 장소당 첫 번째 사진)
+        long epoch = cache.currentEpoch();
+        Map<Long, String> loaded = new HashMap<>();
+        for (Object[] row : placePhotoRepository.findFirstPhotoUrlByPlaceIdIn(missingIds)) {
+            loaded.putIfAbsent(((Number) row[0]).longValue(), (String) row[1]);
+        }
+
+        for (Long placeId : missingIds) {
+            String photoUrl = loaded.get(placeId);
+            cache.putIfNotInvalidatedSince(placeId, Optional.ofNullable(photoUrl), epoch);
+            if (photoUrl != null) {
+                result.put(placeId, photoUrl);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 단일 장소의 대표 사진 URL 조회
+     */
+    public String get(Long placeId) {
+        if (placeId == null) {
+            return null;
+        }
+        return getAll(List.of(placeId)).get(placeId);
+    }
+
+    /**
+     * 장소 사진 변경 시 캐시 제거 (즉시 + 커밋 후)
+     */
+    public void evict(Long placeId) {
+        if (placeId == null) {
+            return;
+        }
+        cache.invalidate(placeId);
+        TransactionUtils.afterCommit(() -> cache.invalidate(placeId));
+    }
+}
@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -17,10 +18,15 @@ import sandri.sandriweb.domain.place.dto.SimplePlaceDto;
 import sandri.sandriweb.domain.place.dto.NearbyPlaceDto;
 import sandri.sandriweb.domain.place.dto.PlaceDetailResponseDto;
 import sandri.sandriweb.domain.place.dto.HotPlaceDto;
+import sandri.sandriweb.domain.place.dto.PlaceListCursorResponseDto;
+import sandri.sandriweb.domain.place.dto.PlaceMapResponseDto;
+import sandri.sandriweb.domain.place.index.PlaceMapClusterIndex;
 import sandri.sandriweb.domain.place.service.PlaceService;
 import sandri.sandriweb.domain.user.dto.ApiResponseDto;
 import sandri.sandriweb.domain.user.entity.User;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -31,6 +37,17 @@ import java.util.List;
 public class PlaceController {
 
     private final PlaceService placeService;
+    private final Clock clock;
+
+    /**
+     * 영업 중 필터 기준 시각 (openAt 우선, openNow면 현재 한국 시각, 둘 다 없으면 필터 없음)
+     */
+    private LocalDateTime resolveOpenAt(boolean openNow, LocalDateTime openAt) {
+        if (openAt != null) {
+            return openAt;
+        }
+        return openNow ? LocalDateTime.now(clock) : null;
+    }
 
     @GetMapping("/{placeId}")
     @Operation(summary = "관광지 상세 정보 조회", 
@@ -84,12 +101,16 @@ public class PlaceController {
             @Parameter(description = "관광지 ID", example = "1")
             @PathVariable Long placeId,
             @Parameter(description = "조회할 개수", example = "10")
-            @RequestParam(defaultValue = "10") int count) {
+            @RequestParam(defaultValue = "10") int count,
+            @Parameter(description = "지금 영업 중인 장소만 조회 (영업시간 정보가 없는 장소는 제외)", example = "false")
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @Parameter(description = "이 시각에 영업 중인 장소만 조회 (ISO-8601, openNow보다 우선)", example = "2025-05-01T14:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt) {
 
-        log.info("근처 장소 조회 (거리 순): placeId={}, count={}", placeId, count);
+        log.info("근처 장소 조회 (거리 순): placeId={}, count={}, openNow={}, openAt={}", placeId, count, openNow, openAt);
 
         try {
-            List<NearbyPlaceDto> response = placeService.getNearbyPlaces(placeId, count);
+            List<NearbyPlaceDto> response = placeService.getNearbyPlaces(placeId, count, resolveOpenAt(openNow, openAt));
             return ResponseEntity.ok(ApiResponseDto.success(response));
         } catch (RuntimeException e) {
             log.error("근처 장소 조회 실패: {}", e.getMessage());
@@ -123,12 +144,18 @@ public class PlaceController {
             @Parameter(description = "대분류 (관광지/맛집/카페)", example = "맛집")
             @RequestParam String group,
             @Parameter(description = "조회할 개수", example = "6")
-            @RequestParam(defaultValue = "6") int count) {
+            @RequestParam(defaultValue = "6") int count,
+            @Parameter(description = "지금 영업 중인 장소만 조회 (영업시간 정보가 없는 장소는 제외)", example = "false")
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @Parameter(description = "이 시각에 영업 중인 장소만 조회 (ISO-8601, openNow보다 우선)", example = "2025-05-01T14:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt) {
 
-        log.info("근처 장소 조회 (대분류별, 좋아요 순): placeId={}, group={}, count={}", placeId, group, count);
+        log.info("근처 장소 조회 (대분류별, 좋아요 순): placeId={}, group={}, count={}, openNow={}, openAt={}",
+                placeId, group, count, openNow, openAt);
 
         try {
-            List<NearbyPlaceDto> response = placeService.getNearbyPlacesByGroup(placeId, group, count);
+            List<NearbyPlaceDto> response = placeService.getNearbyPlacesByGroup(placeId, group, count,
+                    resolveOpenAt(openNow, openAt));
             return ResponseEntity.ok(ApiResponseDto.success(response));
         } catch (RuntimeException e) {
             log.error("근처 장소 조회 실패: {}", e.getMessage());
@@ -145,6 +172,37 @@ public class PlaceController {
         }
     }
 
+    @GetMapping("/map")
+    @Operation(summary = "지도 화면 범위 장소 조회",
+               description = "지도 화면에 보이는 범위(bbox) 안의 장소를 조회합니다. " +
+                             "줌 레벨이 " + PlaceMapClusterIndex.MAX_CLUSTER_ZOOM + " 이하이면 격자 클러스터(중심 위도/경도, 장소 수)를 반환하고(clustered=true), " +
+                             "그보다 확대된 경우 개별 장소(ID, 이름, 위도/경도, 대분류, 카테고리, 대표 사진)를 반환합니다(clustered=false).")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    public ResponseEntity<ApiResponseDto<PlaceMapResponseDto>> getMapPlaces(
+            @Parameter(description = "화면 범위 (minLng,minLat,maxLng,maxLat)", example = "128.70,35.78,128.85,35.88")
+            @RequestParam String bbox,
+            @Parameter(description = "지도 줌 레벨 (0~21)", example = "12")
+            @RequestParam int zoom) {
+
+        log.info("지도 장소 조회: bbox={}, zoom={}", bbox, zoom);
+
+        try {
+            PlaceMapResponseDto response = placeService.getMapPlaces(bbox, zoom);
+            return ResponseEntity.ok(ApiResponseDto.success(response));
+        } catch (RuntimeException e) {
+            log.error("지도 장소 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("지도 장소 조회 중 오류 발생: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error("지도 장소를 조회하는 중 오류가 발생했습니다."));
+        }
+    }
+
     @GetMapping("")
     @Operation(summary = "카테고리별 장소 조회",
                description = "홈: 카테고리 버튼을 눌러 나오는 카테고리별 장소 조회에서 호출하여 사용합니다. " +
@@ -162,6 +220,10 @@ public class PlaceController {
             @RequestParam(defaultValue = "10") int count,
             @Parameter(description = "마지막 장소 ID (더보기용, 없으면 처음부터 조회)", example = "5")
             @RequestParam(required = false) Long lastPlaceId,
+            @Parameter(description = "지금 영업 중인 장소만 조회 (영업시간 정보가 없는 장소는 제외)", example = "false")
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @Parameter(description = "이 시각에 영업 중인 장소만 조회 (ISO-8601, openNow보다 우선)", example = "2025-05-01T14:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
             @AuthenticationPrincipal User user) {
 
         log.info("카테고리별 장소 조회: category={}, count={}, lastPlaceId={}", 
@@ -171,7 +233,8 @@ public class PlaceController {
             // 사용자 ID 조회 (로그인한 경우) - @AuthenticationPrincipal로 최적화
             Long userId = (user != null) ? user.getId() : null;
 
-            List<SimplePlaceDto> response = placeService.getPlacesByCategory(category, count, lastPlaceId, userId);
+            List<SimplePlaceDto> response = placeService.getPlacesByCategory(category, count, lastPlaceId, userId,
+                    resolveOpenAt(openNow, openAt));
             return ResponseEntity.ok(ApiResponseDto.success(response));
         } catch (RuntimeException e) {
             log.error("카테고리별 장소 조회 실패: {}", e.getMessage());
@@ -184,6 +247,52 @@ public class PlaceController {
         }
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "카테고리별 장소 조회 (커서 토큰 기반 페이징)",
+               description = "카테고리별 장소 조회와 같은 목록을 커서 토큰 기반으로 페이징하여 조회합니다. " +
+               "장소 목록, 요청한 개수, 다음 페이지 커서(nextCursor), 다음 페이지 존재 여부를 반환합니다. " +
+               "더보기: 이전 응답의 nextCursor를 cursor에 그대로 전달하면 그 다음부터 조회됩니다. " +
+               "기존 lastPlaceId도 계속 사용할 수 있으며, cursor가 있으면 lastPlaceId는 무시됩니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    public ResponseEntity<ApiResponseDto<PlaceListCursorResponseDto>> getPlacesByCategoryWithCursor(
+            @Parameter(description = "카테고리 ('자연/힐링', '역사/전통', '문화/체험', '식도락' 중 하나)", example = "자연/힐링")
+            @RequestParam String category,
+            @Parameter(description = "조회할 개수", example = "10")
+            @RequestParam(defaultValue = "10") int count,
+            @Parameter(description = "이전 응답의 nextCursor (더보기용, 없으면 처음부터 조회)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "마지막 장소 ID (하위 호환용)", example = "5")
+            @RequestParam(required = false) Long lastPlaceId,
+            @Parameter(description = "지금 영업 중인 장소만 조회 (영업시간 정보가 없는 장소는 제외)", example = "false")
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @Parameter(description = "이 시각에 영업 중인 장소만 조회 (ISO-8601, openNow보다 우선)", example = "2025-05-01T14:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+            @AuthenticationPrincipal User user) {
+
+        log.info("카테고리별 장소 조회(커서): category={}, count={}, cursor={}, lastPlaceId={}",
+                category, count, cursor, lastPlaceId);
+
+        try {
+            Long userId = (user != null) ? user.getId() : null;
+
+            PlaceListCursorResponseDto response =
+                    placeService.getPlacesByCategoryWithCursor(category, count, cursor, lastPlaceId, userId,
+                            resolveOpenAt(openNow, openAt));
+            return ResponseEntity.ok(ApiResponseDto.success(response));
+        } catch (RuntimeException e) {
+            log.error("카테고리별 장소 조회(커서) 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("카테고리별 장소 조회(커서) 중 오류 발생: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error("카테고리별 장소를 조회하는 중 오류가 발생했습니다."));
+        }
+    }
+
     @PostMapping("/{placeId}/like")
     @Operation(summary = "장소 좋아요 토글",
                description = "관광지 상세 페이지에서 호출합니다." +
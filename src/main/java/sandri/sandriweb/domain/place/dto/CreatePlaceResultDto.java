@@ -0,0 +1,30 @@
+package sandri.sandriweb.domain.place.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sandri.sandriweb.global.service.dto.S3UploadResult;
+
+import java.util.List;
+
+/**
+ * 장소 생성 결과 (관리자용)
+ * 사진 일부가 업로드에 실패해도 장소는 생성되며, 실패한 사진은 failedUploads로 전달
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreatePlaceResultDto {
+
+    private Long placeId;
+
+    private int uploadedPhotoCount;
+
+    private List<S3UploadResult> failedUploads;
+
+    public boolean hasFailedUploads() {
+        return failedUploads != null && !failedUploads.isEmpty();
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -30,6 +31,12 @@ public class PlaceDetailResponseDto {
     @Schema(description = "리뷰 평점", example = "4.5")
     private Double rating;
     
+    @Schema(description = "리뷰 개수", example = "27")
+    private Long reviewCount;
+    
+    @Schema(description = "별점별 리뷰 개수 (키: 1~5)", example = "{\"1\": 1, \"2\": 0, \"3\": 3, \"4\": 8, \"5\": 15}")
+    private Map<Integer, Long> ratingDistribution;
+    
     @Schema(description = "한글 주소", example = "경상북도 경주시 불국로 385")
     private String address;
     
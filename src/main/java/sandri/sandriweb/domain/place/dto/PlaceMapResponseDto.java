@@ -0,0 +1,75 @@
+package sandri.sandriweb.domain.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지도 화면 범위 장소 조회 응답 DTO (낮은 줌에서는 클러스터, 높은 줌에서는 개별 장소)")
+public class PlaceMapResponseDto {
+
+    @Schema(description = "요청한 줌 레벨", example = "12")
+    private int zoom;
+
+    @Schema(description = "클러스터 응답 여부 (true면 clusters, false면 places 사용)", example = "true")
+    private boolean clustered;
+
+    @Schema(description = "클러스터 목록 (clustered=true일 때)")
+    private List<ClusterDto> clusters;
+
+    @Schema(description = "개별 장소 목록 (clustered=false일 때)")
+    private List<PinDto> places;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "지도 클러스터 DTO")
+    public static class ClusterDto {
+
+        @Schema(description = "클러스터 중심 위도 (포함된 장소들의 평균)", example = "35.8251")
+        private double latitude;
+
+        @Schema(description = "클러스터 중심 경도 (포함된 장소들의 평균)", example = "128.7412")
+        private double longitude;
+
+        @Schema(description = "클러스터에 포함된 장소 수", example = "17")
+        private int count;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "지도 장소 핀 DTO")
+    public static class PinDto {
+
+        @Schema(description = "장소 ID", example = "1")
+        private Long placeId;
+
+        @Schema(description = "장소 이름", example = "반곡지")
+        private String name;
+
+        @Schema(description = "위도", example = "35.7894")
+        private double latitude;
+
+        @Schema(description = "경도", example = "128.8103")
+        private double longitude;
+
+        @Schema(description = "대분류 (관광지/맛집/카페)", example = "관광지")
+        private String groupName;
+
+        @Schema(description = "세부 카테고리 이름", example = "자연/힐링")
+        private String categoryName;
+
+        @Schema(description = "대표 사진 한 장", example = "https://s3.../photo.jpg")
+        private String thumbnailUrl;
+    }
+}
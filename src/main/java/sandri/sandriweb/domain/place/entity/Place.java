@@ -3,24 +3,31 @@ package sandri.sandriweb.domain.place.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import sandri.sandriweb.domain.review.entity.PlaceReview;
 import sandri.sandriweb.domain.review.entity.PlaceReviewPhoto;
 import sandri.sandriweb.domain.place.enums.PlaceCategory;
 import sandri.sandriweb.domain.place.enums.Category;
 import sandri.sandriweb.domain.place.enums.DataSource;
+import sandri.sandriweb.domain.place.index.PlaceSearchIndexListener;
 import sandri.sandriweb.global.entity.BaseEntity;
+import sandri.sandriweb.global.util.GeoHash;
 import org.locationtech.jts.geom.*;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(PlaceSearchIndexListener.class)
 @SuperBuilder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Table(name = "places", uniqueConstraints = {
     @UniqueConstraint(name = "uc_place_name_address", columnNames = {"name", "address"})
+}, indexes = {
+    @Index(name = "idx_category_like_count", columnList = "category, like_count DESC, created_at DESC, place_id DESC"),
+    @Index(name = "idx_places_geohash", columnList = "geohash")
 })
 public class Place extends BaseEntity {
 
@@ -35,9 +42,13 @@ public class Place extends BaseEntity {
     @Column(name = "address")
     private String address; // 한글 주소 (외부 API로 조회하여 저장)
 
+    // MySQL에서는 PlaceLocationIndexInitializer가 SRID 4326 지정 및 공간 인덱스(idx_places_location) 생성을 담당
     @Column(name = "location", nullable = false)
     private Point location;
 
+    @Column(name = "geohash", length = 12)
+    private String geohash; // location의 지오해시 (저장 시 자동 계산, DB 종류와 무관한 근처 장소 조회용)
+
     @Column(name = "summery", length = 1000)
     private String summery;
 
@@ -68,6 +79,22 @@ public class Place extends BaseEntity {
     @Column(name = "data_source")
     private DataSource dataSource; // 데이터 출처 (GBGS > GOOGLE > CSV)
 
+    // 좋아요 토글 시 벌크 UPDATE(+1/-1)와 재계산 쿼리로만 갱신
+    // 엔티티 저장 시 읽어 온 시점의 값으로 덮어써지지 않도록 updatable = false
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long likeCount = 0L; // 좋아요 수 (place_likes의 enabled 행 수)
+
+    // 저장/수정 직전에 location 기준으로 지오해시 갱신
+    @PrePersist
+    @PreUpdate
+    public void refreshGeohash() {
+        this.geohash = location != null
+                ? GeoHash.encode(location.getY(), location.getX(), GeoHash.STORED_PRECISION)
+                : null;
+    }
+
     // 위도, 경도 추출 헬퍼 메서드
     public Double getLatitude() {
         return location != null ? location.getY() : null;
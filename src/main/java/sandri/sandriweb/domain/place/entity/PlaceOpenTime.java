@@ -3,6 +3,7 @@ package sandri.sandriweb.domain.place.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import sandri.sandriweb.domain.place.index.PlaceOpenTimeChangeListener;
 import sandri.sandriweb.global.entity.BaseEntity;
 
 import java.time.DayOfWeek;
@@ -14,6 +15,7 @@ import java.time.LocalTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Table(name = "place_open_times")
+@EntityListeners(PlaceOpenTimeChangeListener.class)
 public class PlaceOpenTime extends BaseEntity {
 
     @Id
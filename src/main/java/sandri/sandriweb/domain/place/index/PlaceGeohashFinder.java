@@ -0,0 +1,115 @@
+package sandri.sandriweb.domain.place.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sandri.sandriweb.domain.place.entity.Place;
+import sandri.sandriweb.domain.place.repository.PlaceRepository;
+import sandri.sandriweb.global.util.GeoHash;
+import sandri.sandriweb.global.util.GeoUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 근처 장소 DB 조회
+ * MySQL 공간 인덱스가 준비되어 있으면 반경을 감싸는 사각형(MBRContains)으로, 아니면 지오해시 셀 접두어로
+ * 후보를 가져온 뒤 Java에서 Haversine 거리로 정확히 거름
+ * 후보 조회 방식만 다르고 거리 계산은 같으므로 MySQL과 H2 등 다른 DB에서 같은 결과를 반환
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceGeohashFinder {
+
+    // kNN 조회 시 시작 반경 (미터) 및 최대 반경 (지구 반둘레)
+    private static final double INITIAL_SEARCH_RADIUS = 1000.0;
+    private static final double MAX_SEARCH_RADIUS = Math.PI * GeoUtils.EARTH_RADIUS_METERS;
+
+    private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private final PlaceRepository placeRepository;
+    private final PlaceLocationIndexInitializer placeLocationIndexInitializer;
+
+    /**
+     * 애플리케이션 시작 시 지오해시가 없는 기존 장소 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillGeohash() {
+        try {
+            List<Place> places = placeRepository.findAllWithoutGeohash();
+            for (Place place : places) {
+                placeRepository.updateGeohash(place.getId(),
+                        GeoHash.encode(place.getLatitude(), place.getLongitude(), GeoHash.STORED_PRECISION));
+            }
+            if (!places.isEmpty()) {
+                log.info("장소 지오해시 보정 완료: {}개", places.size());
+            }
+        } catch (Exception e) {
+            log.error("장소 지오해시 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 반경 내 enabled된 장소 조회 (가까운 순)
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radius 반경 (미터)
+     * @param filter 추가 조건 (기준 장소 제외, 대분류 등)
+     * @return 반경 내 장소 목록 (가까운 순)
+     */
+    public List<Place> findWithinRadius(double latitude, double longitude, double radius, Predicate<Place> filter) {
+        return findCandidates(latitude, longitude, radius).stream()
+                .filter(place -> place.getLocation() != null)
+                .filter(filter)
+                .filter(place -> distance(latitude, longitude, place) <= radius)
+                .sorted(Comparator.comparingDouble((Place place) -> distance(latitude, longitude, place))
+                        .thenComparing(Place::getId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 가까운 순으로 k개 조회 (반경 제한 없음)
+     * 반경을 넓혀 가며 k개 이상 찾을 때까지 셀 조회를 반복
+     */
+    public List<Place> findNearest(double latitude, double longitude, int k, Predicate<Place> filter) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        double radius = INITIAL_SEARCH_RADIUS;
+        while (true) {
+            List<Place> found = findWithinRadius(latitude, longitude, radius, filter);
+            if (found.size() >= k || radius >= MAX_SEARCH_RADIUS) {
+                return found.size() > k ? found.subList(0, k) : found;
+            }
+            radius = Math.min(radius * 4, MAX_SEARCH_RADIUS);
+        }
+    }
+
+    /**
+     * 반경을 덮는 후보 장소 조회
+     * MySQL 공간 인덱스(idx_places_location)가 준비되어 있으면 사각형 영역 조회, 그 외 DB는 지오해시 셀 조회
+     */
+    private List<Place> findCandidates(double latitude, double longitude, double radius) {
+        if (placeLocationIndexInitializer.isReady()) {
+            return placeRepository.findEnabledWithinEnvelope(GeoUtils.boundingBox(
+                    geometryFactory.createPoint(new Coordinate(longitude, latitude)), radius));
+        }
+        return placeRepository.findEnabledByGeohashCells(GeoHash.coveringCells(latitude, longitude, radius));
+    }
+
+    private double distance(double latitude, double longitude, Place place) {
+        return GeoUtils.haversineMeters(latitude, longitude, place.getLatitude(), place.getLongitude());
+    }
+}
@@ -0,0 +1,87 @@
+package sandri.sandriweb.domain.place.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * places.location 공간 인덱스 생성
+ * JPA @Index로는 SPATIAL INDEX를 선언할 수 없고, ddl-auto(update)는 기존 컬럼의 SRID를 바꾸지 않으므로
+ * 애플리케이션 시작 시 MySQL 메타데이터를 확인하여 없을 때만 생성 (MySQL이 아니면 건너뜀)
+ * 인덱스가 준비되면 PlaceGeohashFinder의 반경 조회가 지오해시 셀 대신 MBRContains로 이 인덱스를 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceLocationIndexInitializer {
+
+    private static final String INDEX_NAME = "idx_places_location";
+    private static final int SRID = 4326;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void createSpatialIndexIfMissing() {
+        try {
+            String databaseName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(databaseName)) {
+                log.info("MySQL이 아니므로 장소 위치 공간 인덱스를 사용하지 않음: database={}", databaseName);
+                return;
+            }
+
+            ensureLocationSrid();
+            ensureSpatialIndex();
+            ready = true;
+        } catch (Exception e) {
+            // 인덱스가 없으면 반경 조회는 지오해시 셀 조회로 처리되므로 시작은 계속 진행
+            log.error("장소 위치 공간 인덱스 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 공간 인덱스 사용 가능 여부 (MySQL이고 SRID 지정 및 인덱스 생성이 끝난 경우)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 공간 인덱스는 SRID가 지정된 NOT NULL 컬럼에만 생성 가능
+     */
+    private void ensureLocationSrid() {
+        Long srid = jdbcTemplate.query(
+                "SELECT SRS_ID FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'places' AND COLUMN_NAME = 'location'",
+                rs -> rs.next() ? rs.getObject(1, Long.class) : null);
+
+        if (srid != null && srid == SRID) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE places MODIFY COLUMN location POINT NOT NULL SRID " + SRID);
+        log.info("places.location 컬럼 SRID 지정 완료: srid={}", SRID);
+    }
+
+    private void ensureSpatialIndex() {
+        Integer indexCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'places' AND INDEX_NAME = ?",
+                Integer.class, INDEX_NAME);
+
+        if (indexCount != null && indexCount > 0) {
+            return;
+        }
+
+        jdbcTemplate.execute("CREATE SPATIAL INDEX " + INDEX_NAME + " ON places (location)");
+        log.info("장소 위치 공간 인덱스 생성 완료: {}", INDEX_NAME);
+    }
+}
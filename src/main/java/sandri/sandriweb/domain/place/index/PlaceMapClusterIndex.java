@@ -0,0 +1,168 @@
+package sandri.sandriweb.domain.place.index;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지도 줌 레벨별 격자 클러스터 (장소 수 + 중심점)
+ *
+ * 줌 레벨 z의 격자 한 칸은 경위도 360 / (2^z * CELLS_PER_TILE)도 크기이며 (타일 한 장을 4x4칸으로 나눈 크기),
+ * 칸마다 장소 수와 위경도 합계를 미리 누적해 두므로 조회 시에는 화면 범위의 칸만 읽으면 된다.
+ * 장소 추가/이동/삭제 시 모든 줌 레벨의 해당 칸만 증감한다. (PlaceSpatialIndex 변경 시점에 함께 반영)
+ */
+@Component
+@Slf4j
+public class PlaceMapClusterIndex {
+
+    // 클러스터를 미리 계산하는 최대 줌 레벨 (이보다 확대하면 개별 핀으로 반환)
+    public static final int MAX_CLUSTER_ZOOM = 14;
+    private static final int CELLS_PER_TILE = 4;
+
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Cluster>[] clustersByZoom = new Map[MAX_CLUSTER_ZOOM + 1];
+    // 장소별 마지막 반영 위치 (이동/삭제 시 이전 칸에서 빼기 위함)
+    private final Map<Long, double[]> positions = new ConcurrentHashMap<>();
+
+    public PlaceMapClusterIndex() {
+        for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            clustersByZoom[zoom] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * 전체 재구성 (인덱스 최초 적재 시)
+     */
+    public synchronized void rebuild(Map<Long, PlaceSpatialIndex.IndexedPlace> places) {
+        for (Map<Long, Cluster> clusters : clustersByZoom) {
+            clusters.clear();
+        }
+        positions.clear();
+        places.values().forEach(this::upsert);
+        log.info("지도 클러스터 재구성 완료: {}개 장소, 줌 0~{}", positions.size(), MAX_CLUSTER_ZOOM);
+    }
+
+    /**
+     * 장소 추가 또는 위치 변경 반영
+     */
+    public synchronized void upsert(PlaceSpatialIndex.IndexedPlace place) {
+        double[] previous = positions.put(place.getId(), new double[]{place.getLatitude(), place.getLongitude()});
+        if (previous != null) {
+            if (previous[0] == place.getLatitude() && previous[1] == place.getLongitude()) {
+                return;
+            }
+            apply(previous[0], previous[1], -1);
+        }
+        apply(place.getLatitude(), place.getLongitude(), 1);
+    }
+
+    /**
+     * 장소 제거 반영
+     */
+    public synchronized void remove(Long placeId) {
+        double[] previous = positions.remove(placeId);
+        if (previous != null) {
+            apply(previous[0], previous[1], -1);
+        }
+    }
+
+    /**
+     * 화면 범위 안의 클러스터 조회
+     * 범위 안의 칸 수가 전체 클러스터 수보다 많으면 (축소된 화면) 클러스터 전체를 훑어 거름
+     */
+    public List<Cluster> findClusters(int zoom, double minLat, double minLng, double maxLat, double maxLng) {
+        int level = Math.max(0, Math.min(zoom, MAX_CLUSTER_ZOOM));
+        Map<Long, Cluster> clusters = clustersByZoom[level];
+        double cellSize = cellSize(level);
+
+        long minRow = row(minLat, cellSize);
+        long maxRow = row(maxLat, cellSize);
+        long minCol = col(minLng, cellSize);
+        long maxCol = col(maxLng, cellSize);
+
+        List<Cluster> result = new ArrayList<>();
+        long cellCount = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (cellCount > clusters.size()) {
+            for (Map.Entry<Long, Cluster> entry : clusters.entrySet()) {
+                long cellRow = entry.getKey() >> 32;
+                long cellCol = entry.getKey() & 0xFFFFFFFFL;
+                if (cellRow >= minRow && cellRow <= maxRow && cellCol >= minCol && cellCol <= maxCol) {
+                    result.add(entry.getValue());
+                }
+            }
+            return result;
+        }
+
+        for (long cellRow = minRow; cellRow <= maxRow; cellRow++) {
+            for (long cellCol = minCol; cellCol <= maxCol; cellCol++) {
+                Cluster cluster = clusters.get(key(cellRow, cellCol));
+                if (cluster != null) {
+                    result.add(cluster);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void apply(double latitude, double longitude, int delta) {
+        for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            double cellSize = cellSize(zoom);
+            long cellKey = key(row(latitude, cellSize), col(longitude, cellSize));
+            clustersByZoom[zoom].compute(cellKey, (k, cluster) -> {
+                Cluster updated = (cluster != null ? cluster : Cluster.EMPTY).plus(latitude, longitude, delta);
+                return updated.getCount() > 0 ? updated : null;
+            });
+        }
+    }
+
+    private static double cellSize(int zoom) {
+        return 360.0 / ((1L << zoom) * CELLS_PER_TILE);
+    }
+
+    private static long row(double latitude, double cellSize) {
+        return (long) Math.floor((Math.max(-90.0, Math.min(90.0, latitude)) + 90.0) / cellSize);
+    }
+
+    private static long col(double longitude, double cellSize) {
+        return (long) Math.floor((Math.max(-180.0, Math.min(180.0, longitude)) + 180.0) / cellSize);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) | col;
+    }
+
+    /**
+     * 격자 한 칸의 클러스터 (불변, 변경 시 새 객체로 교체)
+     */
+    @Getter
+    public static class Cluster {
+        private static final Cluster EMPTY = new Cluster(0, 0.0, 0.0);
+
+        private final int count;
+        private final double latitudeSum;
+        private final double longitudeSum;
+
+        private Cluster(int count, double latitudeSum, double longitudeSum) {
+            this.count = count;
+            this.latitudeSum = latitudeSum;
+            this.longitudeSum = longitudeSum;
+        }
+
+        private Cluster plus(double latitude, double longitude, int delta) {
+            return new Cluster(count + delta, latitudeSum + latitude * delta, longitudeSum + longitude * delta);
+        }
+
+        public double getCentroidLatitude() {
+            return latitudeSum / count;
+        }
+
+        public double getCentroidLongitude() {
+            return longitudeSum / count;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package sandri.sandriweb.domain.place.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import sandri.sandriweb.domain.place.entity.PlaceOpenTime;
+
+/**
+ * 영업시간 엔티티 변경 시 영업시간 인덱스 갱신 (JPA 엔티티 리스너)
+ * 리스너는 EntityManagerFactory 생성 시점에 만들어지므로 인덱스는 ObjectProvider로 지연 조회
+ */
+@RequiredArgsConstructor
+public class PlaceOpenTimeChangeListener {
+
+    private final ObjectProvider<PlaceOpeningHoursIndex> placeOpeningHoursIndex;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(PlaceOpenTime openTime) {
+        if (openTime.getPlace() == null) {
+            return;
+        }
+        placeOpeningHoursIndex.ifAvailable(index -> index.refresh(openTime.getPlace().getId()));
+    }
+}
@@ -0,0 +1,286 @@
+package sandri.sandriweb.domain.place.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sandri.sandriweb.domain.place.entity.PlaceOpenTime;
+import sandri.sandriweb.domain.place.repository.PlaceOpenTimeRepository;
+import sandri.sandriweb.global.util.TransactionUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 장소별 주간 영업시간 메모리 인덱스 ("지금 영업 중" / "특정 시각 영업 중" 필터용)
+ *
+ * place_open_times의 요일별 오픈/마감/휴게 시간을 주 단위 분(월요일 00:00 = 0 ~ 10080)의
+ * 정렬된 구간 배열로 펼쳐 두므로, 영업 여부 판단은 이진 탐색 한 번으로 끝난다.
+ * 영업시간 정보가 없는 장소는 영업 여부를 알 수 없으므로 필터 결과에서 제외한다.
+ * 첫 적재가 끝나기 전에는 요청 스레드에서 전체 적재를 기다리지 않고, 후보 장소의 영업시간만 DB에서 읽어 판단한다.
+ * 전체 재적재 중 개별 갱신된 장소는 재적재 결과로 덮어쓰지 않는다 (개별 갱신이 커밋 후 다시 읽은 값이므로).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceOpeningHoursIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private final PlaceOpenTimeRepository placeOpenTimeRepository;
+
+    private final Map<Long, WeeklyHours> hoursByPlaceId = new ConcurrentHashMap<>();
+    // 개별 갱신과 재적재 결과 교체를 직렬화하는 잠금
+    private final Object updateLock = new Object();
+    // 전체 재적재 중 개별 갱신된 장소 ID (재적재 중이 아니면 null, updateLock 아래에서만 접근)
+    private Set<Long> refreshedDuringReload;
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 영업시간 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 주기적으로 전체 재적재 (DB 직접 수정 등 엔티티를 거치지 않은 변경 보정)
+     */
+    @Scheduled(fixedDelayString = "${app.opening-hours.reload-minutes:60}",
+               initialDelayString = "${app.opening-hours.reload-minutes:60}",
+               timeUnit = TimeUnit.MINUTES)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void reload() {
+        synchronized (updateLock) {
+            refreshedDuringReload = new HashSet<>();
+        }
+
+        Map<Long, WeeklyHours> loaded = null;
+        try {
+            Map<Long, List<PlaceOpenTime>> openTimesByPlaceId = placeOpenTimeRepository.findAllEnabled().stream()
+                    .collect(Collectors.groupingBy(openTime -> openTime.getPlace().getId()));
+
+            loaded = new HashMap<>();
+            for (Map.Entry<Long, List<PlaceOpenTime>> entry : openTimesByPlaceId.entrySet()) {
+                loaded.put(entry.getKey(), WeeklyHours.from(entry.getValue()));
+            }
+        } catch (Exception e) {
+            loaded = null;
+            log.error("장소 영업시간 인덱스 적재 실패: {}", e.getMessage(), e);
+        } finally {
+            synchronized (updateLock) {
+                if (loaded != null) {
+                    Set<Long> skipped = refreshedDuringReload;
+                    Map<Long, WeeklyHours> reloaded = loaded;
+                    hoursByPlaceId.keySet().removeIf(placeId ->
+                            !reloaded.containsKey(placeId) && !skipped.contains(placeId));
+                    reloaded.forEach((placeId, hours) -> {
+                        if (!skipped.contains(placeId)) {
+                            hoursByPlaceId.put(placeId, hours);
+                        }
+                    });
+                }
+                refreshedDuringReload = null;
+            }
+        }
+
+        if (loaded != null) {
+            ready = true;
+            log.info("장소 영업시간 인덱스 적재 완료: {}개 장소", loaded.size());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 장소의 영업시간 변경 반영 (트랜잭션 커밋 후 DB에서 다시 읽어 갱신)
+     */
+    public void refresh(Long placeId) {
+        if (placeId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            List<PlaceOpenTime> openTimes = placeOpenTimeRepository.findEnabledByPlaceId(placeId);
+            WeeklyHours hours = openTimes.isEmpty() ? null : WeeklyHours.from(openTimes);
+            synchronized (updateLock) {
+                if (hours == null) {
+                    hoursByPlaceId.remove(placeId);
+                } else {
+                    hoursByPlaceId.put(placeId, hours);
+                }
+                if (refreshedDuringReload != null) {
+                    refreshedDuringReload.add(placeId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 특정 시각에 영업 중인지 판단하는 조건 (장소 ID 기준)
+     * 주 단위 분을 한 번만 계산하므로 여러 후보를 거를 때 재사용
+     * 인덱스 적재 전에는 장소별로 DB에서 영업시간을 읽어 판단 (반환된 조건 안에서 장소당 한 번만 조회)
+     * @param at 기준 시각
+     * @return 영업 중이면 true (영업시간 정보가 없으면 false)
+     */
+    public Predicate<Long> openAt(LocalDateTime at) {
+        int minuteOfWeek = minuteOfWeek(at);
+        if (!ready) {
+            Map<Long, Boolean> openByPlaceId = new HashMap<>();
+            return placeId -> placeId != null && openByPlaceId.computeIfAbsent(placeId, id -> {
+                List<PlaceOpenTime> openTimes = placeOpenTimeRepository.findEnabledByPlaceId(id);
+                return !openTimes.isEmpty() && WeeklyHours.from(openTimes).isOpenAt(minuteOfWeek);
+            });
+        }
+        return placeId -> {
+            WeeklyHours hours = placeId != null ? hoursByPlaceId.get(placeId) : null;
+            return hours != null && hours.isOpenAt(minuteOfWeek);
+        };
+    }
+
+    private static int minuteOfWeek(LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+                + dateTime.getHour() * 60
+                + dateTime.getMinute();
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * 한 장소의 주간 영업 구간 (겹치지 않는 [시작, 끝) 구간을 시작 순으로 정렬하여 보관)
+     * bounds = [start0, end0, start1, end1, ...]
+     */
+    static class WeeklyHours {
+
+        private final int[] bounds;
+
+        private WeeklyHours(int[] bounds) {
+            this.bounds = bounds;
+        }
+
+        boolean isOpenAt(int minuteOfWeek) {
+            // 시작 시각이 minuteOfWeek 이하인 마지막 구간을 이진 탐색
+            int low = 0;
+            int high = bounds.length / 2 - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (bounds[mid * 2] <= minuteOfWeek) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found >= 0 && minuteOfWeek < bounds[found * 2 + 1];
+        }
+
+        /**
+         * 요일별 영업시간을 주간 구간으로 변환
+         * - 오픈/마감 시간이 모두 없으면 24시간 영업
+         * - 마감 시간이 오픈 시간 이전이면 다음 날 새벽까지 영업 (일요일 → 월요일로 이어짐)
+         * - 휴게 시간은 영업 구간에서 제외
+         */
+        static WeeklyHours from(List<PlaceOpenTime> openTimes) {
+            List<int[]> intervals = new ArrayList<>();
+            for (PlaceOpenTime openTime : openTimes) {
+                if (!openTime.isOpen() || openTime.getDayOfWeek() == null) {
+                    continue;
+                }
+
+                int open = openTime.getOpenTime() != null ? minuteOfDay(openTime.getOpenTime()) : 0;
+                int close = openTime.getCloseTime() != null ? minuteOfDay(openTime.getCloseTime()) : MINUTES_PER_DAY;
+                if (close <= open) {
+                    close += MINUTES_PER_DAY;
+                }
+
+                int dayStart = (openTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY;
+                List<int[]> daily = new ArrayList<>();
+                daily.add(new int[]{open, close});
+
+                if (openTime.getBreakStartTime() != null && openTime.getBreakEndTime() != null) {
+                    int breakStart = minuteOfDay(openTime.getBreakStartTime());
+                    int breakEnd = minuteOfDay(openTime.getBreakEndTime());
+                    if (breakStart < open) {
+                        breakStart += MINUTES_PER_DAY;
+                        breakEnd += MINUTES_PER_DAY;
+                    }
+                    if (breakEnd <= breakStart) {
+                        breakEnd += MINUTES_PER_DAY;
+                    }
+                    daily = subtract(daily.get(0), breakStart, breakEnd);
+                }
+
+                for (int[] interval : daily) {
+                    addWrapped(intervals, dayStart + interval[0], dayStart + interval[1]);
+                }
+            }
+            return new WeeklyHours(merge(intervals));
+        }
+
+        private static List<int[]> subtract(int[] interval, int start, int end) {
+            List<int[]> result = new ArrayList<>(2);
+            if (end <= interval[0] || start >= interval[1]) {
+                result.add(interval);
+                return result;
+            }
+            if (start > interval[0]) {
+                result.add(new int[]{interval[0], start});
+            }
+            if (end < interval[1]) {
+                result.add(new int[]{end, interval[1]});
+            }
+            return result;
+        }
+
+        /**
+         * 주 경계(일요일 24:00)를 넘는 구간은 월요일 0시부터 이어지도록 나눔
+         */
+        private static void addWrapped(List<int[]> intervals, int start, int end) {
+            if (end <= MINUTES_PER_WEEK) {
+                intervals.add(new int[]{start, end});
+                return;
+            }
+            if (start < MINUTES_PER_WEEK) {
+                intervals.add(new int[]{start, MINUTES_PER_WEEK});
+            }
+            intervals.add(new int[]{Math.max(start - MINUTES_PER_WEEK, 0), end - MINUTES_PER_WEEK});
+        }
+
+        private static int[] merge(List<int[]> intervals) {
+            intervals.sort((a, b) -> Integer.compare(a[0], b[0]));
+            int[] bounds = new int[intervals.size() * 2];
+            int count = 0;
+            for (int[] interval : intervals) {
+                if (count > 0 && interval[0] <= bounds[count - 1]) {
+                    bounds[count - 1] = Math.max(bounds[count - 1], interval[1]);
+                } else {
+                    bounds[count++] = interval[0];
+                    bounds[count++] = interval[1];
+                }
+            }
+            return Arrays.copyOf(bounds, count);
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package sandri.sandriweb.domain.place.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sandri.sandriweb.domain.place.entity.Place;
+import sandri.sandriweb.domain.place.enums.Category;
+import sandri.sandriweb.domain.place.enums.PlaceCategory;
+import sandri.sandriweb.domain.place.repository.PlaceRepository;
+import sandri.sandriweb.global.util.TransactionUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 키워드 검색용 메모리 역색인 (이름/주소/요약의 2글자 단위 n-gram)
+ * LIKE '%keyword%' 전체 스캔 대신 사용
+ *
+ * - 공백을 제거하고 소문자로 맞춘 텍스트를 두 글자씩 잘라(bigram) 장소 슬롯 번호 목록에 추가한다.
+ * - 슬롯 번호는 증가하는 순서로만 발급되므로 각 목록은 항상 정렬되어 있고, 검색 시 가장 짧은 목록을 기준으로
+ *   나머지 목록에 이진 탐색하여 교집합을 구한다.
+ * - 장소 변경 시 새 슬롯을 발급하고 이전 슬롯은 비워두며, 비워진 슬롯은 주기적 전체 재적재 때 정리된다.
+ * - n-gram 교집합은 후보일 뿐이므로("가나"+"나다"는 "가나나다"에도 걸림) 정규화된 이름/주소/요약에
+ *   검색어가 연속으로 포함되는지 다시 확인한다.
+ * - 전체 재적재 중 커밋된 변경은 새 스냅샷에도 다시 적용한 뒤 교체하므로 재적재 도중의 변경이 사라지지 않는다.
+ * - 한 글자 검색어는 n-gram이 없으므로 이름/주소만 직접 비교한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceSearchIndex {
+
+    // 관련도 점수 (이름 일치를 가장 높게)
+    private static final int SCORE_NAME_EXACT = 100;
+    private static final int SCORE_NAME_PREFIX = 60;
+    private static final int SCORE_NAME_CONTAINS = 40;
+    private static final int SCORE_ADDRESS_CONTAINS = 10;
+    private static final int SCORE_SUMMARY_MATCH = 1;
+
+    private final PlaceRepository placeRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot = new Snapshot();
+    // 전체 재적재 중에 들어온 변경 (재적재 중이 아니면 null, 쓰기 잠금 아래에서만 접근)
+    private List<Consumer<Snapshot>> pendingChanges;
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 enabled된 장소 전체를 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 주기적으로 전체 재색인 (비워진 슬롯 정리 및 엔티티를 거치지 않은 변경 보정)
+     * DB를 읽는 동안 커밋된 변경은 모아 두었다가 새 스냅샷에 다시 적용한 뒤 교체
+     */
+    @Scheduled(fixedDelayString = "${app.place-search.reload-minutes:360}",
+               initialDelayString = "${app.place-search.reload-minutes:360}",
+               timeUnit = TimeUnit.MINUTES)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Snapshot rebuilt = null;
+        try {
+            rebuilt = new Snapshot();
+            for (Object[] row : placeRepository.findAllEnabledForSearchIndex()) {
+                rebuilt.put(new IndexedText(
+                        (Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                        (PlaceCategory) row[4], (Category) row[5]));
+            }
+        } catch (Exception e) {
+            rebuilt = null;
+            log.error("장소 검색 인덱스 적재 실패 (DB 검색으로 대체): {}", e.getMessage(), e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    // DB 조회 이후 커밋된 변경을 커밋 순서대로 다시 적용 (같은 값을 다시 넣는 것은 무시됨)
+                    for (Consumer<Snapshot> change : pendingChanges) {
+                        change.accept(rebuilt);
+                    }
+                    snapshot = rebuilt;
+                }
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        if (rebuilt != null) {
+            ready = true;
+            log.info("장소 검색 인덱스 적재 완료: {}개 장소, {}개 n-gram", rebuilt.size(), rebuilt.postings.size());
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (적재 전이면 DB 검색으로 대체해야 함)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 장소 생성/수정 반영 (트랜잭션 커밋 후 적용, disabled 되었으면 제거)
+     */
+    public void index(Place place) {
+        if (place == null || place.getId() == null) {
+            return;
+        }
+        Long placeId = place.getId();
+        if (!place.isEnabled()) {
+            remove(placeId);
+            return;
+        }
+        // 커밋 시점이 아닌 호출 시점의 값으로 스냅샷
+        IndexedText text = new IndexedText(placeId, place.getName(), place.getAddress(), place.getSummery(),
+                place.getGroup(), place.getCategory());
+        TransactionUtils.afterCommit(() -> apply(current -> current.put(text)));
+    }
+
+    /**
+     * 장소 제거 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void remove(Long placeId) {
+        if (placeId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> apply(current -> current.remove(placeId)));
+    }
+
+    /**
+     * 현재 스냅샷에 변경 적용 (재적재 중이면 새 스냅샷에 다시 적용할 수 있도록 함께 보관)
+     */
+    private void apply(Consumer<Snapshot> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(snapshot);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 (관련도 높은 순, 같으면 이름순)
+     * @param keyword 검색 키워드
+     * @param group 대분류 필터 (null이면 전체)
+     * @param category 세부 카테고리 필터 (null이면 전체)
+     * @return 조건에 맞는 장소 ID 전체 목록
+     */
+    public List<Long> search(String keyword, PlaceCategory group, Category category) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot;
+            if (query.length() == 1) {
+                for (Document document : current.documents) {
+                    if (document != null && document.accepts(group, category)) {
+                        int score = document.nameScore(query) + document.addressScore(query);
+                        if (score > 0) {
+                            matches.add(new Match(document, score));
+                        }
+                    }
+                }
+            } else {
+                for (int slot : current.intersect(bigrams(query))) {
+                    Document document = current.documents.get(slot);
+                    if (document != null && document.accepts(group, category)) {
+                        int score = document.nameScore(query) + document.addressScore(query);
+                        if (score > 0) {
+                            matches.add(new Match(document, score));
+                        } else if (document.summaryContains(query)) {
+                            matches.add(new Match(document, SCORE_SUMMARY_MATCH));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Match.BY_RELEVANCE);
+        return matches.stream()
+                .map(match -> match.document.placeId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 소문자 변환 + 공백 제거 ("동화사 입구"와 "동화사입구"를 같게 취급)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    private static Set<String> bigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인 전체 상태 (읽기/쓰기 잠금 아래에서만 접근)
+     */
+    private static class Snapshot {
+        private final Map<String, SlotList> postings = new HashMap<>();
+        private final List<Document> documents = new ArrayList<>();
+        private final Map<Long, Integer> slotByPlaceId = new HashMap<>();
+
+        int size() {
+            return slotByPlaceId.size();
+        }
+
+        void put(IndexedText text) {
+            Integer previousSlot = slotByPlaceId.get(text.placeId);
+            if (previousSlot != null) {
+                Document previous = documents.get(previousSlot);
+                if (previous != null && previous.sameAs(text)) {
+                    return;
+                }
+                documents.set(previousSlot, null);
+            }
+
+            int slot = documents.size();
+            Set<String> grams = new HashSet<>();
+            grams.addAll(bigrams(normalize(text.name)));
+            grams.addAll(bigrams(normalize(text.address)));
+            grams.addAll(bigrams(normalize(text.summary)));
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new SlotList()).add(slot);
+            }
+            documents.add(new Document(text));
+            slotByPlaceId.put(text.placeId, slot);
+        }
+
+        void remove(Long placeId) {
+            Integer slot = slotByPlaceId.remove(placeId);
+            if (slot != null) {
+                documents.set(slot, null);
+            }
+        }
+
+        /**
+         * 모든 n-gram을 포함하는 슬롯 목록 (가장 짧은 목록 기준으로 나머지에 이진 탐색)
+         */
+        List<Integer> intersect(Set<String> grams) {
+            List<SlotList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                SlotList list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            SlotList shortest = lists.get(0);
+            List<Integer> result = new ArrayList<>();
+            for (int i = 0; i < shortest.size; i++) {
+                int slot = shortest.slots[i];
+                boolean all = true;
+                for (int j = 1; j < lists.size() && all; j++) {
+                    all = lists.get(j).contains(slot);
+                }
+                if (all) {
+                    result.add(slot);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 오름차순으로만 추가되는 슬롯 번호 목록
+     */
+    private static class SlotList {
+        private int[] slots = new int[4];
+        private int size = 0;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+    }
+
+    /**
+     * 색인할 장소 텍스트 (엔티티와 분리된 값)
+     */
+    private static class IndexedText {
+        private final Long placeId;
+        private final String name;
+        private final String address;
+        private final String summary;
+        private final PlaceCategory group;
+        private final Category category;
+
+        IndexedText(Long placeId, String name, String address, String summary,
+                    PlaceCategory group, Category category) {
+            this.placeId = placeId;
+            this.name = name;
+            this.address = address;
+            this.summary = summary;
+            this.group = group;
+            this.category = category;
+        }
+    }
+
+    /**
+     * 슬롯에 저장되는 장소 정보 (점수 계산과 연속 일치 확인용 정규화 텍스트 보관)
+     */
+    private static class Document {
+        private final Long placeId;
+        private final String name;
+        private final String normalizedName;
+        private final String normalizedAddress;
+        private final String normalizedSummary;
+        private final PlaceCategory group;
+        private final Category category;
+
+        Document(IndexedText text) {
+            this.placeId = text.placeId;
+            this.name = text.name != null ? text.name : "";
+            this.normalizedName = normalize(text.name);
+            this.normalizedAddress = normalize(text.address);
+            this.normalizedSummary = normalize(text.summary);
+            this.group = text.group;
+            this.category = text.category;
+        }
+
+        boolean accepts(PlaceCategory groupFilter, Category categoryFilter) {
+            return (groupFilter == null || groupFilter == group)
+                    && (categoryFilter == null || categoryFilter == category);
+        }
+
+        int nameScore(String query) {
+            if (normalizedName.equals(query)) {
+                return SCORE_NAME_EXACT;
+            }
+            if (normalizedName.startsWith(query)) {
+                return SCORE_NAME_PREFIX;
+            }
+            return normalizedName.contains(query) ? SCORE_NAME_CONTAINS : 0;
+        }
+
+        int addressScore(String query) {
+            return normalizedAddress.contains(query) ? SCORE_ADDRESS_CONTAINS : 0;
+        }
+
+        boolean summaryContains(String query) {
+            return normalizedSummary.contains(query);
+        }
+
+        boolean sameAs(IndexedText text) {
+            return name.equals(text.name != null ? text.name : "")
+                    && normalizedAddress.equals(normalize(text.address))
+                    && normalizedSummary.equals(normalize(text.summary))
+                    && group == text.group
+                    && category == text.category;
+        }
+    }
+
+    private static class Match {
+        private static final Comparator<Match> BY_RELEVANCE = Comparator
+                .comparingInt((Match match) -> match.score).reversed()
+                .thenComparing(match -> match.document.name)
+                .thenComparing(match -> match.document.placeId);
+
+        private final Document document;
+        private final int score;
+
+        Match(Document document, int score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package sandri.sandriweb.domain.place.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import sandri.sandriweb.domain.place.entity.Place;
+
+/**
+ * 장소 엔티티 변경 시 검색 인덱스 갱신 (JPA 엔티티 리스너)
+ * 관리자 등록/수정, 데이터 임포트 등 모든 저장 경로가 같은 지점을 거치도록 엔티티에 등록
+ */
+@RequiredArgsConstructor
+public class PlaceSearchIndexListener {
+
+    private final ObjectProvider<PlaceSearchIndex> placeSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Place place) {
+        placeSearchIndex.ifAvailable(index -> index.index(place));
+    }
+
+    @PostRemove
+    public void onRemove(Place place) {
+        placeSearchIndex.ifAvailable(index -> index.remove(place.getId()));
+    }
+}
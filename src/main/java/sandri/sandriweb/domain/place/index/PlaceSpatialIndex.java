@@ -0,0 +1,311 @@
+package sandri.sandriweb.domain.place.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import sandri.sandriweb.domain.place.entity.Place;
+import sandri.sandriweb.domain.place.enums.Category;
+import sandri.sandriweb.domain.place.enums.PlaceCategory;
+import sandri.sandriweb.domain.place.repository.PlaceRepository;
+import sandri.sandriweb.global.util.GeoUtils;
+import sandri.sandriweb.global.util.TransactionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * enabled된 장소의 메모리 공간 인덱스 (JTS STRtree)
+ * 근처 장소 조회 시 DB의 ST_Distance_Sphere 전체 스캔 대신 사용
+ *
+ * STRtree는 한 번 build되면 insert가 불가능하므로, 변경 사항은 Map에 반영하고
+ * 다음 조회 시점에 트리를 다시 만든다. (장소 변경은 관리자/임포트 경로에서만 드물게 발생)
+ * 전체 적재는 새 Map을 만들어 교체하며, 적재 중 커밋된 변경은 교체 직전에 새 Map에 다시 적용한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceSpatialIndex {
+
+    // kNN 조회 시 시작 반경 (미터) 및 최대 반경 (지구 반둘레)
+    private static final double INITIAL_SEARCH_RADIUS = 1000.0;
+    private static final double MAX_SEARCH_RADIUS = Math.PI * GeoUtils.EARTH_RADIUS_METERS;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceMapClusterIndex placeMapClusterIndex;
+
+    private volatile Map<Long, IndexedPlace> places = new ConcurrentHashMap<>();
+    // 개별 변경과 적재 결과 교체(+ 클러스터 재구성)를 직렬화하는 잠금
+    private final Object changeLock = new Object();
+    // 적재 중 커밋된 변경 (적재 중이 아니면 null, changeLock 아래에서만 접근)
+    private List<Consumer<Map<Long, IndexedPlace>>> pendingChanges;
+    private final Object treeLock = new Object();
+    private volatile STRtree tree = new STRtree();
+    private volatile boolean dirty = true;
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 enabled된 장소 전체를 인덱스에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void load() {
+        synchronized (changeLock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        Map<Long, IndexedPlace> loaded = null;
+        try {
+            loaded = new ConcurrentHashMap<>();
+            for (Place place : placeRepository.findAllEnabledWithLocation()) {
+                loaded.put(place.getId(), IndexedPlace.from(place));
+            }
+        } catch (Exception e) {
+            loaded = null;
+            log.error("장소 공간 인덱스 적재 실패 (DB 조회로 대체): {}", e.getMessage(), e);
+        } finally {
+            synchronized (changeLock) {
+                if (loaded != null) {
+                    // DB를 읽는 동안 커밋된 변경을 새 Map에 다시 적용한 뒤 교체하고, 교체한 Map으로 클러스터 재구성
+                    for (Consumer<Map<Long, IndexedPlace>> change : pendingChanges) {
+                        change.accept(loaded);
+                    }
+                    places = loaded;
+                    placeMapClusterIndex.rebuild(loaded);
+                    dirty = true;
+                }
+                pendingChanges = null;
+            }
+        }
+
+        if (loaded != null) {
+            ready = true;
+            log.info("장소 공간 인덱스 적재 완료: {}개", loaded.size());
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (적재 전이면 DB 조회로 대체해야 함)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return places.size();
+    }
+
+    /**
+     * 장소 ID로 인덱스 항목 조회 (enabled + 위치 정보가 있는 장소만 존재)
+     */
+    public Optional<IndexedPlace> get(Long placeId) {
+        return Optional.ofNullable(places.get(placeId));
+    }
+
+    /**
+     * 장소 생성/수정 반영 (트랜잭션 커밋 후 적용)
+     * disabled 되었거나 위치 정보가 없으면 인덱스에서 제거
+     */
+    public void index(Place place) {
+        if (place == null || place.getId() == null) {
+            return;
+        }
+        Long placeId = place.getId();
+        if (!place.isEnabled() || place.getLocation() == null) {
+            TransactionUtils.afterCommit(() -> removeNow(placeId));
+            return;
+        }
+        // 커밋 시점이 아닌 호출 시점의 값으로 스냅샷
+        IndexedPlace snapshot = IndexedPlace.from(place);
+        TransactionUtils.afterCommit(() -> putNow(placeId, snapshot));
+    }
+
+    /**
+     * 장소 제거 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void remove(Long placeId) {
+        if (placeId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> removeNow(placeId));
+    }
+
+    /**
+     * 반경 내 장소 조회 (가까운 순)
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusMeters 반경 (미터)
+     * @param filter 추가 조건 (null이면 전체)
+     * @return 거리순으로 정렬된 장소 목록
+     */
+    public List<Neighbor> findWithinRadius(double latitude, double longitude, double radiusMeters,
+                                           Predicate<IndexedPlace> filter) {
+        Envelope envelope = GeoUtils.boundingEnvelope(latitude, longitude, radiusMeters);
+
+        List<Neighbor> result = new ArrayList<>();
+        for (Object item : currentTree().query(envelope)) {
+            IndexedPlace place = (IndexedPlace) item;
+            if (filter != null && !filter.test(place)) {
+                continue;
+            }
+            double distance = GeoUtils.haversineMeters(latitude, longitude, place.getLatitude(), place.getLongitude());
+            if (distance <= radiusMeters) {
+                result.add(new Neighbor(place, distance));
+            }
+        }
+        result.sort(Neighbor.BY_DISTANCE);
+        return result;
+    }
+
+    /**
+     * 사각형 범위(지도 화면) 안의 장소 조회
+     * @param limit 최대 개수 (초과분은 버림)
+     * @return 범위 안의 장소 목록 (순서 보장 없음)
+     */
+    public List<IndexedPlace> findWithinBounds(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        Envelope envelope = new Envelope(minLng, maxLng, minLat, maxLat);
+        List<IndexedPlace> result = new ArrayList<>();
+        for (Object item : currentTree().query(envelope)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add((IndexedPlace) item);
+        }
+        return result;
+    }
+
+    /**
+     * 가장 가까운 k개 장소 조회 (반경 제한 없음)
+     * 반경을 넓혀가며 후보가 k개 이상 모일 때까지 조회
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, int k, Predicate<IndexedPlace> filter) {
+        if (k <= 0) {
+            return List.of();
+        }
+        double radius = INITIAL_SEARCH_RADIUS;
+        while (true) {
+            List<Neighbor> candidates = findWithinRadius(latitude, longitude, radius, filter);
+            if (candidates.size() >= k || radius >= MAX_SEARCH_RADIUS) {
+                return candidates.size() > k ? new ArrayList<>(candidates.subList(0, k)) : candidates;
+            }
+            radius = Math.min(radius * 4, MAX_SEARCH_RADIUS);
+        }
+    }
+
+    private void putNow(Long placeId, IndexedPlace snapshot) {
+        synchronized (changeLock) {
+            places.put(placeId, snapshot);
+            placeMapClusterIndex.upsert(snapshot);
+            dirty = true;
+            recordPending(current -> current.put(placeId, snapshot));
+        }
+    }
+
+    private void removeNow(Long placeId) {
+        synchronized (changeLock) {
+            if (places.remove(placeId) != null) {
+                placeMapClusterIndex.remove(placeId);
+                dirty = true;
+            }
+            // 기존 Map에 없어도 적재 중인 새 Map에는 있을 수 있으므로 항상 기록
+            recordPending(current -> current.remove(placeId));
+        }
+    }
+
+    /**
+     * 적재 중이면 변경을 기록해 두었다가 새 Map에 다시 적용 (changeLock 아래에서 호출)
+     */
+    private void recordPending(Consumer<Map<Long, IndexedPlace>> change) {
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    private STRtree currentTree() {
+        if (!dirty) {
+            return tree;
+        }
+        synchronized (treeLock) {
+            if (dirty) {
+                // dirty를 먼저 내려야 재구축 중 들어온 변경이 유실되지 않음
+                dirty = false;
+                STRtree rebuilt = new STRtree();
+                for (IndexedPlace place : places.values()) {
+                    rebuilt.insert(new Envelope(place.getLongitude(), place.getLongitude(),
+                            place.getLatitude(), place.getLatitude()), place);
+                }
+                rebuilt.build();
+                tree = rebuilt;
+            }
+            return tree;
+        }
+    }
+
+    /**
+     * 인덱스에 저장되는 장소 스냅샷 (엔티티와 분리된 불변 객체)
+     */
+    @Getter
+    public static class IndexedPlace {
+        private final Long id;
+        private final String name;
+        private final double latitude;
+        private final double longitude;
+        private final PlaceCategory group;
+        private final Category category;
+        private final LocalDateTime createdAt;
+
+        private IndexedPlace(Long id, String name, double latitude, double longitude,
+                             PlaceCategory group, Category category, LocalDateTime createdAt) {
+            this.id = id;
+            this.name = name;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.group = group;
+            this.category = category;
+            this.createdAt = createdAt;
+        }
+
+        public static IndexedPlace from(Place place) {
+            return new IndexedPlace(
+                    place.getId(),
+                    place.getName(),
+                    place.getLatitude(),
+                    place.getLongitude(),
+                    place.getGroup(),
+                    place.getCategory(),
+                    place.getCreatedAt()
+            );
+        }
+    }
+
+    /**
+     * 조회 결과 (장소 + 중심점으로부터의 거리)
+     */
+    @Getter
+    public static class Neighbor {
+        public static final Comparator<Neighbor> BY_DISTANCE = Comparator
+                .comparingDouble(Neighbor::getDistanceInMeters)
+                .thenComparing(neighbor -> neighbor.getPlace().getName(),
+                        Comparator.nullsLast(Comparator.naturalOrder()));
+
+        private final IndexedPlace place;
+        private final double distanceInMeters;
+
+        public Neighbor(IndexedPlace place, double distanceInMeters) {
+            this.place = place;
+            this.distanceInMeters = distanceInMeters;
+        }
+    }
+}
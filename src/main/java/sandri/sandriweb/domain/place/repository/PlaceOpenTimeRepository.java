@@ -0,0 +1,27 @@
+package sandri.sandriweb.domain.place.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import sandri.sandriweb.domain.place.entity.PlaceOpenTime;
+
+import java.util.List;
+
+@Repository
+public interface PlaceOpenTimeRepository extends JpaRepository<PlaceOpenTime, Long> {
+
+    /*
+     * enabled된 영업시간 전체 조회 (영업시간 인덱스 적재용)
+     */
+    @Query("SELECT ot FROM PlaceOpenTime ot WHERE ot.enabled = true")
+    List<PlaceOpenTime> findAllEnabled();
+
+    /*
+     * 장소별 enabled된 영업시간 조회 (영업시간 인덱스 갱신용)
+     * @param placeId 장소 ID
+     * @return 요일별 영업시간 목록
+     */
+    @Query("SELECT ot FROM PlaceOpenTime ot WHERE ot.place.id = :placeId AND ot.enabled = true")
+    List<PlaceOpenTime> findEnabledByPlaceId(@Param("placeId") Long placeId);
+}
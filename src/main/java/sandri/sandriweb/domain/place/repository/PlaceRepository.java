@@ -1,19 +1,22 @@
 package sandri.sandriweb.domain.place.repository;
 
-import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import sandri.sandriweb.domain.place.entity.Place;
 import sandri.sandriweb.domain.place.enums.Category;
 
 import java.util.List;
 
 @Repository
-public interface PlaceRepository extends JpaRepository<Place, Long> {
+public interface PlaceRepository extends JpaRepository<Place, Long>, JpaSpecificationExecutor<Place> {
 
     boolean existsByName(String name);
 
@@ -48,81 +51,95 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     @Query("SELECT p FROM Place p WHERE p.name IN :names AND p.enabled = true")
     List<Place> findByNameIn(@Param("names") java.util.Set<String> names);
 
-    // 근처 장소 조회 (반경 내)
-    // 참고: ST_Distance_Sphere는 MySQL/MariaDB용 함수입니다.
-    // PostgreSQL을 사용하는 경우 ST_Distance와 ST_Transform을 사용하거나,
-    // PostGIS의 ST_DistanceSphere 함수를 사용해야 합니다.
-    @Query(value = "SELECT p.* FROM places p " +
-            "WHERE ST_Distance_Sphere(p.location, :center) <= :radius " +
-            "AND p.place_id != :excludeId " +
-            "AND p.enabled = true " +
-            "ORDER BY ST_Distance_Sphere(p.location, :center) " +
-            "LIMIT :limit", nativeQuery = true)
-    List<Place> findNearbyPlaces(@Param("center") Point center, 
-                                  @Param("radius") double radius, 
-                                  @Param("excludeId") Long excludeId,
-                                  @Param("limit") int limit);
-    
-    // 근처 장소 조회 (반경 제한 없음, 가까운 순으로 정렬, 현재 장소 포함)
-    // 참고: ST_Distance_Sphere는 MySQL/MariaDB용 함수입니다.
-    @Query(value = "SELECT p.* FROM places p " +
-            "WHERE p.enabled = true " +
-            "AND p.location IS NOT NULL " +
-            "ORDER BY ST_Distance_Sphere(p.location, :center) ASC " +
-            "LIMIT :limit", nativeQuery = true)
-    List<Place> findNearestPlaces(@Param("center") Point center,
-                                   @Param("limit") int limit);
-    
-    // 카테고리별 근처 장소 조회 (반경 내) - group 기준 (관광지/맛집/카페)
-    @Query(value = "SELECT p.* FROM places p " +
-            "WHERE ST_Distance_Sphere(p.location, :center) <= :radius " +
-            "AND p.place_id != :excludeId " +
-            "AND p.enabled = true " +
-            "AND p.`group` = :categoryName " +
-            "ORDER BY ST_Distance_Sphere(p.location, :center) " +
-            "LIMIT :limit", nativeQuery = true)
-    List<Place> findNearbyPlacesByCategory(@Param("center") Point center,
-                                           @Param("radius") double radius,
-                                           @Param("excludeId") Long excludeId,
-                                           @Param("categoryName") String categoryName,
-                                           @Param("limit") int limit);
-    
-    // 대분류별 근처 장소 조회 (반경 내, 좋아요 많은 순) - group 기준 (관광지/맛집/카페)
+    /**
+     * 위치 정보가 있는 enabled된 장소 전체 조회 (메모리 공간 인덱스 적재용)
+     * @return 장소 목록
+     */
+    @Query("SELECT p FROM Place p WHERE p.enabled = true AND p.location IS NOT NULL")
+    List<Place> findAllEnabledWithLocation();
+
+    /**
+     * enabled된 장소의 검색 대상 텍스트 전체 조회 (메모리 검색 인덱스 적재용)
+     * @return [placeId, name, address, summery, group, category] 형태의 Object[] 리스트
+     */
+    @Query("SELECT p.id, p.name, p.address, p.summery, p.group, p.category FROM Place p WHERE p.enabled = true")
+    List<Object[]> findAllEnabledForSearchIndex();
+
+    /**
+     * enabled된 장소의 이름과 좋아요 수 전체 조회 (검색어 자동완성 인덱스 구성용)
+     * @return [placeId, name, likeCount] 형태의 Object[] 리스트
+     */
+    @Query("SELECT p.id, p.name, p.likeCount FROM Place p WHERE p.enabled = true")
+    List<Object[]> findAllEnabledNamesWithLikeCount();
+
+    /**
+     * 지오해시 접두어(셀)로 enabled된 장소 후보 조회 (DB 종류와 무관하게 동작)
+     * 셀마다 geohash LIKE 'cell%' 조건을 OR로 묶으므로 각 셀은 geohash 인덱스 범위 조회로 처리됨
+     * 정확한 거리 계산은 호출하는 쪽에서 Haversine으로 수행
+     * @param cells 지오해시 접두어 목록 (GeoHash.coveringCells 결과, 빈 문자열이면 전체)
+     * @return 후보 장소 목록
+     */
+    default List<Place> findEnabledByGeohashCells(List<String> cells) {
+        if (cells == null || cells.isEmpty()) {
+            return List.of();
+        }
+        return findAll(PlaceSpecifications.enabledInGeohashCells(cells));
+    }
+
+    /**
+     * 지오해시가 비어 있는 장소 조회 (컬럼 추가 전 데이터 보정용)
+     */
+    @Query("SELECT p FROM Place p WHERE p.geohash IS NULL AND p.location IS NOT NULL")
+    List<Place> findAllWithoutGeohash();
+
+    /**
+     * 지오해시만 갱신 (엔티티 수정 없이 보정할 때 사용)
+     * @param placeId 장소 ID
+     * @param geohash 지오해시
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Place p SET p.geohash = :geohash WHERE p.id = :placeId")
+    void updateGeohash(@Param("placeId") Long placeId, @Param("geohash") String geohash);
+
+    /**
+     * 사각형 영역(envelope) 안의 enabled된 장소 후보 조회 (MySQL 전용)
+     * 공간 인덱스(idx_places_location)로 처리되며, 정확한 거리 계산은 호출하는 쪽에서 Haversine으로 수행
+     * MySQL에서 인덱스가 준비되면(PlaceLocationIndexInitializer) PlaceGeohashFinder의 모든 반경 조회가 사용
+     * @param envelope 조회 영역 (GeoUtils.boundingBox, SRID 4326)
+     * @return 후보 장소 목록
+     */
     @Query(value = "SELECT p.* FROM places p " +
-            "LEFT JOIN (SELECT place_id, COUNT(*) as like_count " +
-            "           FROM place_likes " +
-            "           WHERE enabled = true " +
-            "           GROUP BY place_id) AS likes ON p.place_id = likes.place_id " +
-            "WHERE ST_Distance_Sphere(p.location, :center) <= :radius " +
-            "AND p.place_id != :excludeId " +
-            "AND p.enabled = true " +
-            "AND p.`group` = :groupName " +
-            "ORDER BY COALESCE(likes.like_count, 0) DESC, p.created_at DESC " +
-            "LIMIT :limit", nativeQuery = true)
-    List<Place> findNearbyPlacesByGroupOrderByLikeCount(@Param("center") Point center,
-                                                         @Param("radius") double radius,
-                                                         @Param("excludeId") Long excludeId,
-                                                         @Param("groupName") String groupName,
-                                                         @Param("limit") int limit);
+            "WHERE MBRContains(:envelope, p.location) " +
+            "AND p.enabled = true", nativeQuery = true)
+    List<Place> findEnabledWithinEnvelope(@Param("envelope") Polygon envelope);
 
     /**
      * 카테고리별 장소 조회 (좋아요 많은 순)
+     * idx_category_like_count 인덱스 범위 스캔으로 처리
      * @param categoryName 카테고리 이름 (자연_힐링, 역사_전통, 문화_체험, 식도락)
      * @param limit 조회할 개수
      * @return 좋아요 많은 순으로 정렬된 장소 리스트
      */
     @Query(value = "SELECT p.* FROM places p " +
-           "LEFT JOIN (SELECT place_id, COUNT(*) as like_count " +
-           "           FROM place_likes " +
-           "           WHERE enabled = true " +
-           "           GROUP BY place_id) AS likes ON p.place_id = likes.place_id " +
            "WHERE p.category = :categoryName " +
            "AND p.enabled = true " +
-           "ORDER BY COALESCE(likes.like_count, 0) DESC, p.created_at DESC, p.place_id DESC " +
+           "ORDER BY p.like_count DESC, p.created_at DESC, p.place_id DESC " +
            "LIMIT :limit", nativeQuery = true)
     List<Place> findByCategoryOrderByLikeCountDesc(@Param("categoryName") String categoryName,
                                                     @Param("limit") int limit);
 
+    /**
+     * 좋아요 많은 순 장소 조회 (좋아요 0개인 장소 포함, HOT 관광지 목록 보충용)
+     * @param limit 조회할 개수
+     * @return 좋아요 많은 순으로 정렬된 장소 리스트
+     */
+    @Query(value = "SELECT p.* FROM places p " +
+           "WHERE p.enabled = true " +
+           "ORDER BY p.like_count DESC, p.created_at DESC, p.place_id DESC " +
+           "LIMIT :limit", nativeQuery = true)
+    List<Place> findMostLiked(@Param("limit") int limit);
+
     /**
      * 카테고리별 장소 조회 (커서 기반 페이징, 좋아요 많은 순)
      * @param categoryName 카테고리 이름
@@ -133,16 +150,12 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
      * @return 좋아요 많은 순으로 정렬된 장소 리스트 (커서 이후)
      */
     @Query(value = "SELECT p.* FROM places p " +
-           "LEFT JOIN (SELECT place_id, COUNT(*) as like_count " +
-           "           FROM place_likes " +
-           "           WHERE enabled = true " +
-           "           GROUP BY place_id) AS likes ON p.place_id = likes.place_id " +
            "WHERE p.category = :categoryName " +
            "AND p.enabled = true " +
-           "AND (COALESCE(likes.like_count, 0) < :lastLikeCount " +
-           "     OR (COALESCE(likes.like_count, 0) = :lastLikeCount AND p.created_at < :lastCreatedAt) " +
-           "     OR (COALESCE(likes.like_count, 0) = :lastLikeCount AND p.created_at = :lastCreatedAt AND p.place_id < :lastPlaceId)) " +
-           "ORDER BY COALESCE(likes.like_count, 0) DESC, p.created_at DESC, p.place_id DESC " +
+           "AND (p.like_count < :lastLikeCount " +
+           "     OR (p.like_count = :lastLikeCount AND p.created_at < :lastCreatedAt) " +
+           "     OR (p.like_count = :lastLikeCount AND p.created_at = :lastCreatedAt AND p.place_id < :lastPlaceId)) " +
+           "ORDER BY p.like_count DESC, p.created_at DESC, p.place_id DESC " +
            "LIMIT :limit", nativeQuery = true)
     List<Place> findByCategoryOrderByLikeCountDescWithCursor(
             @Param("categoryName") String categoryName,
@@ -152,13 +165,49 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
             @Param("limit") int limit);
 
     /**
-     * 장소 ID로 좋아요 수 조회
+     * 여러 장소의 좋아요 수 조회 (PK 조회)
+     * @param placeIds 장소 ID 목록
+     * @return [placeId, likeCount] 형태의 Object[] 리스트
+     */
+    @Query("SELECT p.id, p.likeCount FROM Place p WHERE p.id IN :placeIds")
+    List<Object[]> findLikeCountsByIdIn(@Param("placeIds") List<Long> placeIds);
+
+    /**
+     * 좋아요 수 1 증가
+     * @param placeId 장소 ID
+     */
+    @Modifying
+    @Query("UPDATE Place p SET p.likeCount = p.likeCount + 1 WHERE p.id = :placeId")
+    void incrementLikeCount(@Param("placeId") Long placeId);
+
+    /**
+     * 좋아요 수 1 감소 (0 미만으로 내려가지 않음)
      * @param placeId 장소 ID
-     * @return 좋아요 수
      */
-    @Query(value = "SELECT COUNT(*) FROM place_likes " +
-           "WHERE place_id = :placeId AND enabled = true", nativeQuery = true)
-    long getLikeCountByPlaceId(@Param("placeId") Long placeId);
+    @Modifying
+    @Query("UPDATE Place p SET p.likeCount = p.likeCount - 1 WHERE p.id = :placeId AND p.likeCount > 0")
+    void decrementLikeCount(@Param("placeId") Long placeId);
+
+    /**
+     * 전체 장소의 좋아요 수 합계 (시작 시 초기값 채우기가 필요한지 판단용)
+     * @return like_count 합계
+     */
+    @Query("SELECT COALESCE(SUM(p.likeCount), 0) FROM Place p")
+    long sumLikeCounts();
+
+    /**
+     * place_likes 기준으로 전체 장소의 좋아요 수 재계산 (컬럼 추가 후 초기값 및 불일치 보정용)
+     * 값이 이미 맞는 행은 건드리지 않아 잠그는 행을 최소화
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE places p " +
+           "SET p.like_count = (SELECT COUNT(*) FROM place_likes pl " +
+           "                    WHERE pl.place_id = p.place_id AND pl.enabled = true) " +
+           "WHERE p.like_count <> (SELECT COUNT(*) FROM place_likes pl2 " +
+           "                       WHERE pl2.place_id = p.place_id AND pl2.enabled = true)", nativeQuery = true)
+    int recalculateLikeCounts();
 
     /**
      * 키워드로 장소 검색 (이름, 주소, 요약 정보에서 검색)
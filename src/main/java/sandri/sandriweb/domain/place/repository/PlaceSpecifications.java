@@ -0,0 +1,37 @@
+package sandri.sandriweb.domain.place.repository;
+
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import sandri.sandriweb.domain.place.entity.Place;
+
+import java.util.List;
+
+/**
+ * 장소 동적 조회 조건
+ */
+public final class PlaceSpecifications {
+
+    private PlaceSpecifications() {
+    }
+
+    /**
+     * 위치 정보가 있는 enabled된 장소 중 지오해시가 셀 접두어 중 하나로 시작하는 장소
+     * 셀 개수만큼 LIKE 'cell%' 조건을 OR로 묶으며, 빈 접두어가 있으면 지오해시 조건 없이 전체 조회
+     * @param cells 지오해시 접두어 목록 (1개 이상)
+     */
+    public static Specification<Place> enabledInGeohashCells(List<String> cells) {
+        return (root, query, cb) -> {
+            Predicate enabledWithLocation = cb.and(
+                    cb.isTrue(root.<Boolean>get("enabled")),
+                    cb.isNotNull(root.get("location")));
+            if (cells.stream().anyMatch(String::isEmpty)) {
+                return enabledWithLocation;
+            }
+
+            Predicate[] cellPredicates = cells.stream()
+                    .map(cell -> cb.like(root.<String>get("geohash"), cell + "%"))
+                    .toArray(Predicate[]::new);
+            return cb.and(enabledWithLocation, cb.or(cellPredicates));
+        };
+    }
+}
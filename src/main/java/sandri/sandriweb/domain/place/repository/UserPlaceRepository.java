@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sandri.sandriweb.domain.place.entity.mapping.UserPlace;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,19 +49,29 @@ public interface UserPlaceRepository extends JpaRepository<UserPlace, Long> {
     List<sandri.sandriweb.domain.place.entity.Place> findLikedPlacesByUserId(@Param("userId") Long userId);
 
     /**
-     * 최근 기간 가중치 기반 HOT 관광지 집계 (좋아요 0개인 장소도 포함)
+     * enabled된 좋아요의 장소 ID와 시각 목록 (인기 점수 최초 계산용)
+     * @return [placeId, updatedAt] 형태의 Object[] 리스트
      */
-    @Query(value = "SELECT p.id AS placeId, " +
-            "COALESCE(COUNT(up.id), 0) AS totalLikes, " +
-            "COALESCE(SUM(CASE WHEN up.updated_at >= DATE_SUB(NOW(), INTERVAL :recentDays DAY) THEN 1 ELSE 0 END), 0) AS recentLikes " +
-            "FROM places p " +
-            "LEFT JOIN place_likes up ON p.id = up.place_id AND up.enabled = true " +
-            "WHERE p.enabled = true " +
-            "GROUP BY p.id " +
-            "ORDER BY (COALESCE(COUNT(up.id), 0) + :alpha * COALESCE(SUM(CASE WHEN up.updated_at >= DATE_SUB(NOW(), INTERVAL :recentDays DAY) THEN 1 ELSE 0 END), 0)) DESC " +
-            "LIMIT :limit", nativeQuery = true)
-    List<Object[]> findHotPlaces(@Param("limit") int limit,
-                                 @Param("recentDays") int recentDays,
-                                 @Param("alpha") double alpha);
-}
+    @Query("SELECT up.place.id, up.updatedAt " +
+           "FROM UserPlace up " +
+           "WHERE up.enabled = true")
+    List<Object[]> findEnabledLikeTimes();
+
+    /**
+     * 여러 장소의 전체/최근 좋아요 수를 한 번에 조회
+     * @return [placeId, totalLikes, recentLikes] 형태의 Object[] 리스트
+     */
+    @Query("SELECT up.place.id, COUNT(up.id), " +
+           "SUM(CASE WHEN up.updatedAt >= :since THEN 1 ELSE 0 END) " +
+           "FROM UserPlace up " +
+           "WHERE up.place.id IN :placeIds " +
+           "AND up.enabled = true " +
+           "GROUP BY up.place.id")
+    List<Object[]> countTotalAndRecentLikesByPlaceIds(@Param("placeIds") List<Long> placeIds,
+                                                      @Param("since") LocalDateTime since);
 
+    /**
+     * enabled 상태의 좋아요가 하나라도 있는지 확인 (시작 시 좋아요 수 초기값 채우기 판단용)
+     */
+    boolean existsByEnabledTrue();
+}
@@ -7,34 +7,53 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import sandri.sandriweb.domain.admin.dto.CreatePlacePhotoRequestDto;
+import sandri.sandriweb.domain.favorite.enums.FavoriteType;
+import sandri.sandriweb.domain.place.cache.PlaceDetailCache;
+import sandri.sandriweb.domain.place.cache.PlaceThumbnailCache;
 import sandri.sandriweb.domain.place.dto.*;
 import sandri.sandriweb.domain.place.entity.Place;
 import sandri.sandriweb.domain.place.entity.PlacePhoto;
 import sandri.sandriweb.domain.place.enums.Category;
 import sandri.sandriweb.domain.place.enums.PlaceCategory;
 import sandri.sandriweb.domain.place.entity.mapping.UserPlace;
+import sandri.sandriweb.domain.place.index.PlaceGeohashFinder;
+import sandri.sandriweb.domain.place.index.PlaceMapClusterIndex;
+import sandri.sandriweb.domain.place.index.PlaceOpeningHoursIndex;
+import sandri.sandriweb.domain.place.index.PlaceSpatialIndex;
 import sandri.sandriweb.domain.place.repository.PlacePhotoRepository;
 import sandri.sandriweb.domain.place.repository.PlaceRepository;
 import sandri.sandriweb.domain.place.repository.UserPlaceRepository;
+import sandri.sandriweb.domain.place.util.PlaceCursor;
+import sandri.sandriweb.domain.review.dto.RatingStatsDto;
 import sandri.sandriweb.domain.review.service.ReviewService;
+import sandri.sandriweb.domain.trending.service.TrendingService;
 import sandri.sandriweb.domain.user.entity.User;
 import sandri.sandriweb.domain.user.repository.UserRepository;
 import sandri.sandriweb.global.service.GoogleGeocodingService;
 import sandri.sandriweb.global.service.GooglePlacesService;
 import sandri.sandriweb.global.service.S3Service;
 import sandri.sandriweb.global.service.dto.GeocodingResult;
+import sandri.sandriweb.global.service.dto.S3UploadResult;
+import sandri.sandriweb.global.util.GeoUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -51,18 +70,40 @@ public class PlaceService {
     private final GoogleGeocodingService googleGeocodingService;
     private final GooglePlacesService googlePlacesService;
     private final S3Service s3Service;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceGeohashFinder placeGeohashFinder;
+    private final PlaceThumbnailCache placeThumbnailCache;
+    private final PlaceDetailCache placeDetailCache;
+    private final TrendingService trendingService;
+    private final TransactionTemplate transactionTemplate;
+    private final PlaceOpeningHoursIndex placeOpeningHoursIndex;
+    private final PlaceMapClusterIndex placeMapClusterIndex;
     
     @Value("${google.maps.api-key}")
     private String googleMapsApiKey;
+
+    @Value("${app.maintenance.recalculate-like-counts-on-startup:false}")
+    private boolean recalculateLikeCountsOnStartup;
     
     private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
 
+    // 영업 중 필터 적용 시 카테고리 목록 배치 조회 크기 및 요청당 최대 조회 행 수
+    private static final int OPEN_FILTER_BATCH_SIZE = 100;
+    private static final int OPEN_FILTER_MAX_SCAN = 2000;
+    // 지도 조회 시 개별 장소 핀 최대 개수
+    private static final int MAP_MAX_PINS = 500;
+
     /*
      * 관광지 상세 정보 조회 (기본 정보만, 리뷰 제외)
+     * 장소 상세 캐시를 먼저 조회하고, 없으면 DB에서 조회하여 캐시에 저장
      * @param placeId 관광지 ID
      * @return PlaceDetailResponseDto (리뷰 정보 제외)
      */
     public PlaceDetailResponseDto getPlaceDetail(Long placeId) {
+        return placeDetailCache.get(placeId, this::loadPlaceDetail);
+    }
+
+    private PlaceDetailResponseDto loadPlaceDetail(Long placeId) {
         // 1. 관광지 기본 정보 조회
         Place place = placeRepository.findById(placeId)
                 .orElseThrow(() -> new RuntimeException("관광지를 찾을 수 없습니다."));
@@ -78,8 +119,8 @@ public class PlaceService {
                     .build());
         }
 
-        // 3. 평점 계산
-        Double averageRating = reviewService.getAverageRating(placeId);
+        // 3. 평점 통계 조회 (집계 테이블)
+        RatingStatsDto ratingStats = reviewService.getRatingStats(placeId);
 
         // 4. DTO 생성 및 반환 (리뷰 정보 및 근처 장소는 별도 API로 조회)
         return PlaceDetailResponseDto.builder()
@@ -88,7 +129,9 @@ public class PlaceService {
                 .address(place.getAddress())
                 .groupName(place.getGroup() != null ? place.getGroup().name() : null)
                 .categoryName(place.getCategory() != null ? place.getCategory().getDisplayName() : null)
-                .rating(averageRating)
+                .rating(ratingStats.getAverageRating())
+                .reviewCount(ratingStats.getReviewCount())
+                .ratingDistribution(ratingStats.getDistribution())
                 .latitude(place.getLatitude())
                 .longitude(place.getLongitude())
                 .summary(place.getSummery())
@@ -99,221 +142,299 @@ public class PlaceService {
 
     /**
      * Place ID로 근처 가볼만한 곳 조회 (대분류별, 좋아요 많은 순)
+     * 메모리 공간 인덱스로 반경 내 후보를 찾고, 인덱스 적재 전에는 DB 조회로 대체
      * @param placeId 기준 관광지 ID
      * @param groupName 대분류 이름 (관광지/맛집/카페)
      * @param limit 조회할 개수
+     * @param openAt 이 시각에 영업 중인 장소만 조회 (null이면 영업 여부 무관)
      * @return 근처 관광지 리스트 (좋아요 많은 순)
      */
-    public List<NearbyPlaceDto> getNearbyPlacesByGroup(Long placeId, String groupName, int limit) {
+    public List<NearbyPlaceDto> getNearbyPlacesByGroup(Long placeId, String groupName, int limit, LocalDateTime openAt) {
         // 1. 대분류 검증
+        PlaceCategory group;
         try {
-            PlaceCategory.valueOf(groupName);
+            group = PlaceCategory.valueOf(groupName);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("대분류는 '관광지', '맛집', '카페' 중 하나여야 합니다.");
         }
         
         // 2. 기준 장소 조회
-        Place place = placeRepository.findById(placeId)
-                .orElseThrow(() -> new RuntimeException("관광지를 찾을 수 없습니다."));
+        PlaceSpatialIndex.IndexedPlace center = resolveCenterPlace(placeId);
         
         // 3. 10km 반경 (미터 단위)
         double radius = 10000.0;
         
-        // 4. 대분류별 근처 장소 조회 (좋아요 많은 순)
-        List<Place> nearbyPlaces = placeRepository.findNearbyPlacesByGroupOrderByLikeCount(
-                place.getLocation(),
-                radius,
-                place.getId(),
-                groupName,
-                limit
-        );
+        // 4. 대분류별 근처 장소 조회 (좋아요 많은 순, 영업 중 필터 적용)
+        Predicate<Long> openFilter = openFilter(openAt);
+        List<PlaceSpatialIndex.Neighbor> nearbyPlaces = placeSpatialIndex.isReady()
+                ? findNearbyPlacesByGroupFromIndex(center, group, radius, limit, openFilter)
+                : findNearbyPlacesByGroupFromDatabase(center, group, radius, limit, openFilter);
         
         if (nearbyPlaces.isEmpty()) {
             return List.of();
         }
         
         // 5. 사진 조회 및 매핑 (공통 헬퍼 메서드 사용)
-        List<Long> nearbyPlaceIds = nearbyPlaces.stream()
-                .map(Place::getId)
-                .collect(Collectors.toList());
-        Map<Long, String> photoUrlByPlaceId = getPhotoUrlByPlaceIds(nearbyPlaceIds);
-        
-        // 6. 기준 장소의 위치
-        Point centerLocation = place.getLocation();
+        Map<Long, String> photoUrlByPlaceId = getPhotoUrlByPlaceIds(nearbyPlaces.stream()
+                .map(neighbor -> neighbor.getPlace().getId())
+                .collect(Collectors.toList()));
         
-        // 7. DTO 변환 (좋아요 순위 포함)
+        // 6. DTO 변환 (좋아요 순위 포함, 1부터 시작, 1이 가장 좋아요가 많음)
         return java.util.stream.IntStream.range(0, nearbyPlaces.size())
                 .mapToObj(index -> {
-                    Place nearbyPlace = nearbyPlaces.get(index);
-                    String thumbnailUrl = photoUrlByPlaceId.get(nearbyPlace.getId());
-                    Long distance = calculateDistanceInMeters(centerLocation, nearbyPlace.getLocation());
-                    
-                    // 좋아요 순위 (1부터 시작, 1이 가장 좋아요가 많음)
-                    int rank = index + 1;
-                    
+                    PlaceSpatialIndex.Neighbor neighbor = nearbyPlaces.get(index);
                     return NearbyPlaceDto.builder()
-                            .placeId(nearbyPlace.getId())
-                            .name(nearbyPlace.getName())
-                            .thumbnailUrl(thumbnailUrl)
-                            .distanceInMeters(distance)
-                            .rank(rank)
+                            .placeId(neighbor.getPlace().getId())
+                            .name(neighbor.getPlace().getName())
+                            .thumbnailUrl(photoUrlByPlaceId.get(neighbor.getPlace().getId()))
+                            .distanceInMeters(Math.round(neighbor.getDistanceInMeters()))
+                            .rank(index + 1)
                             .build();
                 })
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 메모리 인덱스에서 반경 내 같은 대분류 장소를 찾아 좋아요 많은 순으로 정렬
+     */
+    private List<PlaceSpatialIndex.Neighbor> findNearbyPlacesByGroupFromIndex(PlaceSpatialIndex.IndexedPlace center,
+                                                                              PlaceCategory group,
+                                                                              double radius,
+                                                                              int limit,
+                                                                              Predicate<Long> openFilter) {
+        List<PlaceSpatialIndex.Neighbor> candidates = placeSpatialIndex.findWithinRadius(
+                center.getLatitude(),
+                center.getLongitude(),
+                radius,
+                candidate -> !candidate.getId().equals(center.getId()) && candidate.getGroup() == group
+                        && openFilter.test(candidate.getId())
+        );
+        
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        
+        List<Long> candidateIds = candidates.stream()
+                .map(neighbor -> neighbor.getPlace().getId())
+                .collect(Collectors.toList());
+        Map<Long, Long> likeCountByPlaceId = placeRepository.findLikeCountsByIdIn(candidateIds).stream()
+                .collect(Collectors.toMap(
+                        row -> ((Number) row[0]).longValue(),
+                        row -> ((Number) row[1]).longValue()
+                ));
+        
+        // 좋아요 많은 순, 같으면 최신 등록 순 (DB 쿼리와 동일한 정렬 기준)
+        return candidates.stream()
+                .sorted(java.util.Comparator
+                        .comparing((PlaceSpatialIndex.Neighbor neighbor) ->
+                                likeCountByPlaceId.getOrDefault(neighbor.getPlace().getId(), 0L))
+                        .thenComparing(neighbor -> neighbor.getPlace().getCreatedAt(),
+                                java.util.Comparator.nullsFirst(java.util.Comparator.naturalOrder()))
+                        .thenComparing(neighbor -> neighbor.getPlace().getId())
+                        .reversed())
+                .limit(Math.max(limit, 0))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * DB에서 반경 내 같은 대분류 장소를 좋아요 많은 순으로 조회 (인덱스 적재 전 대체 경로)
+     * 지오해시 셀로 후보를 가져와 Java에서 거리/정렬 처리 (DB 종류와 무관)
+     */
+    private List<PlaceSpatialIndex.Neighbor> findNearbyPlacesByGroupFromDatabase(PlaceSpatialIndex.IndexedPlace center,
+                                                                                 PlaceCategory group,
+                                                                                 double radius,
+                                                                                 int limit,
+                                                                                 Predicate<Long> openFilter) {
+        List<Place> places = placeGeohashFinder.findWithinRadius(
+                center.getLatitude(),
+                center.getLongitude(),
+                radius,
+                place -> !place.getId().equals(center.getId()) && place.getGroup() == group
+                        && openFilter.test(place.getId())
+        );
+        return places.stream()
+                .sorted(java.util.Comparator
+                        .comparingLong(Place::getLikeCount)
+                        .thenComparing(Place::getCreatedAt,
+                                java.util.Comparator.nullsFirst(java.util.Comparator.naturalOrder()))
+                        .thenComparing(Place::getId)
+                        .reversed())
+                .limit(Math.max(limit, 0))
+                .map(place -> toNeighbor(center, place))
+                .collect(Collectors.toList());
+    }
     
     /**
      * Place ID로 근처 가볼만한 곳 조회 (카테고리 필터 없음, 반경 제한 없음)
      * 전체 Place 목록에서 현재 관광지와 위치상 가까운 순으로 조회 (현재 장소 포함)
+     * 메모리 공간 인덱스로 조회하며, 인덱스 적재 전에는 DB 조회로 대체
      * @param placeId 기준 관광지 ID
      * @param limit 조회할 개수
+     * @param openAt 이 시각에 영업 중인 장소만 조회 (null이면 영업 여부 무관, 현재 장소는 항상 포함)
      * @return 근처 관광지 리스트 (가까운 순으로 정렬, 현재 장소 포함, rank 포함)
      */
-    public List<NearbyPlaceDto> getNearbyPlaces(Long placeId, int limit) {
-        // 1. 기준 장소 조회
-        Place place = placeRepository.findById(placeId)
-                .orElseThrow(() -> new RuntimeException("관광지를 찾을 수 없습니다."));
-        
-        // 2. 위치 정보 확인
-        if (place.getLocation() == null) {
-            throw new RuntimeException("기준 장소의 위치 정보가 없습니다.");
-        }
-        
-        // 3. 근처 장소 조회 (반경 제한 없음, 가까운 순으로 정렬, 현재 장소 포함)
-        // limit + 1개 조회하여 현재 장소가 포함되어 있는지 확인
-        List<Place> nearbyPlaces = placeRepository.findNearestPlaces(
-                place.getLocation(),
-                limit + 1
-        );
+    public List<NearbyPlaceDto> getNearbyPlaces(Long placeId, int limit, LocalDateTime openAt) {
+        // 1. 기준 장소 조회 (위치 정보 필수)
+        PlaceSpatialIndex.IndexedPlace center = resolveCenterPlace(placeId);
         
-        if (nearbyPlaces.isEmpty()) {
+        if (limit <= 0) {
             return List.of();
         }
         
-        // 4. 현재 장소가 포함되어 있는지 확인하고, 없으면 추가
-        boolean containsCurrentPlace = nearbyPlaces.stream()
-                .anyMatch(p -> p.getId().equals(placeId));
-        
-        if (!containsCurrentPlace) {
-            // 현재 장소를 첫 번째로 추가 (거리 0이므로)
-            nearbyPlaces.add(0, place);
-            // limit 개수만큼만 유지
-            if (nearbyPlaces.size() > limit) {
-                nearbyPlaces = nearbyPlaces.subList(0, limit);
-            }
-        } else {
-            // 현재 장소가 포함되어 있으면 limit 개수만큼만 유지
-            if (nearbyPlaces.size() > limit) {
-                nearbyPlaces = nearbyPlaces.subList(0, limit);
-            }
-        }
-        
-        // 5. 사진 조회 및 매핑 (공통 헬퍼 메서드 사용)
-        List<Long> nearbyPlaceIds = nearbyPlaces.stream()
-                .map(Place::getId)
-                .collect(Collectors.toList());
-        Map<Long, String> photoUrlByPlaceId = getPhotoUrlByPlaceIds(nearbyPlaceIds);
+        // 2. 현재 장소를 제외한 가까운 장소 (limit - 1)개 조회
+        int othersLimit = limit - 1;
+        Predicate<Long> openFilter = openFilter(openAt);
+        List<PlaceSpatialIndex.Neighbor> others = placeSpatialIndex.isReady()
+                ? placeSpatialIndex.findNearest(center.getLatitude(), center.getLongitude(), othersLimit,
+                        candidate -> !candidate.getId().equals(placeId) && openFilter.test(candidate.getId()))
+                : findNearestPlacesFromDatabase(center, othersLimit, openFilter);
         
-        // 6. 기준 장소의 위치
-        Point centerLocation = place.getLocation();
+        // 3. 현재 장소를 첫 번째로 (거리 0, rank 0)
+        List<PlaceSpatialIndex.Neighbor> nearbyPlaces = new ArrayList<>(others.size() + 1);
+        nearbyPlaces.add(new PlaceSpatialIndex.Neighbor(center, 0.0));
+        nearbyPlaces.addAll(others);
         
-        // 7. DTO 변환 (rank 포함)
-        final Point finalCenterLocation = centerLocation;
-        final Long currentPlaceId = placeId;
+        // 4. 사진 조회 및 매핑 (공통 헬퍼 메서드 사용)
+        Map<Long, String> photoUrlByPlaceId = getPhotoUrlByPlaceIds(nearbyPlaces.stream()
+                .map(neighbor -> neighbor.getPlace().getId())
+                .collect(Collectors.toList()));
         
-        // Place ID와 DTO를 매핑하기 위한 Map 생성 (rank 계산용)
-        Map<String, Long> nameToPlaceIdMap = nearbyPlaces.stream()
-                .collect(Collectors.toMap(
-                        Place::getName,
-                        Place::getId,
-                        (existing, replacement) -> existing
-                ));
-        
-        List<NearbyPlaceDto> dtos = nearbyPlaces.stream()
-                .map(nearbyPlace -> {
-                    String thumbnailUrl = photoUrlByPlaceId.get(nearbyPlace.getId());
-                    Long distance = calculateDistanceInMeters(finalCenterLocation, nearbyPlace.getLocation());
-                    
+        // 5. DTO 변환 (현재 장소는 0, 나머지는 가까운 순으로 1부터 시작)
+        return java.util.stream.IntStream.range(0, nearbyPlaces.size())
+                .mapToObj(index -> {
+                    PlaceSpatialIndex.Neighbor neighbor = nearbyPlaces.get(index);
+                    PlaceSpatialIndex.IndexedPlace nearbyPlace = neighbor.getPlace();
                     return NearbyPlaceDto.builder()
                             .placeId(nearbyPlace.getId())
                             .name(nearbyPlace.getName())
-                            .thumbnailUrl(thumbnailUrl)
+                            .thumbnailUrl(photoUrlByPlaceId.get(nearbyPlace.getId()))
                             .latitude(nearbyPlace.getLatitude())
                             .longitude(nearbyPlace.getLongitude())
-                            .distanceInMeters(distance)
+                            .distanceInMeters(Math.round(neighbor.getDistanceInMeters()))
+                            .rank(index)
                             .build();
                 })
                 .collect(Collectors.toList());
-        
-        // 거리순으로 정렬 (거리가 같으면 이름순)
-        dtos.sort((a, b) -> {
-            // 위도/경도로 거리 계산하여 정렬
-            Long distanceA = calculateDistanceInMeters(
-                    finalCenterLocation,
-                    geometryFactory.createPoint(new org.locationtech.jts.geom.Coordinate(
-                            a.getLongitude() != null ? a.getLongitude() : 0,
-                            a.getLatitude() != null ? a.getLatitude() : 0
-                    ))
-            );
-            Long distanceB = calculateDistanceInMeters(
-                    finalCenterLocation,
-                    geometryFactory.createPoint(new org.locationtech.jts.geom.Coordinate(
-                            b.getLongitude() != null ? b.getLongitude() : 0,
-                            b.getLatitude() != null ? b.getLatitude() : 0
-                    ))
-            );
-            
-            int distanceCompare = Long.compare(
-                    distanceA != null ? distanceA : Long.MAX_VALUE,
-                    distanceB != null ? distanceB : Long.MAX_VALUE
-            );
-            if (distanceCompare != 0) {
-                return distanceCompare;
+    }
+
+    /**
+     * DB에서 가까운 장소 조회 (인덱스 적재 전 대체 경로, 현재 장소 제외)
+     */
+    private List<PlaceSpatialIndex.Neighbor> findNearestPlacesFromDatabase(PlaceSpatialIndex.IndexedPlace center,
+                                                                           int limit,
+                                                                           Predicate<Long> openFilter) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return placeGeohashFinder.findNearest(center.getLatitude(), center.getLongitude(), limit,
+                        place -> !place.getId().equals(center.getId()) && openFilter.test(place.getId())).stream()
+                .map(place -> toNeighbor(center, place))
+                .sorted(PlaceSpatialIndex.Neighbor.BY_DISTANCE)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 근처 장소 조회의 기준 장소 (메모리 인덱스 우선, 없으면 DB 조회)
+     */
+    private PlaceSpatialIndex.IndexedPlace resolveCenterPlace(Long placeId) {
+        return placeSpatialIndex.get(placeId).orElseGet(() -> {
+            Place place = placeRepository.findById(placeId)
+                    .orElseThrow(() -> new RuntimeException("관광지를 찾을 수 없습니다."));
+            if (place.getLocation() == null) {
+                throw new RuntimeException("기준 장소의 위치 정보가 없습니다.");
             }
-            return a.getName().compareTo(b.getName());
+            return PlaceSpatialIndex.IndexedPlace.from(place);
         });
-        
-        // rank 부여 (현재 장소는 0, 나머지는 1부터 시작)
-        // 현재 장소의 인덱스 찾기
-        int currentPlaceIndex = java.util.stream.IntStream.range(0, dtos.size())
-                .filter(index -> {
-                    NearbyPlaceDto d = dtos.get(index);
-                    Long pid = nameToPlaceIdMap.get(d.getName());
-                    return pid != null && pid.equals(currentPlaceId);
-                })
-                .findFirst()
-                .orElse(-1);
-        
-        return java.util.stream.IntStream.range(0, dtos.size())
-                .mapToObj(index -> {
-                    NearbyPlaceDto dto = dtos.get(index);
-                    // 현재 장소인지 확인 (placeId로 확인)
-                    Long dtoPlaceId = nameToPlaceIdMap.get(dto.getName());
-                    boolean isCurrentPlace = dtoPlaceId != null && dtoPlaceId.equals(currentPlaceId);
-                    
-                    // rank 계산: 현재 장소는 0, 나머지는 현재 장소를 제외한 순서로 1부터 시작
-                    int rank;
-                    if (isCurrentPlace) {
-                        rank = 0;
-                    } else if (index < currentPlaceIndex) {
-                        // 현재 장소보다 앞에 있으면: index + 1
-                        rank = index + 1;
-                    } else {
-                        // 현재 장소보다 뒤에 있으면: index (현재 장소를 제외)
-                        rank = index;
-                    }
-                    
-                    return NearbyPlaceDto.builder()
-                            .placeId(dto.getPlaceId())
-                            .name(dto.getName())
-                            .thumbnailUrl(dto.getThumbnailUrl())
-                            .latitude(dto.getLatitude())
-                            .longitude(dto.getLongitude())
-                            .distanceInMeters(dto.getDistanceInMeters())
-                            .rank(rank)
-                            .build();
-                })
+    }
+
+    private PlaceSpatialIndex.Neighbor toNeighbor(PlaceSpatialIndex.IndexedPlace center, Place place) {
+        PlaceSpatialIndex.IndexedPlace indexedPlace = PlaceSpatialIndex.IndexedPlace.from(place);
+        double distance = GeoUtils.haversineMeters(center.getLatitude(), center.getLongitude(),
+                indexedPlace.getLatitude(), indexedPlace.getLongitude());
+        return new PlaceSpatialIndex.Neighbor(indexedPlace, distance);
+    }
+
+    /**
+     * 지도 화면 범위 안의 장소 조회
+     * 줌 레벨이 낮으면 미리 계산된 격자 클러스터(장소 수 + 중심점)를, 높으면 개별 장소 핀을 반환
+     * @param bbox 화면 범위 "minLng,minLat,maxLng,maxLat"
+     * @param zoom 지도 줌 레벨 (0~21)
+     * @return 클러스터 또는 장소 핀 목록
+     */
+    public PlaceMapResponseDto getMapPlaces(String bbox, int zoom) {
+        double[] bounds = parseBoundingBox(bbox);
+        double minLng = bounds[0], minLat = bounds[1], maxLng = bounds[2], maxLat = bounds[3];
+
+        if (!placeSpatialIndex.isReady()) {
+            throw new RuntimeException("지도 정보를 준비하는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (zoom <= PlaceMapClusterIndex.MAX_CLUSTER_ZOOM) {
+            List<PlaceMapResponseDto.ClusterDto> clusters = placeMapClusterIndex
+                    .findClusters(zoom, minLat, minLng, maxLat, maxLng).stream()
+                    .map(cluster -> PlaceMapResponseDto.ClusterDto.builder()
+                            .latitude(cluster.getCentroidLatitude())
+                            .longitude(cluster.getCentroidLongitude())
+                            .count(cluster.getCount())
+                            .build())
+                    .collect(Collectors.toList());
+            return PlaceMapResponseDto.builder()
+                    .zoom(zoom)
+                    .clustered(true)
+                    .clusters(clusters)
+                    .build();
+        }
+
+        List<PlaceSpatialIndex.IndexedPlace> places = placeSpatialIndex.findWithinBounds(
+                minLat, minLng, maxLat, maxLng, MAP_MAX_PINS);
+        Map<Long, String> photoUrlByPlaceId = getPhotoUrlByPlaceIds(places.stream()
+                .map(PlaceSpatialIndex.IndexedPlace::getId)
+                .collect(Collectors.toList()));
+
+        List<PlaceMapResponseDto.PinDto> pins = places.stream()
+                .map(place -> PlaceMapResponseDto.PinDto.builder()
+                        .placeId(place.getId())
+                        .name(place.getName())
+                        .latitude(place.getLatitude())
+                        .longitude(place.getLongitude())
+                        .groupName(place.getGroup() != null ? place.getGroup().name() : null)
+                        .categoryName(place.getCategory() != null ? place.getCategory().getDisplayName() : null)
+                        .thumbnailUrl(photoUrlByPlaceId.get(place.getId()))
+                        .build())
                 .collect(Collectors.toList());
+        return PlaceMapResponseDto.builder()
+                .zoom(zoom)
+                .clustered(false)
+                .places(pins)
+                .build();
+    }
+
+    private double[] parseBoundingBox(String bbox) {
+        String[] parts = bbox != null ? bbox.split(",") : new String[0];
+        if (parts.length != 4) {
+            throw new RuntimeException("bbox는 'minLng,minLat,maxLng,maxLat' 형식이어야 합니다.");
+        }
+        double[] bounds = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                bounds[i] = Double.parseDouble(parts[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("bbox는 'minLng,minLat,maxLng,maxLat' 형식이어야 합니다.");
+        }
+        validateCoordinateRange(bounds[1], bounds[0]);
+        validateCoordinateRange(bounds[3], bounds[2]);
+        if (bounds[0] > bounds[2] || bounds[1] > bounds[3]) {
+            throw new RuntimeException("bbox의 최솟값이 최댓값보다 클 수 없습니다.");
+        }
+        return bounds;
+    }
+
+    /**
+     * 영업 중 필터 (openAt이 null이면 모든 장소 통과)
+     */
+    private Predicate<Long> openFilter(LocalDateTime openAt) {
+        return openAt != null ? placeOpeningHoursIndex.openAt(openAt) : placeId -> true;
     }
     
     /**
@@ -327,14 +448,8 @@ public class PlaceService {
             return new java.util.HashMap<>();
         }
         
-        // 배치 조회로 각 장소당 첫 번째 사진만 조회 (N+1 문제 방지)
-        List<Object[]> photoResults = placePhotoRepository.findFirstPhotoUrlByPlaceIdIn(placeIds);
-        
-        return photoResults.stream()
-                .collect(Collectors.toMap(
-                        result -> ((Number) result[0]).longValue(), // place_id
-                        result -> (String) result[1]  // photo_url
-                ));
+        // 캐시에 없는 장소만 배치 조회 (N+1 문제 방지)
+        return placeThumbnailCache.getAll(placeIds);
     }
     
     /**
@@ -354,78 +469,154 @@ public class PlaceService {
                 .collect(Collectors.toList());
     }
     
-    /*
-     * 두 지점 간의 거리 계산 (Haversine 공식, 미터 단위)
-     * @param point1 첫 번째 지점
-     * @param point2 두 번째 지점
-     * @return 거리 (미터)
-     */
-    private Long calculateDistanceInMeters(Point point1, Point point2) {
-        if (point1 == null || point2 == null) {
-            return null;
-        }
-        
-        double lat1 = point1.getY();
-        double lon1 = point1.getX();
-        double lat2 = point2.getY();
-        double lon2 = point2.getX();
-        
-        // 지구 반지름 (미터)
-        final double R = 6371000.0;
-        
-        // 위도, 경도를 라디안으로 변환
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        
-        // Haversine 공식
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        // 거리 계산 (미터)
-        double distance = R * c;
-        
-        return Math.round(distance);
-    }
-
     /**
      * 카테고리별 장소 조회 (좋아요 많은 순, 커서 기반 페이징)
      * @param categoryDisplayName 카테고리 표시 이름 ('자연/힐링', '역사/전통', '문화/체험', '식도락')
      * @param count 조회할 개수
      * @param lastPlaceId 마지막 장소 ID (더보기용, null이면 처음부터)
      * @param userId 사용자 ID (로그인한 경우에만 제공, null 가능)
+     * @param openAt 이 시각에 영업 중인 장소만 조회 (null이면 영업 여부 무관)
      * @return 카테고리별 장소 리스트
      */
     @Transactional(readOnly = true)
-    public List<SimplePlaceDto> getPlacesByCategory(String categoryDisplayName, int count, Long lastPlaceId, Long userId) {
+    public List<SimplePlaceDto> getPlacesByCategory(String categoryDisplayName, int count, Long lastPlaceId, Long userId,
+                                                    LocalDateTime openAt) {
+        return getPlacesByCategoryWithCursor(categoryDisplayName, count, null, lastPlaceId, userId, openAt).getPlaces();
+    }
+
+    /**
+     * 카테고리별 장소 조회 (좋아요 많은 순, 커서 토큰 기반 페이징)
+     * 커서 토큰에 정렬 키(좋아요 수, 생성 시간, 장소 ID)가 담겨 있으므로 keyset 쿼리 한 번으로 다음 페이지 조회
+     * @param categoryDisplayName 카테고리 표시 이름 ('자연/힐링', '역사/전통', '문화/체험', '식도락')
+     * @param count 조회할 개수
+     * @param cursor 이전 응답의 nextCursor (null이면 lastPlaceId 또는 처음부터)
+     * @param lastPlaceId 마지막 장소 ID (하위 호환용, cursor가 있으면 무시)
+     * @param userId 사용자 ID (로그인한 경우에만 제공, null 가능)
+     * @param openAt 이 시각에 영업 중인 장소만 조회 (null이면 영업 여부 무관)
+     * @return 카테고리별 장소 리스트와 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public PlaceListCursorResponseDto getPlacesByCategoryWithCursor(String categoryDisplayName, int count,
+                                                                    String cursor, Long lastPlaceId, Long userId,
+                                                                    LocalDateTime openAt) {
         // 카테고리 표시 이름을 enum으로 변환
         Category category = convertDisplayNameToCategory(categoryDisplayName);
         if (category == null) {
             throw new RuntimeException("유효하지 않은 카테고리입니다: " + categoryDisplayName);
         }
 
-        // 카테고리별 장소 조회 (좋아요 많은 순, 커서 기반 페이징)
+        PlaceCursor after = resolveCategoryCursor(cursor, lastPlaceId);
+        if (openAt != null) {
+            return getOpenPlacesByCategory(category, count, after, userId, openAt);
+        }
+
+        // count + 1개 조회하여 다음 페이지 여부 판단
+        List<Place> fetched = findCategoryPage(category, after, count + 1);
+
+        boolean hasNext = fetched.size() > count;
+        List<Place> places = hasNext ? fetched.subList(0, count) : fetched;
+
+        // 다음 커서 설정 (마지막 항목의 정렬 키를 그대로 담음)
+        String nextCursor = (hasNext && !places.isEmpty())
+                ? PlaceCursor.from(places.get(places.size() - 1)).encode()
+                : null;
+
+        return PlaceListCursorResponseDto.builder()
+                .places(toSimplePlaceDtos(places, userId))
+                .size(count)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 영업 중인 장소만 카테고리별로 조회
+     * 좋아요 순으로 배치 단위 keyset 조회를 이어 가며 메모리 영업시간 인덱스로 거름
+     * 한 번에 훑는 행 수를 제한하고, 제한에 걸리면 마지막으로 훑은 장소를 다음 커서로 반환
+     */
+    private PlaceListCursorResponseDto getOpenPlacesByCategory(Category category, int count, PlaceCursor after,
+                                                               Long userId, LocalDateTime openAt) {
+        Predicate<Long> openFilter = placeOpeningHoursIndex.openAt(openAt);
+        int batchSize = Math.max(count + 1, OPEN_FILTER_BATCH_SIZE);
+
+        List<Place> matched = new ArrayList<>();
+        PlaceCursor scanned = after;
+        int scannedCount = 0;
+        boolean exhausted = false;
+        while (matched.size() <= count && scannedCount < OPEN_FILTER_MAX_SCAN) {
+            List<Place> batch = findCategoryPage(category, scanned, batchSize);
+            for (Place place : batch) {
+                scanned = PlaceCursor.from(place);
+                scannedCount++;
+                if (openFilter.test(place.getId())) {
+                    matched.add(place);
+                    if (matched.size() > count) {
+                        break;
+                    }
+                }
+            }
+            if (batch.size() < batchSize) {
+                exhausted = true;
+                break;
+            }
+        }
+
+        boolean hasNext;
+        String nextCursor;
         List<Place> places;
-        if (lastPlaceId == null) {
-            // 첫 페이지 조회
-            places = placeRepository.findByCategoryOrderByLikeCountDesc(category.name(), count);
+        if (matched.size() > count) {
+            places = matched.subList(0, count);
+            hasNext = true;
+            nextCursor = places.isEmpty() ? null : PlaceCursor.from(places.get(places.size() - 1)).encode();
         } else {
-            // 커서 기반 페이징: 마지막 장소의 정보를 조회
-            Place lastPlace = placeRepository.findById(lastPlaceId)
-                    .orElseThrow(() -> new RuntimeException("마지막 장소를 찾을 수 없습니다."));
-            
-            long lastLikeCount = placeRepository.getLikeCountByPlaceId(lastPlaceId);
-            
-            places = placeRepository.findByCategoryOrderByLikeCountDescWithCursor(
-                    category.name(),
-                    lastLikeCount,
-                    lastPlace.getCreatedAt(),
-                    lastPlaceId,
-                    count
-            );
+            // 조회 한도에 걸려 끝까지 훑지 못한 경우 마지막으로 훑은 위치부터 이어서 조회
+            places = matched;
+            hasNext = !exhausted && scanned != null;
+            nextCursor = hasNext ? scanned.encode() : null;
+        }
+
+        return PlaceListCursorResponseDto.builder()
+                .places(toSimplePlaceDtos(places, userId))
+                .size(count)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private List<Place> findCategoryPage(Category category, PlaceCursor after, int limit) {
+        if (after == null) {
+            // 첫 페이지 조회
+            return placeRepository.findByCategoryOrderByLikeCountDesc(category.name(), limit);
+        }
+        return placeRepository.findByCategoryOrderByLikeCountDescWithCursor(
+                category.name(),
+                after.getLikeCount(),
+                after.getCreatedAt(),
+                after.getPlaceId(),
+                limit
+        );
+    }
+
+    /**
+     * 커서 토큰 또는 마지막 장소 ID를 커서로 변환
+     * lastPlaceId만 전달된 경우(하위 호환)에는 해당 장소의 현재 정렬 키를 조회
+     */
+    private PlaceCursor resolveCategoryCursor(String cursor, Long lastPlaceId) {
+        if (StringUtils.hasText(cursor)) {
+            return PlaceCursor.decode(cursor);
+        }
+        if (lastPlaceId == null) {
+            return null;
         }
+        Place lastPlace = placeRepository.findById(lastPlaceId)
+                .orElseThrow(() -> new RuntimeException("마지막 장소를 찾을 수 없습니다."));
+        return PlaceCursor.from(lastPlace);
+    }
 
+    /**
+     * 장소 목록을 SimplePlaceDto로 변환 (대표 사진, 좋아요 여부 포함)
+     */
+    private List<SimplePlaceDto> toSimplePlaceDtos(List<Place> places, Long userId) {
         if (places.isEmpty()) {
             return List.of();
         }
@@ -509,6 +700,8 @@ public class PlaceService {
                 // 비활성화된 경우 재활성화
                 userPlace.enable();
                 userPlaceRepository.save(userPlace);
+                placeRepository.incrementLikeCount(placeId);
+                trendingService.recordLike(FavoriteType.PLACE, placeId);
                 log.info("장소 모아보기 재활성화: placeId={}, userId={}", placeId, userId);
                 return;
             }
@@ -523,6 +716,8 @@ public class PlaceService {
                 .enabled(true)  // 명시적으로 enabled 설정
                 .build();
         userPlaceRepository.save(newUserPlace);
+        placeRepository.incrementLikeCount(placeId);
+        trendingService.recordLike(FavoriteType.PLACE, placeId);
         log.info("장소 모아보기에 추가 완료: placeId={}, userId={}", placeId, userId);
     }
 
@@ -545,16 +740,21 @@ public class PlaceService {
         }
         
         // 기존 좋아요 조회
-        return userPlaceRepository.findByUserIdAndPlaceId(userId, placeId)
+        boolean liked = userPlaceRepository.findByUserIdAndPlaceId(userId, placeId)
                 .map(userPlace -> {
                     // 이미 좋아요가 있는 경우: 토글
                     if (userPlace.isEnabled()) {
+                        LocalDateTime likedAt = userPlace.getUpdatedAt();
                         userPlace.disable(); // 좋아요 취소
                         userPlaceRepository.save(userPlace);
+                        placeRepository.decrementLikeCount(placeId);
+                        trendingService.recordUnlike(FavoriteType.PLACE, placeId, likedAt);
                         return false;
                     } else {
                         userPlace.enable(); // 좋아요 재활성화
                         userPlaceRepository.save(userPlace);
+                        placeRepository.incrementLikeCount(placeId);
+                        trendingService.recordLike(FavoriteType.PLACE, placeId);
                         return true;
                     }
                 })
@@ -567,8 +767,45 @@ public class PlaceService {
                             .place(place)
                             .build();
                     userPlaceRepository.save(newUserPlace);
+                    placeRepository.incrementLikeCount(placeId);
+                    trendingService.recordLike(FavoriteType.PLACE, placeId);
                     return true;
                 });
+
+        return liked;
+    }
+
+    /**
+     * 애플리케이션 시작 시 좋아요 수 재계산
+     * like_count 컬럼이 막 추가되어 전부 0인데 좋아요가 있으면 자동으로 한 번 채우고,
+     * app.maintenance.recalculate-like-counts-on-startup=true이면 값과 관계없이 강제로 재계산
+     * (재계산 쿼리는 값이 다른 행만 갱신하므로 여러 인스턴스가 동시에 실행해도 결과는 같음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recalculateLikeCountsOnStartup() {
+        try {
+            if (recalculateLikeCountsOnStartup) {
+                recalculateLikeCounts();
+            } else if (placeRepository.sumLikeCounts() == 0 && userPlaceRepository.existsByEnabledTrue()) {
+                log.info("장소 좋아요 수가 비어 있어 초기값 채우기 실행");
+                recalculateLikeCounts();
+            }
+        } catch (Exception e) {
+            log.error("장소 좋아요 수 재계산 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * place_likes 기준으로 Place.likeCount 재계산
+     * (초기값 채우기 및 수동 데이터 변경으로 인한 불일치 보정, 관리자 API에서도 실행)
+     * @return 값이 달라져 갱신된 장소 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int recalculateLikeCounts() {
+        int updated = placeRepository.recalculateLikeCounts();
+        log.info("장소 좋아요 수 재계산 완료: {}개 장소", updated);
+        return updated;
     }
 
     /**
@@ -629,6 +866,7 @@ public class PlaceService {
                 .build();
 
         Place savedPlace = placeRepository.save(place);
+        placeSpatialIndex.index(savedPlace);
         log.info("Google Places 정보로 장소 생성 완료: placeId={}, name={}", savedPlace.getId(), trimmedName);
 
         // 사진이 있으면 PlacePhoto 추가
@@ -641,6 +879,7 @@ public class PlaceService {
                         .order(0)
                         .build();
                 placePhotoRepository.save(placePhoto);
+                placeThumbnailCache.evict(savedPlace.getId());
                 log.info("Google Places 사진 추가: placeId={}, photoUrl={}", savedPlace.getId(), photoUrl);
             }
         }
@@ -697,20 +936,57 @@ public class PlaceService {
 
     /**
      * 장소 생성 (관리자용)
+     * 사진은 DB 트랜잭션 밖에서 병렬로 먼저 업로드하고, 장소와 업로드에 성공한 사진만 한 트랜잭션으로 저장
      * @param request 장소 생성 요청 DTO
-     * @return 생성된 장소 ID
+     * @param photoFiles 대표 사진 파일 (null 가능)
+     * @return 생성된 장소 ID와 업로드에 실패한 사진 목록
      */
-    @Transactional
-    public Long createPlace(CreatePlaceRequestDto request, List<MultipartFile> photoFiles) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CreatePlaceResultDto createPlace(CreatePlaceRequestDto request, List<MultipartFile> photoFiles) {
         // 중복 검사
         if (placeRepository.existsByName(request.getName())) {
             throw new RuntimeException("이미 존재하는 장소 이름입니다: " + request.getName());
         }
 
         Coordinate coordinate = resolveCoordinate(request);
+        validateCoordinateRange(coordinate.getY(), coordinate.getX());
+
+        // 사진 업로드 (트랜잭션 밖, 파일별 결과)
+        List<S3UploadResult> uploadResults = uploadPhotos(photoFiles);
+        List<String> uploadedUrls = uploadResults.stream()
+                .filter(S3UploadResult::isSuccess)
+                .map(S3UploadResult::getUrl)
+                .collect(Collectors.toList());
+
+        Long placeId;
+        try {
+            placeId = transactionTemplate.execute(status -> savePlaceWithPhotos(request, coordinate, uploadedUrls));
+        } catch (RuntimeException e) {
+            // 장소가 저장되지 않았으므로 먼저 올린 사진은 어디에도 연결되지 않음
+            if (!uploadedUrls.isEmpty()) {
+                log.warn("장소 저장 실패로 업로드된 사진 삭제: name={}, urls={}", request.getName(), uploadedUrls);
+                s3Service.deleteFilesQuietly(uploadedUrls);
+            }
+            throw e;
+        }
+
+        List<S3UploadResult> failedUploads = uploadResults.stream()
+                .filter(result -> !result.isSuccess())
+                .collect(Collectors.toList());
+        if (!failedUploads.isEmpty()) {
+            log.warn("장소 사진 일부 업로드 실패: placeId={}, failedCount={}", placeId, failedUploads.size());
+        }
+
+        return CreatePlaceResultDto.builder()
+                .placeId(placeId)
+                .uploadedPhotoCount(uploadedUrls.size())
+                .failedUploads(failedUploads)
+                .build();
+    }
+
+    private Long savePlaceWithPhotos(CreatePlaceRequestDto request, Coordinate coordinate, List<String> photoUrls) {
         double latitude = coordinate.getY();
         double longitude = coordinate.getX();
-        validateCoordinateRange(latitude, longitude);
 
         String resolvedAddress = StringUtils.hasText(request.getAddress())
                 ? request.getAddress()
@@ -718,11 +994,13 @@ public class PlaceService {
 
         // 같은 location을 가진 enabled된 Place가 있으면 disable 처리 (거리 0m 이내)
         Point location = geometryFactory.createPoint(coordinate);
-        List<Place> nearbyPlaces = placeRepository.findNearbyPlaces(location, 0.0, -1L, 1);
+        List<Place> nearbyPlaces = placeGeohashFinder.findWithinRadius(latitude, longitude, 0.0, candidate -> true);
         if (!nearbyPlaces.isEmpty()) {
             Place existingPlace = nearbyPlaces.get(0);
             existingPlace.disable();
             placeRepository.save(existingPlace);
+            placeSpatialIndex.index(existingPlace);
+            placeDetailCache.evict(existingPlace.getId());
             log.info("같은 location을 가진 기존 장소 비활성화: placeId={}, name={}", 
                     existingPlace.getId(), existingPlace.getName());
         }
@@ -739,9 +1017,10 @@ public class PlaceService {
                 .build();
 
         Place savedPlace = placeRepository.save(place);
+        placeSpatialIndex.index(savedPlace);
         log.info("장소 생성 완료: placeId={}, name={}", savedPlace.getId(), savedPlace.getName());
 
-        attachUploadedPhotos(savedPlace, photoFiles);
+        attachUploadedPhotos(savedPlace, photoUrls);
 
         return savedPlace.getId();
     }
@@ -789,9 +1068,9 @@ public class PlaceService {
         }
     }
 
-    private void attachUploadedPhotos(Place place, List<MultipartFile> photoFiles) {
+    private List<S3UploadResult> uploadPhotos(List<MultipartFile> photoFiles) {
         if (CollectionUtils.isEmpty(photoFiles)) {
-            return;
+            return List.of();
         }
 
         List<MultipartFile> validFiles = photoFiles.stream()
@@ -800,10 +1079,13 @@ public class PlaceService {
                 .collect(Collectors.toList());
 
         if (validFiles.isEmpty()) {
-            return;
+            return List.of();
         }
 
-        List<String> uploadedUrls = s3Service.uploadFiles(validFiles);
+        return s3Service.uploadFilesWithResults(validFiles);
+    }
+
+    private void attachUploadedPhotos(Place place, List<String> uploadedUrls) {
         List<PlacePhoto> placePhotos = new ArrayList<>();
         for (int i = 0; i < uploadedUrls.size(); i++) {
             placePhotos.add(PlacePhoto.builder()
@@ -816,6 +1098,7 @@ public class PlaceService {
 
         if (!placePhotos.isEmpty()) {
             placePhotoRepository.saveAll(placePhotos);
+            placeThumbnailCache.evict(place.getId());
             log.info("장소 사진 업로드 완료: placeId={}, photoCount={}", place.getId(), placePhotos.size());
         }
     }
@@ -859,6 +1142,8 @@ public class PlaceService {
         );
 
         Place savedPlace = placeRepository.save(place);
+        placeSpatialIndex.index(savedPlace);
+        placeDetailCache.evict(placeId);
 
         // 사진 업데이트 (요청에 photos가 포함된 경우)
         if (request.getPhotos() != null && !request.getPhotos().isEmpty()) {
@@ -914,6 +1199,7 @@ public class PlaceService {
             // 변경사항 저장
             if (!photosToSave.isEmpty()) {
                 placePhotoRepository.saveAll(photosToSave);
+                placeThumbnailCache.evict(placeId);
             }
 
             log.info("장소 사진 업데이트 완료: placeId={}, processedCount={}", 
@@ -939,11 +1225,7 @@ public class PlaceService {
                 .map(Place::getId)
                 .collect(Collectors.toList());
 
-        Map<Long, String> thumbnailMap = placePhotoRepository.findFirstPhotoUrlByPlaceIdIn(placeIds).stream()
-                .collect(Collectors.toMap(
-                        result -> ((Number) result[0]).longValue(),
-                        result -> (String) result[1]
-                ));
+        Map<Long, String> thumbnailMap = placeThumbnailCache.getAll(placeIds);
 
         return likedPlaces.stream()
                 .map(place -> SimplePlaceDto.builder()
@@ -982,6 +1264,8 @@ public class PlaceService {
 
         // 일괄 저장
         List<PlacePhoto> savedPhotos = placePhotoRepository.saveAll(placePhotos);
+        placeDetailCache.evict(placeId);
+        placeThumbnailCache.evict(placeId);
         
         List<Long> photoIds = savedPhotos.stream()
                 .map(PlacePhoto::getId)
@@ -1013,61 +1297,79 @@ public class PlaceService {
     }
 
     private static final int HOT_RECENT_DAYS = 7;
-    private static final double HOT_ALPHA = 0.7;
 
     /**
-     * HOT 관광지 조회
+     * HOT 관광지 조회 (메모리 인기 점수 기준)
+     * 인기 점수가 있는 장소가 부족하거나 점수 적재 전이면 좋아요 많은 순(좋아요 0개 포함)으로 나머지를 채움
      */
     public List<HotPlaceDto> getHotPlaces(int limit) {
         int fetchSize = Math.min(Math.max(limit, 1), 20);
 
-        List<Object[]> ranking = userPlaceRepository.findHotPlaces(fetchSize, HOT_RECENT_DAYS, HOT_ALPHA);
-        if (ranking.isEmpty()) {
+        List<Place> places = new ArrayList<>(fetchSize);
+        if (trendingService.isReady()) {
+            // 비활성화된 장소를 건너뛸 수 있도록 여유 있게 조회
+            List<Long> rankedIds = trendingService.getTop(FavoriteType.PLACE, fetchSize * 2).stream()
+                    .map(TrendingService.TrendingItem::getTargetId)
+                    .collect(Collectors.toList());
+            Map<Long, Place> placeMap = placeRepository.findAllById(rankedIds).stream()
+                    .filter(Place::isEnabled)
+                    .collect(Collectors.toMap(Place::getId, place -> place));
+            rankedIds.stream()
+                    .map(placeMap::get)
+                    .filter(Objects::nonNull)
+                    .limit(fetchSize)
+                    .forEach(places::add);
+        } else {
+            log.warn("인기 점수 적재 전이라 좋아요 많은 순으로 HOT 관광지를 조회합니다");
+        }
+
+        if (places.size() < fetchSize) {
+            Set<Long> selectedIds = places.stream().map(Place::getId).collect(Collectors.toSet());
+            for (Place place : placeRepository.findMostLiked(fetchSize + selectedIds.size())) {
+                if (places.size() >= fetchSize) {
+                    break;
+                }
+                if (selectedIds.add(place.getId())) {
+                    places.add(place);
+                }
+            }
+        }
+
+        if (places.isEmpty()) {
             return List.of();
         }
 
-        List<Long> placeIds = ranking.stream()
-                .map(row -> ((Number) row[0]).longValue())
+        List<Long> placeIds = places.stream()
+                .map(Place::getId)
                 .collect(Collectors.toList());
 
-        Map<Long, Place> placeMap = placeRepository.findAllById(placeIds).stream()
-                .collect(Collectors.toMap(Place::getId, place -> place));
+        Map<Long, long[]> likeCounts = new HashMap<>();
+        for (Object[] row : userPlaceRepository.countTotalAndRecentLikesByPlaceIds(
+                placeIds, LocalDateTime.now().minusDays(HOT_RECENT_DAYS))) {
+            likeCounts.put(((Number) row[0]).longValue(), new long[]{
+                    row[1] != null ? ((Number) row[1]).longValue() : 0L,
+                    row[2] != null ? ((Number) row[2]).longValue() : 0L});
+        }
 
-        Map<Long, String> thumbnailMap = placePhotoRepository.findFirstPhotoUrlByPlaceIdIn(placeIds).stream()
-                .collect(Collectors.toMap(
-                        row -> ((Number) row[0]).longValue(),
-                        row -> (String) row[1]
-                ));
+        Map<Long, String> thumbnailMap = placeThumbnailCache.getAll(placeIds);
 
-        List<HotPlaceDto> hotPlaces = new ArrayList<>();
+        List<HotPlaceDto> hotPlaces = new ArrayList<>(places.size());
         int rank = 1;
-        for (Object[] row : ranking) {
-            Long placeId = ((Number) row[0]).longValue();
-            Place place = placeMap.get(placeId);
-            if (place == null) {
-                continue;
-            }
-
-            Long totalLikes = row[1] != null ? ((Number) row[1]).longValue() : 0L;
-            Long recentLikes = row[2] != null ? ((Number) row[2]).longValue() : 0L;
+        for (Place place : places) {
+            long[] counts = likeCounts.getOrDefault(place.getId(), new long[]{0L, 0L});
 
             hotPlaces.add(HotPlaceDto.builder()
                     .rank(rank++)
                     .placeId(place.getId())
                     .name(place.getName())
                     .address(place.getAddress())
-                    .thumbnailUrl(thumbnailMap.get(placeId))
+                    .thumbnailUrl(thumbnailMap.get(place.getId()))
                     .categoryName(place.getCategory() != null ? place.getCategory().getDisplayName() : null)
-                    .totalLikes(totalLikes)
-                    .recentLikes(recentLikes)
+                    .totalLikes(counts[0])
+                    .recentLikes(counts[1])
                     .build());
-
-            if (hotPlaces.size() >= limit) {
-                break;
-            }
         }
 
         return hotPlaces;
     }
 }
-
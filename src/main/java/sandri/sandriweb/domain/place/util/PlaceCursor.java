@@ -0,0 +1,48 @@
+package sandri.sandriweb.domain.place.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import sandri.sandriweb.domain.place.entity.Place;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 카테고리별 장소 목록 커서 (좋아요 수, 생성 시간, 장소 ID)
+ * 정렬 키를 그대로 담아 두므로 다음 페이지를 keyset 쿼리 한 번으로 조회할 수 있고,
+ * 페이지 사이에 좋아요 수가 바뀌어도 이전 페이지 기준으로 이어서 조회됨
+ * 클라이언트에는 URL-safe Base64로 인코딩한 불투명 문자열로 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class PlaceCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final long likeCount;
+    private final LocalDateTime createdAt;
+    private final Long placeId;
+
+    public static PlaceCursor from(Place place) {
+        return new PlaceCursor(place.getLikeCount(), place.getCreatedAt(), place.getId());
+    }
+
+    public String encode() {
+        String raw = likeCount + DELIMITER + createdAt + DELIMITER + placeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PlaceCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("커서 형식 오류");
+            }
+            return new PlaceCursor(Long.parseLong(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package sandri.sandriweb.domain.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sandri.sandriweb.domain.review.entity.PlaceRatingStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장소 리뷰 평점 통계 DTO")
+public class RatingStatsDto {
+
+    @Schema(description = "평균 평점", example = "4.3")
+    private Double averageRating;
+
+    @Schema(description = "리뷰 개수", example = "27")
+    private Long reviewCount;
+
+    @Schema(description = "별점별 리뷰 개수 (키: 1~5)", example = "{\"1\": 1, \"2\": 0, \"3\": 3, \"4\": 8, \"5\": 15}")
+    private Map<Integer, Long> distribution;
+
+    public static RatingStatsDto from(PlaceRatingStats stats) {
+        return RatingStatsDto.builder()
+                .averageRating(stats.getAverageRating())
+                .reviewCount(stats.getReviewCount())
+                .distribution(stats.getDistribution())
+                .build();
+    }
+
+    /**
+     * 리뷰가 없는 장소의 통계
+     */
+    public static RatingStatsDto empty() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int star = 1; star <= 5; star++) {
+            distribution.put(star, 0L);
+        }
+        return RatingStatsDto.builder()
+                .averageRating(0.0)
+                .reviewCount(0L)
+                .distribution(distribution)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package sandri.sandriweb.domain.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 장소별 리뷰 평점 집계 (활성화된 리뷰 기준)
+ * 리뷰 작성/수정/삭제 트랜잭션 안에서 증감 쿼리로 갱신
+ */
+@Entity
+@Table(name = "place_rating_stats")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlaceRatingStats {
+
+    @Id
+    @Column(name = "place_id")
+    private Long placeId;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum; // 별점 합계
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount; // 리뷰 개수
+
+    @Column(name = "star1_count", nullable = false)
+    private long star1Count;
+
+    @Column(name = "star2_count", nullable = false)
+    private long star2Count;
+
+    @Column(name = "star3_count", nullable = false)
+    private long star3Count;
+
+    @Column(name = "star4_count", nullable = false)
+    private long star4Count;
+
+    @Column(name = "star5_count", nullable = false)
+    private long star5Count;
+
+    /**
+     * 평균 평점 (리뷰가 없으면 0.0)
+     */
+    public double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+
+    /**
+     * 별점별 리뷰 개수 (1~5점 순서)
+     */
+    public Map<Integer, Long> getDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, star1Count);
+        distribution.put(2, star2Count);
+        distribution.put(3, star3Count);
+        distribution.put(4, star4Count);
+        distribution.put(5, star5Count);
+        return distribution;
+    }
+}
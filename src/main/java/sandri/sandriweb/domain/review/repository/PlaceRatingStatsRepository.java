@@ -0,0 +1,107 @@
+package sandri.sandriweb.domain.review.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import sandri.sandriweb.domain.review.entity.PlaceRatingStats;
+
+@Repository
+public interface PlaceRatingStatsRepository extends JpaRepository<PlaceRatingStats, Long> {
+
+    /**
+     * 평점 집계 증감 (음수가 되지 않는 경우에만 적용, 행이 없으면 변경 없음)
+     * 감소가 포함된 변경은 먼저 이 쿼리로 시도하고, 0행이면 집계가 어긋난 것이므로 applyDelta로 0 보정
+     * @return 변경된 행 수 (0이면 집계 행이 없거나 음수가 되는 변경)
+     */
+    @Modifying
+    @Query(value = "UPDATE place_rating_stats SET " +
+           "rating_sum = rating_sum + :sumDelta, " +
+           "review_count = review_count + :countDelta, " +
+           "star1_count = star1_count + :star1Delta, " +
+           "star2_count = star2_count + :star2Delta, " +
+           "star3_count = star3_count + :star3Delta, " +
+           "star4_count = star4_count + :star4Delta, " +
+           "star5_count = star5_count + :star5Delta " +
+           "WHERE place_id = :placeId " +
+           "AND rating_sum + :sumDelta >= 0 AND review_count + :countDelta >= 0 " +
+           "AND star1_count + :star1Delta >= 0 AND star2_count + :star2Delta >= 0 " +
+           "AND star3_count + :star3Delta >= 0 AND star4_count + :star4Delta >= 0 " +
+           "AND star5_count + :star5Delta >= 0", nativeQuery = true)
+    int applyDeltaIfNonNegative(@Param("placeId") Long placeId,
+                                @Param("sumDelta") long sumDelta,
+                                @Param("countDelta") long countDelta,
+                                @Param("star1Delta") long star1Delta,
+                                @Param("star2Delta") long star2Delta,
+                                @Param("star3Delta") long star3Delta,
+                                @Param("star4Delta") long star4Delta,
+                                @Param("star5Delta") long star5Delta);
+
+    /**
+     * 평점 집계 증감 (행이 없으면 생성)
+     * 한 문장으로 처리하여 동시에 여러 리뷰가 작성되어도 집계가 어긋나지 않음
+     * 새로 생성하는 경우와 기존 행에 더하는 경우 모두 0 미만으로 내려가지 않도록 보정
+     * @param placeId 장소 ID
+     * @param sumDelta 별점 합계 증감
+     * @param countDelta 리뷰 개수 증감
+     * @param star1Delta ~ star5Delta 별점별 개수 증감
+     */
+    @Modifying
+    @Query(value = "INSERT INTO place_rating_stats " +
+           "(place_id, rating_sum, review_count, star1_count, star2_count, star3_count, star4_count, star5_count) " +
+           "VALUES (:placeId, GREATEST(:sumDelta, 0), GREATEST(:countDelta, 0), " +
+           "GREATEST(:star1Delta, 0), GREATEST(:star2Delta, 0), GREATEST(:star3Delta, 0), " +
+           "GREATEST(:star4Delta, 0), GREATEST(:star5Delta, 0)) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "rating_sum = GREATEST(rating_sum + :sumDelta, 0), " +
+           "review_count = GREATEST(review_count + :countDelta, 0), " +
+           "star1_count = GREATEST(star1_count + :star1Delta, 0), " +
+           "star2_count = GREATEST(star2_count + :star2Delta, 0), " +
+           "star3_count = GREATEST(star3_count + :star3Delta, 0), " +
+           "star4_count = GREATEST(star4_count + :star4Delta, 0), " +
+           "star5_count = GREATEST(star5_count + :star5Delta, 0)", nativeQuery = true)
+    void applyDelta(@Param("placeId") Long placeId,
+                    @Param("sumDelta") long sumDelta,
+                    @Param("countDelta") long countDelta,
+                    @Param("star1Delta") long star1Delta,
+                    @Param("star2Delta") long star2Delta,
+                    @Param("star3Delta") long star3Delta,
+                    @Param("star4Delta") long star4Delta,
+                    @Param("star5Delta") long star5Delta);
+
+    /**
+     * place_reviews 기준으로 전체 평점 집계 재계산 (테이블 추가 후 초기값 및 불일치 보정용)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO place_rating_stats " +
+           "(place_id, rating_sum, review_count, star1_count, star2_count, star3_count, star4_count, star5_count) " +
+           "SELECT r.place_id, SUM(r.rating), COUNT(*), " +
+           "       SUM(r.rating = 1), SUM(r.rating = 2), SUM(r.rating = 3), SUM(r.rating = 4), SUM(r.rating = 5) " +
+           "FROM place_reviews r " +
+           "WHERE r.enabled = true AND r.place_id IS NOT NULL " +
+           "GROUP BY r.place_id " +
+           "ON DUPLICATE KEY UPDATE " +
+           "rating_sum = VALUES(rating_sum), " +
+           "review_count = VALUES(review_count), " +
+           "star1_count = VALUES(star1_count), " +
+           "star2_count = VALUES(star2_count), " +
+           "star3_count = VALUES(star3_count), " +
+           "star4_count = VALUES(star4_count), " +
+           "star5_count = VALUES(star5_count)", nativeQuery = true)
+    int recalculateAll();
+
+    /**
+     * 활성화된 리뷰가 하나도 없는 장소의 집계 행 삭제 (재계산 시 함께 사용)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM place_rating_stats " +
+           "WHERE place_id NOT IN (SELECT r.place_id FROM place_reviews r " +
+           "                       WHERE r.enabled = true AND r.place_id IS NOT NULL)", nativeQuery = true)
+    int deleteWithoutEnabledReviews();
+}
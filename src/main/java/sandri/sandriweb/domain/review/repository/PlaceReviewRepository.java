@@ -13,9 +13,6 @@ import java.util.List;
 public interface PlaceReviewRepository extends JpaRepository<PlaceReview, Long> {
     
     List<PlaceReview> findByPlaceIdOrderByCreatedAtDesc(Long placeId);
-    
-    @Query("SELECT AVG(r.rating) FROM PlaceReview r WHERE r.place.id = :placeId")
-    Double findAverageRatingByPlaceId(@Param("placeId") Long placeId);
 
     // 커서 기반 페이징 - 내가 작성한 리뷰 목록 (최신순)
     @Query("SELECT DISTINCT r FROM PlaceReview r " +
@@ -84,14 +81,6 @@ public interface PlaceReviewRepository extends JpaRepository<PlaceReview, Long>
             @Param("lastReviewId") Long lastReviewId,
             Pageable pageable);
     
-    /**
-     * 특정 장소의 활성화된 리뷰 개수 조회
-     * @param placeId 장소 ID
-     * @return 리뷰 개수
-     */
-    @Query(value = "SELECT COUNT(*) FROM place_reviews WHERE place_id = :placeId AND enabled = 1", nativeQuery = true)
-    Long countByPlaceId(@Param("placeId") Long placeId);
-    
     /**
      * 리뷰 ID로 리뷰 조회 (사진과 사용자 정보 포함)
      * @param reviewId 리뷰 ID
@@ -131,5 +120,9 @@ public interface PlaceReviewRepository extends JpaRepository<PlaceReview, Long>
      */
     @Query("SELECT r.place.id FROM PlaceReview r WHERE r.user.id = :userId AND r.place.id IN :placeIds AND r.enabled = true")
     java.util.Set<Long> findPlaceIdsWithReviewByUserIdAndPlaceIds(@Param("userId") Long userId, @Param("placeIds") java.util.Set<Long> placeIds);
-}
 
+    /**
+     * enabled 상태의 리뷰가 하나라도 있는지 확인 (시작 시 평점 집계 초기값 채우기 판단용)
+     */
+    boolean existsByEnabledTrue();
+}
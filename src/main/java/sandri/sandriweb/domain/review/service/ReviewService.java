@@ -2,13 +2,19 @@ package sandri.sandriweb.domain.review.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import sandri.sandriweb.domain.review.dto.ReviewListDto;
 import sandri.sandriweb.domain.review.dto.CursorResponseDto;
+import sandri.sandriweb.domain.review.dto.RatingStatsDto;
 import sandri.sandriweb.domain.review.dto.ReviewDto;
+import sandri.sandriweb.domain.place.cache.PlaceDetailCache;
 import sandri.sandriweb.domain.place.entity.Place;
 import sandri.sandriweb.domain.place.repository.PlaceRepository;
 import sandri.sandriweb.domain.point.enums.ConditionType;
@@ -17,6 +23,7 @@ import sandri.sandriweb.domain.review.dto.CreateReviewRequestDto;
 import sandri.sandriweb.domain.review.dto.UpdateReviewRequestDto;
 import sandri.sandriweb.domain.review.entity.PlaceReview;
 import sandri.sandriweb.domain.review.entity.PlaceReviewPhoto;
+import sandri.sandriweb.domain.review.repository.PlaceRatingStatsRepository;
 import sandri.sandriweb.domain.review.repository.PlaceReviewPhotoRepository;
 import sandri.sandriweb.domain.review.repository.PlaceReviewRepository;
 import sandri.sandriweb.domain.user.entity.User;
@@ -27,6 +34,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -38,10 +46,15 @@ public class ReviewService {
 
     private final PlaceReviewRepository placeReviewRepository;
     private final PlaceReviewPhotoRepository placeReviewPhotoRepository;
+    private final PlaceRatingStatsRepository placeRatingStatsRepository;
     private final PlaceRepository placeRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
     private final PointService pointService;
+    private final PlaceDetailCache placeDetailCache;
+
+    @Value("${app.maintenance.recalculate-rating-stats-on-startup:false}")
+    private boolean recalculateRatingStatsOnStartup;
 
     /**
      * 리뷰 작성
@@ -77,6 +90,8 @@ public class ReviewService {
                 .build();
 
         PlaceReview savedReview = placeReviewRepository.save(review);
+        applyRatingChange(placeId, null, savedReview.getRating());
+        placeDetailCache.evict(placeId); // 평점 변경
 
         // 사진이 있는 경우 PlaceReviewPhoto 저장
         List<PlaceReviewPhoto> photos = new ArrayList<>();
@@ -131,8 +146,13 @@ public class ReviewService {
         }
 
         // 리뷰 내용 수정
+        Integer previousRating = review.getRating();
         review.update(request.getRating(), request.getContent());
         PlaceReview updatedReview = placeReviewRepository.save(review);
+        if (review.isEnabled()) {
+            applyRatingChange(review.getPlace().getId(), previousRating, review.getRating());
+        }
+        placeDetailCache.evict(review.getPlace().getId()); // 평점 변경
 
         // 사진 업데이트 (요청에 photos가 포함된 경우)
         if (request.getPhotos() != null && !request.getPhotos().isEmpty()) {
@@ -224,6 +244,10 @@ public class ReviewService {
 
         // 리뷰 삭제
         placeReviewRepository.delete(review);
+        if (review.isEnabled()) {
+            applyRatingChange(review.getPlace().getId(), review.getRating(), null);
+        }
+        placeDetailCache.evict(review.getPlace().getId()); // 평점 변경
 
         log.info("리뷰 삭제 완료: reviewId={}, userId={}", reviewId, userId);
     }
@@ -255,8 +279,8 @@ public class ReviewService {
                 break;
         }
         
-        // 총 리뷰 개수 조회
-        Long totalCount = placeReviewRepository.countByPlaceId(placeId);
+        // 총 리뷰 개수 조회 (평점 집계 테이블)
+        Long totalCount = getRatingStats(placeId).getReviewCount();
         
         // 커서 기반 페이징 처리
         return buildCursorResponse(allReviews, size, ReviewDto::from, PlaceReview::getId, totalCount);
@@ -314,8 +338,52 @@ public class ReviewService {
      * @return 평균 평점
      */
     public Double getAverageRating(Long placeId) {
-        Double averageRating = placeReviewRepository.findAverageRatingByPlaceId(placeId);
-        return averageRating != null ? averageRating : 0.0;
+        return getRatingStats(placeId).getAverageRating();
+    }
+
+    /**
+     * 평점 통계 조회 (평균, 리뷰 개수, 별점별 개수)
+     * 리뷰 작성/수정/삭제 시 갱신되는 집계 테이블을 PK로 조회
+     * @param placeId 관광지 ID
+     * @return 평점 통계 (리뷰가 없으면 0)
+     */
+    public RatingStatsDto getRatingStats(Long placeId) {
+        return placeRatingStatsRepository.findById(placeId)
+                .map(RatingStatsDto::from)
+                .orElseGet(RatingStatsDto::empty);
+    }
+
+    /**
+     * 애플리케이션 시작 시 평점 집계 재계산
+     * place_rating_stats가 비어 있는데 리뷰가 있으면(테이블 추가 직후) 자동으로 한 번 채우고,
+     * app.maintenance.recalculate-rating-stats-on-startup=true이면 집계 상태와 관계없이 강제로 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recalculateRatingStatsOnStartup() {
+        try {
+            if (recalculateRatingStatsOnStartup) {
+                recalculateRatingStats();
+            } else if (placeRatingStatsRepository.count() == 0 && placeReviewRepository.existsByEnabledTrue()) {
+                log.info("장소 평점 집계가 비어 있어 초기값 채우기 실행");
+                recalculateRatingStats();
+            }
+        } catch (Exception e) {
+            log.error("장소 평점 집계 재계산 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 리뷰 테이블 기준으로 평점 집계 재계산
+     * (초기값 채우기 및 수동 데이터 변경으로 인한 불일치 보정, 관리자 API에서도 실행)
+     * @return 변경된 행 수 + 삭제된 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int recalculateRatingStats() {
+        int updated = placeRatingStatsRepository.recalculateAll();
+        int deleted = placeRatingStatsRepository.deleteWithoutEnabledReviews();
+        log.info("장소 평점 집계 재계산 완료: updated={}, deleted={}", updated, deleted);
+        return updated + deleted;
     }
 
     /**
@@ -371,6 +439,53 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 평점 집계 반영 (활성화된 리뷰의 작성/수정/삭제 시 호출, 같은 트랜잭션에서 실행)
+     * @param placeId 장소 ID
+     * @param oldRating 변경 전 별점 (작성 시 null)
+     * @param newRating 변경 후 별점 (삭제 시 null)
+     */
+    private void applyRatingChange(Long placeId, Integer oldRating, Integer newRating) {
+        if (placeId == null || Objects.equals(oldRating, newRating)) {
+            return;
+        }
+
+        long[] starDeltas = new long[6]; // 인덱스 1~5 사용
+        long sumDelta = 0;
+        long countDelta = 0;
+        if (oldRating != null) {
+            sumDelta -= oldRating;
+            countDelta--;
+            if (oldRating >= 1 && oldRating <= 5) {
+                starDeltas[oldRating]--;
+            }
+        }
+        if (newRating != null) {
+            sumDelta += newRating;
+            countDelta++;
+            if (newRating >= 1 && newRating <= 5) {
+                starDeltas[newRating]++;
+            }
+        }
+
+        boolean decreasing = sumDelta < 0 || countDelta < 0
+                || starDeltas[1] < 0 || starDeltas[2] < 0 || starDeltas[3] < 0
+                || starDeltas[4] < 0 || starDeltas[5] < 0;
+        if (decreasing) {
+            int updated = placeRatingStatsRepository.applyDeltaIfNonNegative(placeId, sumDelta, countDelta,
+                    starDeltas[1], starDeltas[2], starDeltas[3], starDeltas[4], starDeltas[5]);
+            if (updated > 0) {
+                return;
+            }
+            // 집계 행이 없거나 음수가 되는 경우 → 집계가 리뷰 테이블과 어긋난 상태
+            log.warn("평점 집계가 음수가 되어 0으로 보정합니다 (관리자 재계산 필요): placeId={}, sumDelta={}, countDelta={}",
+                    placeId, sumDelta, countDelta);
+        }
+
+        placeRatingStatsRepository.applyDelta(placeId, sumDelta, countDelta,
+                starDeltas[1], starDeltas[2], starDeltas[3], starDeltas[4], starDeltas[5]);
+    }
+
     /**
      * 커서 기반 페이징 응답 생성 (공통 헬퍼 메서드)
      * @param allItems 전체 아이템 리스트 (size + 1개)
@@ -0,0 +1,76 @@
+package sandri.sandriweb.domain.route.cache;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import sandri.sandriweb.domain.route.repository.RouteRepository;
+import sandri.sandriweb.domain.route.util.QrCodeGenerator;
+import sandri.sandriweb.global.cache.CacheRegistry;
+import sandri.sandriweb.global.cache.LruTtlCache;
+
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 루트 공유 QR 코드 PNG 캐시 (공유 코드별)
+ * 공유 코드는 바뀌지 않으므로 한 번 그린 PNG와 ETag를 재사용하고, 만료/제거되면 같은 이미지를 다시 그린다.
+ * 존재하지 않는 공유 코드는 그리지도 저장하지도 않음
+ */
+@Component
+public class RouteQrCodeCache {
+
+    private final RouteRepository routeRepository;
+    private final LruTtlCache<String, QrCode> cache;
+    private final String baseUrl;
+
+    public RouteQrCodeCache(RouteRepository routeRepository,
+                            CacheRegistry cacheRegistry,
+                            @Value("${app.base-url}") String baseUrl,
+                            @Value("${app.cache.route-qr-code.max-size:2000}") int maxSize,
+                            @Value("${app.cache.route-qr-code.ttl-minutes:1440}") long ttlMinutes) {
+        this.routeRepository = routeRepository;
+        this.baseUrl = baseUrl;
+        this.cache = cacheRegistry.create("routeQrCode", maxSize, Duration.ofMinutes(ttlMinutes));
+    }
+
+    /**
+     * 공유 코드의 QR 코드 조회 (없으면 생성)
+     * @return QR 코드 (해당 공유 코드의 루트가 없으면 null)
+     */
+    public QrCode get(String shareCode) {
+        return cache.getCoalesced(shareCode, code -> routeRepository.existsByShareCode(code)
+                ? new QrCode(QrCodeGenerator.generateQrCodePng(shareUrl(code)))
+                : null);
+    }
+
+    /**
+     * 루트 삭제 시 제거
+     */
+    public void invalidate(String shareCode) {
+        cache.invalidate(shareCode);
+    }
+
+    public String shareUrl(String shareCode) {
+        return baseUrl + "/routes/share/" + shareCode;
+    }
+
+    public String imageUrl(String shareCode) {
+        return baseUrl + "/api/routes/share/" + shareCode + "/qr.png";
+    }
+
+    @Getter
+    public static class QrCode {
+        private final byte[] png;
+        private final String etag;
+
+        QrCode(byte[] png) {
+            this.png = png;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(png) + "\"";
+        }
+
+        public String toDataUri() {
+            return "data:image/png;base64," + Base64.getEncoder().encodeToString(png);
+        }
+    }
+}
@@ -7,10 +7,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import sandri.sandriweb.domain.route.cache.RouteQrCodeCache;
 import sandri.sandriweb.domain.route.dto.*;
 import sandri.sandriweb.domain.route.enums.RouteSortType;
 import sandri.sandriweb.domain.route.service.RouteService;
@@ -19,6 +24,7 @@ import sandri.sandriweb.domain.user.entity.User;
 import sandri.sandriweb.domain.user.repository.UserRepository;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/routes")
@@ -198,6 +204,52 @@ public class RouteController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/my/cursor")
+    @Operation(
+            summary = "내 루트 목록 조회 (커서 토큰 기반 페이징)",
+            description = "내 루트 목록과 같은 정렬로 size개씩 조회합니다. " +
+                    "더보기: 이전 응답의 nextCursor를 cursor에 그대로 전달하면 그 다음부터 조회됩니다. " +
+                    "커서는 같은 정렬 방식에서만 사용할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    public ResponseEntity<ApiResponseDto<RouteListCursorResponseDto>> getMyRoutesWithCursor(
+            Authentication authentication,
+            @Parameter(
+                    name = "sort",
+                    description = "정렬 방식: PINNED(관심/고정 순), LATEST(최신 순), OLDEST(오래된 순). 기본값은 LATEST.",
+                    example = "PINNED")
+            @RequestParam(name = "sort", required = false) String sortParam,
+            @Parameter(description = "이전 응답의 nextCursor (더보기용, 없으면 처음부터 조회)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "20")
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size) {
+
+        String username = authentication.getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        RouteSortType sortType;
+        try {
+            sortType = RouteSortType.from(sortParam);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(e.getMessage()));
+        }
+
+        log.info("내 루트 목록 조회(커서): 사용자={}, 정렬={}, size={}", username, sortType, size);
+        ApiResponseDto<RouteListCursorResponseDto> response =
+                routeService.getUserRoutesWithCursor(user, sortType, cursor, size);
+
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.badRequest().body(response);
+    }
+    
     @PostMapping("/{routeId}/participants")
     @Operation(
             summary = "일행 추가", 
@@ -227,6 +279,36 @@ public class RouteController {
         }
     }
     
+    @PostMapping("/{routeId}/participants/bulk")
+    @Operation(
+            summary = "일행 일괄 추가",
+            description = "여러 사용자를 한 번에 일행으로 추가합니다. 이미 일행인 사용자는 건너뜁니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "추가 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (사용자 ID가 0이거나 존재하지 않음)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<ApiResponseDto<RouteResponseDto>> addParticipants(
+            @PathVariable Long routeId,
+            @Valid @RequestBody AddParticipantsRequestDto request,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        log.info("일행 일괄 추가 요청: 루트ID={}, 사용자={}, 추가할사용자IDs={}", routeId, username, request.getUserIds());
+        ApiResponseDto<RouteResponseDto> response = routeService.addParticipants(routeId, request, user);
+
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else if (response.getMessage() != null && response.getMessage().contains("권한")) {
+            return ResponseEntity.status(403).body(response);
+        }
+        return ResponseEntity.badRequest().body(response);
+    }
+    
     @GetMapping("/{routeId}/participants")
     @Operation(summary = "일행 목록 조회", description = "루트의 일행 목록을 조회합니다")
     @ApiResponses(value = {
@@ -306,6 +388,36 @@ public class RouteController {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @PostMapping("/{routeId}/optimize")
+    @Operation(summary = "동선 최적화", description = "일차별로 이동 거리가 짧아지도록 장소 방문 순서를 계산합니다. 각 일차의 첫 장소는 출발지로 고정됩니다")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "최적화 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "루트 없음")
+    })
+    public ResponseEntity<ApiResponseDto<RouteOptimizeResponseDto>> optimizeRoute(
+            @PathVariable Long routeId,
+            @Parameter(description = "계산한 순서를 루트에 바로 적용할지 여부 (false면 결과만 반환)", example = "false")
+            @RequestParam(name = "apply", required = false, defaultValue = "false") boolean apply,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        log.info("동선 최적화 요청: 루트ID={}, 적용={}, 사용자={}", routeId, apply, username);
+        ApiResponseDto<RouteOptimizeResponseDto> response = routeService.optimizeRoute(routeId, apply, user);
+
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else if (response.getMessage() != null && response.getMessage().contains("권한")) {
+            return ResponseEntity.status(403).body(response);
+        } else if (response.getMessage() != null && response.getMessage().contains("찾을 수 없습니다")) {
+            return ResponseEntity.status(404).body(response);
+        }
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @PutMapping("/{routeId}/locations/{locationId}/memo")
     @Operation(summary = "장소 메모 저장", description = "루트 내 특정 장소에 대한 메모를 저장하거나 수정합니다")
     @ApiResponses(value = {
@@ -375,6 +487,8 @@ public class RouteController {
     })
     public ResponseEntity<ApiResponseDto<ShareLinkResponseDto>> getShareLink(
             @PathVariable Long routeId,
+            @Parameter(description = "QR 코드를 data URI로 포함할지 여부 (false면 qrCodeUrl에 PNG 이미지 URL 반환)", example = "false")
+            @RequestParam(name = "inlineQr", required = false, defaultValue = "true") boolean inlineQr,
             Authentication authentication) {
         
         String username = authentication.getName();
@@ -382,7 +496,7 @@ public class RouteController {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
         log.info("공유 링크 생성 요청: 루트ID={}, 사용자={}", routeId, username);
-        ApiResponseDto<ShareLinkResponseDto> response = routeService.getShareLink(routeId, user);
+        ApiResponseDto<ShareLinkResponseDto> response = routeService.getShareLink(routeId, user, inlineQr);
         
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
@@ -410,6 +524,42 @@ public class RouteController {
         }
     }
 
+    @GetMapping(value = "/share/{shareCode}/qr.png", produces = MediaType.IMAGE_PNG_VALUE)
+    @Operation(summary = "공유 QR 코드 이미지", description = "공유 링크의 QR 코드를 PNG 이미지로 반환합니다 (ETag, 장기 캐시 헤더 포함)")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "루트 없음")
+    })
+    public ResponseEntity<byte[]> getShareQrCode(
+            @PathVariable String shareCode,
+            ServletWebRequest webRequest) {
+
+        RouteQrCodeCache.QrCode qrCode;
+        try {
+            qrCode = routeService.getShareQrCode(shareCode);
+        } catch (Exception e) {
+            log.warn("공유 QR 코드 조회 실패: shareCode={}, {}", shareCode, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+
+        // 공유 코드별 QR 이미지는 바뀌지 않으므로 오래 캐시하고, 재요청은 ETag로 304 처리
+        // (If-None-Match의 여러 값, W/ 약한 비교, * 처리는 checkNotModified에 맡김)
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+        if (webRequest.checkNotModified(qrCode.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(qrCode.getEtag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .eTag(qrCode.getEtag())
+                .cacheControl(cacheControl)
+                .body(qrCode.getPng());
+    }
+
     @PostMapping("/{routeId}/like")
     @Operation(summary = "루트 좋아요 토글", description = "루트에 대한 관심(좋아요)을 추가하거나 해제합니다.")
     @ApiResponses(value = {
@@ -0,0 +1,23 @@
+package sandri.sandriweb.domain.route.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddParticipantsRequestDto {
+
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100명까지 추가할 수 있습니다")
+    private List<@NotNull(message = "사용자 ID는 필수입니다") @Positive(message = "사용자 ID는 1 이상이어야 합니다") Long> userIds;
+}
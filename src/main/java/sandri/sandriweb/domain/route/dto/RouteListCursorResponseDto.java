@@ -0,0 +1,29 @@
+package sandri.sandriweb.domain.route.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "내 루트 목록 조회 응답 DTO (커서 기반 페이징)")
+public class RouteListCursorResponseDto {
+
+    @Schema(description = "루트 목록", example = "[]")
+    private List<RouteListDto> routes;
+
+    @Schema(description = "페이지 크기", example = "20")
+    private int size;
+
+    @Schema(description = "다음 페이지 조회용 커서 (그대로 cursor에 전달, null이면 더 이상 없음)", example = "TEFURVNUfDF8MjAyNS0wMS0wMVQxMDowMHwxNQ")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,52 @@
+package sandri.sandriweb.domain.route.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "루트 동선 최적화 응답 DTO")
+public class RouteOptimizeResponseDto {
+
+    @Schema(description = "루트 ID", example = "10")
+    private Long routeId;
+
+    @Schema(description = "최적화 결과를 루트에 반영했는지 여부", example = "false")
+    private boolean applied;
+
+    @Schema(description = "최적화 전 전체 이동 거리 (미터)", example = "25400")
+    private Long beforeDistanceMeters;
+
+    @Schema(description = "최적화 후 전체 이동 거리 (미터)", example = "14800")
+    private Long afterDistanceMeters;
+
+    @Schema(description = "일차별 최적화 결과")
+    private List<DayDto> days;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "일차별 최적화 결과")
+    public static class DayDto {
+
+        @Schema(description = "일차", example = "1")
+        private Integer dayNumber;
+
+        @Schema(description = "최적화 전 이동 거리 (미터)", example = "12100")
+        private Long beforeDistanceMeters;
+
+        @Schema(description = "최적화 후 이동 거리 (미터)", example = "7300")
+        private Long afterDistanceMeters;
+
+        @Schema(description = "최적화된 방문 순서의 장소 목록 (첫 장소는 고정, 그 외 좌표가 없는 장소는 맨 뒤에 기존 순서대로)")
+        private List<RouteResponseDto.LocationDto> locations;
+    }
+}
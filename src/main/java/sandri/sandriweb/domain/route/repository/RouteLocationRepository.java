@@ -22,5 +22,20 @@ public interface RouteLocationRepository extends JpaRepository<RouteLocation, Lo
      * @return 해당 dayNumber의 장소 목록 (displayOrder 순으로 정렬)
      */
     List<RouteLocation> findByRouteAndDayNumberOrderByDisplayOrderAsc(Route route, Integer dayNumber);
+
+    /**
+     * 여러 루트의 첫 번째 장소 이름 일괄 조회 (검색 결과 대표 이미지용)
+     * 가장 빠른 일차에서 displayOrder가 가장 작은 장소만 조회하므로 루트당 한 행
+     * (같은 순서가 중복된 경우에만 여러 행이 나오며, ID가 작은 장소가 먼저 옴)
+     * @param routeIds 루트 ID 목록
+     * @return [routeId, name] 형태의 Object[] 리스트
+     */
+    @Query("SELECT rl.route.id, rl.name FROM RouteLocation rl " +
+           "WHERE rl.route.id IN :routeIds " +
+           "AND rl.dayNumber = (SELECT MIN(d.dayNumber) FROM RouteLocation d WHERE d.route = rl.route) " +
+           "AND rl.displayOrder = (SELECT MIN(o.displayOrder) FROM RouteLocation o " +
+           "                       WHERE o.route = rl.route AND o.dayNumber = rl.dayNumber) " +
+           "ORDER BY rl.route.id ASC, rl.id ASC")
+    List<Object[]> findFirstLocationNamesByRouteIdIn(@Param("routeIds") List<Long> routeIds);
 }
 
@@ -7,6 +7,7 @@ import sandri.sandriweb.domain.route.entity.Route;
 import sandri.sandriweb.domain.route.entity.RouteParticipant;
 import sandri.sandriweb.domain.user.entity.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,5 +23,20 @@ public interface RouteParticipantRepository extends JpaRepository<RouteParticipa
     
     @Query("SELECT COUNT(p) FROM RouteParticipant p WHERE p.route = :route")
     long countByRoute(@Param("route") Route route);
+
+    /**
+     * 일행 ID 목록의 소속 루트와 사용자 일괄 조회 (일괄 삭제 전 검증용)
+     * @return [participantId, routeId, userId] 형태의 Object[] 리스트
+     */
+    @Query("SELECT p.id, p.route.id, p.user.id FROM RouteParticipant p WHERE p.id IN :participantIds")
+    List<Object[]> findRouteAndUserIdsByIdIn(@Param("participantIds") Collection<Long> participantIds);
+
+    /**
+     * 루트에 추가된 일행을 사용자와 함께 조회 (일괄 추가 후 응답 구성용)
+     */
+    @Query("SELECT p FROM RouteParticipant p JOIN FETCH p.user " +
+           "WHERE p.route.id = :routeId AND p.user.id IN :userIds")
+    List<RouteParticipant> findByRouteIdAndUserIdIn(@Param("routeId") Long routeId,
+                                                    @Param("userIds") Collection<Long> userIds);
 }
 
@@ -9,6 +9,7 @@ import sandri.sandriweb.domain.route.entity.Route;
 import sandri.sandriweb.domain.user.entity.User;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,27 +20,167 @@ public interface RouteRepository extends JpaRepository<Route, Long> {
     List<Route> findByCreatorAndIsPublic(User creator, boolean isPublic);
     
     Optional<Route> findByShareCode(String shareCode);
+
+    boolean existsByShareCode(String shareCode);
     
-    @Query("SELECT r FROM Route r JOIN r.participants p WHERE p.user = :user OR r.creator = :user")
-    List<Route> findByParticipantOrCreator(@Param("user") User user);
+    /**
+     * 내 루트 목록 (생성했거나 일행으로 참여한 루트, 최신순, keyset 페이징)
+     * 참여 여부는 EXISTS로 확인하므로 생성자이면서 일행인 경우에도 중복되지 않음
+     * 관심 등록은 route_likes에 유니크 키가 없어 같은 루트에 활성 행이 여러 개일 수 있으므로 가장 최근 행(MAX id) 하나만 조인
+     * @param lastCreatedAt 이전 페이지 마지막 루트의 생성 시간 (lastRouteId가 null이면 무시)
+     * @param lastRouteId 이전 페이지 마지막 루트 ID (null이면 처음부터)
+     * @return [Route, 관심 등록 시각(관심 루트가 아니면 null)] 형태의 Object[] 리스트
+     */
+    @Query("SELECT r, ur.updatedAt FROM Route r " +
+           "JOIN FETCH r.creator " +
+           "LEFT JOIN UserRoute ur ON ur.id = (SELECT MAX(u2.id) FROM UserRoute u2 " +
+           "                                   WHERE u2.route = r AND u2.user.id = :userId AND u2.enabled = true) " +
+           "WHERE (r.creator.id = :userId " +
+           "       OR EXISTS (SELECT p.id FROM RouteParticipant p WHERE p.route = r AND p.user.id = :userId)) " +
+           "AND (:lastRouteId IS NULL " +
+           "     OR r.createdAt < :lastCreatedAt " +
+           "     OR (r.createdAt = :lastCreatedAt AND r.id < :lastRouteId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Object[]> findMyRoutesLatest(@Param("userId") Long userId,
+                                      @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                      @Param("lastRouteId") Long lastRouteId,
+                                      Pageable pageable);
+
+    /**
+     * 내 루트 목록 (오래된 순, keyset 페이징)
+     */
+    @Query("SELECT r, ur.updatedAt FROM Route r " +
+           "JOIN FETCH r.creator " +
+           "LEFT JOIN UserRoute ur ON ur.id = (SELECT MAX(u2.id) FROM UserRoute u2 " +
+           "                                   WHERE u2.route = r AND u2.user.id = :userId AND u2.enabled = true) " +
+           "WHERE (r.creator.id = :userId " +
+           "       OR EXISTS (SELECT p.id FROM RouteParticipant p WHERE p.route = r AND p.user.id = :userId)) " +
+           "AND (:lastRouteId IS NULL " +
+           "     OR r.createdAt > :lastCreatedAt " +
+           "     OR (r.createdAt = :lastCreatedAt AND r.id > :lastRouteId)) " +
+           "ORDER BY r.createdAt ASC, r.id ASC")
+    List<Object[]> findMyRoutesOldest(@Param("userId") Long userId,
+                                      @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                      @Param("lastRouteId") Long lastRouteId,
+                                      Pageable pageable);
+
+    /**
+     * 내 루트 목록 (관심 루트 먼저, keyset 페이징)
+     * 관심 루트는 관심 등록 시각 최신순, 나머지는 생성 시간 최신순
+     * @param lastPinnedRank 이전 페이지 마지막 루트의 고정 순위 (관심 루트 0, 그 외 1)
+     * @param lastSortAt 이전 페이지 마지막 루트의 정렬 시각
+     */
+    @Query("SELECT r, ur.updatedAt FROM Route r " +
+           "JOIN FETCH r.creator " +
+           "LEFT JOIN UserRoute ur ON ur.id = (SELECT MAX(u2.id) FROM UserRoute u2 " +
+           "                                   WHERE u2.route = r AND u2.user.id = :userId AND u2.enabled = true) " +
+           "WHERE (r.creator.id = :userId " +
+           "       OR EXISTS (SELECT p.id FROM RouteParticipant p WHERE p.route = r AND p.user.id = :userId)) " +
+           "AND (:lastRouteId IS NULL " +
+           "     OR (CASE WHEN ur.id IS NULL THEN 1 ELSE 0 END) > :lastPinnedRank " +
+           "     OR ((CASE WHEN ur.id IS NULL THEN 1 ELSE 0 END) = :lastPinnedRank " +
+           "         AND COALESCE(ur.updatedAt, r.createdAt) < :lastSortAt) " +
+           "     OR ((CASE WHEN ur.id IS NULL THEN 1 ELSE 0 END) = :lastPinnedRank " +
+           "         AND COALESCE(ur.updatedAt, r.createdAt) = :lastSortAt AND r.id < :lastRouteId)) " +
+           "ORDER BY CASE WHEN ur.id IS NULL THEN 1 ELSE 0 END ASC, " +
+           "COALESCE(ur.updatedAt, r.createdAt) DESC, r.id DESC")
+    List<Object[]> findMyRoutesPinned(@Param("userId") Long userId,
+                                      @Param("lastPinnedRank") int lastPinnedRank,
+                                      @Param("lastSortAt") LocalDateTime lastSortAt,
+                                      @Param("lastRouteId") Long lastRouteId,
+                                      Pageable pageable);
     
     boolean existsByIdAndCreator(Long id, User creator);
 
+    /**
+     * 응답(RouteResponseDto)용 루트 조회
+     * 생성자, 일행+사용자, 정렬된 장소를 일행/장소 수와 관계없이 쿼리 2번으로 로드하여
+     * RouteResponseDto.from에서 지연 로딩이 연쇄적으로 발생하지 않도록 함 (같은 트랜잭션 안에서 호출)
+     */
+    default Optional<Route> findForResponseById(Long routeId) {
+        Optional<Route> route = findWithCreatorAndParticipantsById(routeId);
+        route.ifPresent(r -> findWithLocationsById(routeId));
+        return route;
+    }
+
+    /**
+     * 응답(RouteResponseDto)용 루트 조회 (공유 코드로 조회, 쿼리 2번)
+     */
+    default Optional<Route> findForResponseByShareCode(String shareCode) {
+        Optional<Route> route = findWithCreatorAndParticipantsByShareCode(shareCode);
+        route.ifPresent(r -> findWithLocationsById(r.getId()));
+        return route;
+    }
+
+    /**
+     * 응답용 루트 조회 1단계: 생성자, 일행과 일행 사용자까지 fetch join
+     * participants와 locations는 둘 다 List(bag)라 한 쿼리로 함께 fetch join할 수 없으므로 locations는 findWithLocationsById로 따로 로드
+     */
+    @Query("SELECT r FROM Route r " +
+           "JOIN FETCH r.creator " +
+           "LEFT JOIN FETCH r.participants p " +
+           "LEFT JOIN FETCH p.user " +
+           "WHERE r.id = :routeId")
+    Optional<Route> findWithCreatorAndParticipantsById(@Param("routeId") Long routeId);
+
+    /**
+     * 응답용 루트 조회 1단계 (공유 코드로 조회)
+     */
+    @Query("SELECT r FROM Route r " +
+           "JOIN FETCH r.creator " +
+           "LEFT JOIN FETCH r.participants p " +
+           "LEFT JOIN FETCH p.user " +
+           "WHERE r.shareCode = :shareCode")
+    Optional<Route> findWithCreatorAndParticipantsByShareCode(@Param("shareCode") String shareCode);
+
+    /**
+     * 응답용 루트 조회 2단계: 같은 영속성 컨텍스트의 루트에 장소 목록을 일차, 순서대로 채움
+     */
+    @Query("SELECT r FROM Route r " +
+           "LEFT JOIN FETCH r.locations l " +
+           "WHERE r.id = :routeId " +
+           "ORDER BY l.dayNumber ASC, l.displayOrder ASC, l.id ASC")
+    Optional<Route> findWithLocationsById(@Param("routeId") Long routeId);
+
     /**
      * 키워드로 루트 검색 (제목에서 검색, 공개된 루트만)
-     * locations와 creator를 fetch join하여 N+1 문제 방지
+     * creator만 fetch join (컬렉션인 locations를 fetch join하면 DB가 아닌 메모리에서 페이징되므로 제외,
+     * 대표 이미지용 첫 장소는 RouteThumbnailResolver가 첫 장소 이름으로 일괄 조회)
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
      * @return 검색 결과
      */
-    @Query("SELECT DISTINCT r FROM Route r " +
-           "LEFT JOIN FETCH r.locations " +
-           "LEFT JOIN FETCH r.creator " +
-           "WHERE r.isPublic = true " +
-           "AND LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "ORDER BY r.createdAt DESC")
+    @Query(value = "SELECT r FROM Route r " +
+                   "LEFT JOIN FETCH r.creator " +
+                   "WHERE r.isPublic = true " +
+                   "AND LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                   "ORDER BY r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM Route r " +
+                        "WHERE r.isPublic = true " +
+                        "AND LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Route> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * 최신 공개 루트 조회 (HOT 루트 목록 보충용, creator fetch join)
+     * @param pageable 조회 개수
+     * @return 생성 시간 최신 순 공개 루트 목록
+     */
+    @Query("SELECT r FROM Route r " +
+           "JOIN FETCH r.creator " +
+           "WHERE r.isPublic = true " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Route> findLatestPublic(Pageable pageable);
+
+    /**
+     * 공개 루트의 제목과 좋아요 수 전체 조회 (검색어 자동완성 인덱스 구성용)
+     * @return [routeId, title, likeCount] 형태의 Object[] 리스트
+     */
+    @Query("SELECT r.id, r.title, " +
+           "(SELECT COUNT(ur.id) FROM UserRoute ur WHERE ur.route = r AND ur.enabled = true) " +
+           "FROM Route r " +
+           "WHERE r.isPublic = true")
+    List<Object[]> findPublicTitlesWithLikeCount();
+
     /**
      * 사용자가 참여한 루트 중 오늘 날짜에 해당하는 루트 조회
      * @param userId 사용자 ID
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import sandri.sandriweb.domain.route.entity.Route;
 import sandri.sandriweb.domain.route.entity.UserRoute;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,19 +27,24 @@ public interface UserRouteRepository extends JpaRepository<UserRoute, Long> {
     List<UserRoute> findAllEnabledByUserId(@Param("userId") Long userId);
 
     /**
-     * 최근 기간 가중치 기반 HOT 루트 집계 (공개 루트만, 좋아요 0개인 루트도 포함)
+     * enabled된 좋아요의 루트 ID와 시각 목록 (인기 점수 최초 계산용)
+     * @return [routeId, updatedAt] 형태의 Object[] 리스트
      */
-    @Query(value = "SELECT r.id AS routeId, " +
-            "COALESCE(COUNT(ur.id), 0) AS totalLikes, " +
-            "COALESCE(SUM(CASE WHEN ur.updated_at >= DATE_SUB(NOW(), INTERVAL :recentDays DAY) THEN 1 ELSE 0 END), 0) AS recentLikes " +
-            "FROM routes r " +
-            "LEFT JOIN route_likes ur ON r.id = ur.route_id AND ur.enabled = true " +
-            "WHERE r.enabled = true AND r.is_public = true " +
-            "GROUP BY r.id " +
-            "ORDER BY (COALESCE(COUNT(ur.id), 0) + :alpha * COALESCE(SUM(CASE WHEN ur.updated_at >= DATE_SUB(NOW(), INTERVAL :recentDays DAY) THEN 1 ELSE 0 END), 0)) DESC " +
-            "LIMIT :limit", nativeQuery = true)
-    List<Object[]> findHotRoutes(@Param("limit") int limit,
-                                 @Param("recentDays") int recentDays,
-                                 @Param("alpha") double alpha);
-}
+    @Query("SELECT ur.route.id, ur.updatedAt " +
+           "FROM UserRoute ur " +
+           "WHERE ur.enabled = true")
+    List<Object[]> findEnabledLikeTimes();
 
+    /**
+     * 여러 루트의 전체/최근 좋아요 수를 한 번에 조회
+     * @return [routeId, totalLikes, recentLikes] 형태의 Object[] 리스트
+     */
+    @Query("SELECT ur.route.id, COUNT(ur.id), " +
+           "SUM(CASE WHEN ur.updatedAt >= :since THEN 1 ELSE 0 END) " +
+           "FROM UserRoute ur " +
+           "WHERE ur.route.id IN :routeIds " +
+           "AND ur.enabled = true " +
+           "GROUP BY ur.route.id")
+    List<Object[]> countTotalAndRecentLikesByRouteIds(@Param("routeIds") List<Long> routeIds,
+                                                      @Param("since") LocalDateTime since);
+}
@@ -2,10 +2,15 @@ package sandri.sandriweb.domain.route.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import sandri.sandriweb.domain.favorite.dto.FavoriteRouteDto;
+import sandri.sandriweb.domain.favorite.enums.FavoriteType;
+import sandri.sandriweb.domain.route.cache.RouteQrCodeCache;
 import sandri.sandriweb.domain.route.dto.*;
 import sandri.sandriweb.domain.route.entity.Route;
 import sandri.sandriweb.domain.route.entity.RouteLocation;
@@ -16,7 +21,8 @@ import sandri.sandriweb.domain.route.repository.RouteLocationRepository;
 import sandri.sandriweb.domain.route.repository.RouteParticipantRepository;
 import sandri.sandriweb.domain.route.repository.RouteRepository;
 import sandri.sandriweb.domain.route.repository.UserRouteRepository;
-import sandri.sandriweb.domain.route.util.QrCodeGenerator;
+import sandri.sandriweb.domain.route.util.RouteCursor;
+import sandri.sandriweb.domain.route.util.RouteStopOptimizer;
 import sandri.sandriweb.domain.user.dto.ApiResponseDto;
 import sandri.sandriweb.domain.user.entity.User;
 import sandri.sandriweb.domain.user.repository.UserRepository;
@@ -26,12 +32,23 @@ import sandri.sandriweb.domain.place.entity.Place;
 import sandri.sandriweb.domain.place.entity.PlacePhoto;
 import sandri.sandriweb.domain.place.enums.PlaceCategory;
 import sandri.sandriweb.domain.place.enums.Category;
+import sandri.sandriweb.domain.place.cache.PlaceThumbnailCache;
+import sandri.sandriweb.domain.place.index.PlaceSpatialIndex;
+import sandri.sandriweb.domain.trending.service.TrendingService;
+import sandri.sandriweb.global.util.TransactionUtils;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,12 +64,14 @@ public class RouteService {
     private final RouteLocationRepository routeLocationRepository;
     private final PlaceRepository placeRepository;
     private final PlacePhotoRepository placePhotoRepository;
-    
-    @Value("${app.base-url}")
-    private String baseUrl;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceThumbnailCache placeThumbnailCache;
+    private final TrendingService trendingService;
+    private final RouteQrCodeCache routeQrCodeCache;
+    private final JdbcTemplate jdbcTemplate;
 
     private static final int HOT_RECENT_DAYS = 7;
-    private static final double HOT_ALPHA = 0.7;
+    private static final int MY_ROUTES_MAX_PAGE_SIZE = 50;
     
     @Transactional
     public ApiResponseDto<RouteResponseDto> createRoute(CreateRouteRequestDto request, User creator) {
@@ -115,13 +134,13 @@ public class RouteService {
     
     public ApiResponseDto<RouteResponseDto> getRoute(Long routeId, User user) {
         try {
-            Route route = routeRepository.findById(routeId)
+            Route route = routeRepository.findForResponseById(routeId)
                     .orElseThrow(() -> new RuntimeException("루트를 찾을 수 없습니다"));
             
-            // 비공개 루트인 경우 권한 확인
+            // 비공개 루트인 경우 권한 확인 (일행은 이미 로드되어 있으므로 메모리에서 확인)
             if (!route.isPublic() && 
                 !route.getCreator().getId().equals(user.getId()) && 
-                !participantRepository.existsByRouteAndUser(route, user)) {
+                route.getParticipants().stream().noneMatch(p -> p.getUser().getId().equals(user.getId()))) {
                 throw new RuntimeException("접근 권한이 없습니다");
             }
             
@@ -137,7 +156,7 @@ public class RouteService {
     @Transactional
     public ApiResponseDto<RouteResponseDto> updateRoute(Long routeId, UpdateRouteRequestDto request, User user) {
         try {
-            Route route = routeRepository.findById(routeId)
+            Route route = routeRepository.findForResponseById(routeId)
                     .orElseThrow(() -> new RuntimeException("루트를 찾을 수 없습니다"));
             
             if (!route.getCreator().getId().equals(user.getId())) {
@@ -204,7 +223,9 @@ public class RouteService {
                 throw new RuntimeException("삭제 권한이 없습니다");
             }
             
+            String shareCode = route.getShareCode();
             routeRepository.delete(route);
+            TransactionUtils.afterCommit(() -> routeQrCodeCache.invalidate(shareCode));
             return ApiResponseDto.success("루트가 삭제되었습니다", null);
             
         } catch (Exception e) {
@@ -215,20 +236,10 @@ public class RouteService {
     
     public ApiResponseDto<List<RouteListDto>> getUserRoutes(User user, RouteSortType sortType) {
         try {
-            List<Route> routes = routeRepository.findByParticipantOrCreator(user);
-
-            List<UserRoute> likedRoutes = userRouteRepository.findAllEnabledByUserId(user.getId());
-            Map<Long, UserRoute> likedRouteMap = likedRoutes.stream()
-                    .collect(Collectors.toMap(
-                            ur -> ur.getRoute().getId(),
-                            ur -> ur,
-                            (existing, duplicate) -> existing));
-
-            Comparator<Route> comparator = buildComparator(sortType, likedRouteMap);
-            routes.sort(comparator);
-
-            List<RouteListDto> response = routes.stream()
-                    .map(route -> RouteListDto.from(route, likedRouteMap.containsKey(route.getId())))
+            RouteSortType effectiveSort = sortType != null ? sortType : RouteSortType.LATEST;
+            List<RouteListDto> response = findMyRoutePage(user.getId(), effectiveSort, null, Pageable.unpaged())
+                    .stream()
+                    .map(row -> RouteListDto.from((Route) row[0], row[1] != null))
                     .collect(Collectors.toList());
             
             return ApiResponseDto.success(response);
@@ -239,6 +250,46 @@ public class RouteService {
         }
     }
 
+    /**
+     * 내 루트 목록 조회 (커서 토큰 기반 페이징)
+     * 정렬과 페이징을 DB keyset 쿼리로 처리하므로 루트 수와 관계없이 페이지 크기만큼만 조회
+     * @param cursor 이전 응답의 nextCursor (null이면 처음부터)
+     * @param size 페이지 크기 (1 ~ MY_ROUTES_MAX_PAGE_SIZE)
+     */
+    public ApiResponseDto<RouteListCursorResponseDto> getUserRoutesWithCursor(User user, RouteSortType sortType,
+                                                                              String cursor, int size) {
+        try {
+            RouteSortType effectiveSort = sortType != null ? sortType : RouteSortType.LATEST;
+            int pageSize = Math.max(1, Math.min(size, MY_ROUTES_MAX_PAGE_SIZE));
+            RouteCursor after = StringUtils.hasText(cursor) ? RouteCursor.decode(cursor, effectiveSort) : null;
+
+            // pageSize + 1개 조회하여 다음 페이지 여부 판단
+            List<Object[]> fetched = findMyRoutePage(user.getId(), effectiveSort, after, PageRequest.of(0, pageSize + 1));
+            boolean hasNext = fetched.size() > pageSize;
+            List<Object[]> rows = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+            String nextCursor = null;
+            if (hasNext) {
+                Object[] last = rows.get(rows.size() - 1);
+                nextCursor = RouteCursor.from(effectiveSort, (Route) last[0], (LocalDateTime) last[1]).encode();
+            }
+
+            RouteListCursorResponseDto response = RouteListCursorResponseDto.builder()
+                    .routes(rows.stream()
+                            .map(row -> RouteListDto.from((Route) row[0], row[1] != null))
+                            .collect(Collectors.toList()))
+                    .size(pageSize)
+                    .nextCursor(nextCursor)
+                    .hasNext(hasNext)
+                    .build();
+            return ApiResponseDto.success(response);
+
+        } catch (Exception e) {
+            log.error("사용자 루트 조회(커서) 실패: {}", e.getMessage(), e);
+            return ApiResponseDto.error(e.getMessage());
+        }
+    }
+
     @Transactional
     public boolean toggleLike(Long routeId, Long userId) {
         Route route = routeRepository.findById(routeId)
@@ -251,16 +302,19 @@ public class RouteService {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
 
-        return userRouteRepository.findByUserIdAndRouteId(userId, routeId)
+        boolean liked = userRouteRepository.findByUserIdAndRouteId(userId, routeId)
                 .map(userRoute -> {
                     if (userRoute.isEnabled()) {
+                        LocalDateTime likedAt = userRoute.getUpdatedAt();
                         userRoute.disable();
                         userRouteRepository.save(userRoute);
+                        trendingService.recordUnlike(FavoriteType.ROUTE, routeId, likedAt);
                         log.info("루트 좋아요 취소: 루트ID={}", routeId);
                         return false;
                     } else {
                         userRoute.enable();
                         userRouteRepository.save(userRoute);
+                        trendingService.recordLike(FavoriteType.ROUTE, routeId);
                         log.info("루트 좋아요 재활성화: 루트ID={}", routeId);
                         return true;
                     }
@@ -272,9 +326,12 @@ public class RouteService {
                             .route(route)
                             .build();
                     userRouteRepository.save(newUserRoute);
+                    trendingService.recordLike(FavoriteType.ROUTE, routeId);
                     log.info("루트 좋아요 신규 등록: 루트ID={}, enabled={}", routeId, newUserRoute.isEnabled());
                     return true;
                 });
+
+        return liked;
     }
 
     public List<FavoriteRouteDto> getLikedRoutes(Long userId) {
@@ -291,12 +348,12 @@ public class RouteService {
     @Transactional
     public ApiResponseDto<RouteResponseDto> addParticipant(Long routeId, AddParticipantRequestDto request, User user) {
         try {
-            Route route = routeRepository.findById(routeId)
+            Route route = routeRepository.findForResponseById(routeId)
                     .orElseThrow(() -> new RuntimeException("루트를 찾을 수 없습니다"));
             
             // 권한 확인: 생성자 또는 이미 참여 중인 사용자만 일행 추가 가능
             boolean isCreator = route.getCreator().getId().equals(user.getId());
-            boolean isParticipant = participantRepository.existsByRouteAndUser(route, user);
+            boolean isParticipant = isRouteParticipant(route, user.getId());
             
             if (!isCreator && !isParticipant) {
                 throw new RuntimeException("일행 추가 권한이 없습니다");
@@ -310,15 +367,15 @@ public class RouteService {
             User participantUser = userRepository.findById(request.getUserId())
                     .orElseThrow(() -> new RuntimeException("사용자 ID " + request.getUserId() + "에 해당하는 사용자를 찾을 수 없습니다"));
             
-            if (participantRepository.existsByRouteAndUser(route, participantUser)) {
+            if (isRouteParticipant(route, participantUser.getId())) {
                 throw new RuntimeException("이미 일행으로 등록된 사용자입니다");
             }
             
             RouteParticipant participant = RouteParticipant.create(route, participantUser);
             participantRepository.save(participant);
+            route.getParticipants().add(participant);
             
-            Route updatedRoute = routeRepository.findById(routeId).orElse(route);
-            RouteResponseDto response = RouteResponseDto.from(updatedRoute);
+            RouteResponseDto response = RouteResponseDto.from(route);
             return ApiResponseDto.success("일행이 추가되었습니다", response);
             
         } catch (Exception e) {
@@ -327,6 +384,58 @@ public class RouteService {
         }
     }
     
+    /**
+     * 일행 일괄 추가
+     * 권한은 한 번만 확인하고, 사용자 존재 여부는 IN 쿼리 한 번, 추가는 여러 행 INSERT 한 번으로 처리
+     * 이미 일행인 사용자는 건너뜀
+     */
+    @Transactional
+    public ApiResponseDto<RouteResponseDto> addParticipants(Long routeId, AddParticipantsRequestDto request, User user) {
+        try {
+            Route route = routeRepository.findForResponseById(routeId)
+                    .orElseThrow(() -> new RuntimeException("루트를 찾을 수 없습니다"));
+            
+            // 권한 확인: 생성자 또는 이미 참여 중인 사용자만 일행 추가 가능
+            boolean isCreator = route.getCreator().getId().equals(user.getId());
+            if (!isCreator && !isRouteParticipant(route, user.getId())) {
+                throw new RuntimeException("일행 추가 권한이 없습니다");
+            }
+            
+            Set<Long> requestedIds = new LinkedHashSet<>();
+            for (Long userId : request.getUserIds()) {
+                if (userId == null || userId <= 0) {
+                    throw new RuntimeException("유효하지 않은 사용자 ID입니다. 사용자 ID는 1 이상이어야 합니다.");
+                }
+                requestedIds.add(userId);
+            }
+            
+            Set<Long> existingUserIds = userRepository.findAllById(requestedIds).stream()
+                    .map(User::getId)
+                    .collect(Collectors.toSet());
+            for (Long userId : requestedIds) {
+                if (!existingUserIds.contains(userId)) {
+                    throw new RuntimeException("사용자 ID " + userId + "에 해당하는 사용자를 찾을 수 없습니다");
+                }
+            }
+            
+            List<Long> newUserIds = requestedIds.stream()
+                    .filter(userId -> !isRouteParticipant(route, userId))
+                    .collect(Collectors.toList());
+            
+            if (!newUserIds.isEmpty()) {
+                insertParticipants(routeId, newUserIds);
+                route.getParticipants().addAll(participantRepository.findByRouteIdAndUserIdIn(routeId, newUserIds));
+            }
+            
+            RouteResponseDto response = RouteResponseDto.from(route);
+            return ApiResponseDto.success(newUserIds.size() + "명의 일행이 추가되었습니다", response);
+            
+        } catch (Exception e) {
+            log.error("일행 일괄 추가 실패: {}", e.getMessage(), e);
+            return ApiResponseDto.error(e.getMessage());
+        }
+    }
+    
     public ApiResponseDto<List<RouteResponseDto.ParticipantDto>> getParticipants(Long routeId, User user) {
         try {
             Route route = routeRepository.findById(routeId)
@@ -359,24 +468,41 @@ public class RouteService {
             Route route = routeRepository.findById(routeId)
                     .orElseThrow(() -> new RuntimeException("루트를 찾을 수 없습니다"));
             
-            if (!route.getCreator().getId().equals(user.getId())) {
+            Long creatorId = route.getCreator().getId();
+            if (!creatorId.equals(user.getId())) {
                 throw new RuntimeException("일행 삭제 권한이 없습니다");
             }
             
-            for (Long participantId : participantIds) {
-                RouteParticipant participant = participantRepository.findById(participantId)
-                        .orElseThrow(() -> new RuntimeException("일행을 찾을 수 없습니다: " + participantId));
-                
-                if (!participant.getRoute().getId().equals(routeId)) {
+            Set<Long> requestedIds = participantIds.stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (requestedIds.isEmpty()) {
+                return ApiResponseDto.success("일행이 삭제되었습니다", null);
+            }
+            
+            // 요청한 일행 전체를 IN 쿼리 한 번으로 검증
+            Map<Long, Object[]> found = participantRepository.findRouteAndUserIdsByIdIn(requestedIds).stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> row));
+            
+            List<Long> toDelete = new ArrayList<>();
+            for (Long participantId : requestedIds) {
+                Object[] row = found.get(participantId);
+                if (row == null) {
+                    throw new RuntimeException("일행을 찾을 수 없습니다: " + participantId);
+                }
+                if (!routeId.equals(row[1])) {
                     throw new RuntimeException("잘못된 일행 정보입니다");
                 }
-                
                 // 생성자는 삭제할 수 없음
-                if (participant.getUser().getId().equals(route.getCreator().getId())) {
+                if (creatorId.equals(row[2])) {
                     continue;
                 }
-                
-                participantRepository.delete(participant);
+                toDelete.add(participantId);
+            }
+            
+            // DELETE ... WHERE id IN (...) 한 번으로 삭제
+            if (!toDelete.isEmpty()) {
+                participantRepository.deleteAllByIdInBatch(toDelete);
             }
             
             return ApiResponseDto.success("일행이 삭제되었습니다", null);
@@ -494,6 +620,7 @@ public class RouteService {
                 .build();
 
         Place savedPlace = placeRepository.save(place);
+        placeSpatialIndex.index(savedPlace);
         log.info("Google Places 정보로 장소 생성 완료: placeId={}, name={}", savedPlace.getId(), placeName);
 
         // 사진이 있으면 PlacePhoto 추가
@@ -504,6 +631,7 @@ public class RouteService {
                     .order(0)
                     .build();
             placePhotoRepository.save(placePhoto);
+            placeThumbnailCache.evict(savedPlace.getId());
             log.info("Google Places 사진 추가: placeId={}, photoUrl={}", savedPlace.getId(), googlePlaceInfo.getPhotoUrl());
         }
 
@@ -593,7 +721,106 @@ public class RouteService {
         return upsertLocationMemo(routeId, locationId, null, user);
     }
     
-    public ApiResponseDto<ShareLinkResponseDto> getShareLink(Long routeId, User user) {
+    /**
+     * 일차별 방문 순서 최적화 (최근접 이웃 + 2-opt/Or-opt)
+     * 각 일차의 첫 장소는 출발지로 고정하고, 좌표가 없는 장소는 맨 뒤에 기존 순서대로 둠
+     * 첫 장소에 좌표가 없으면 그대로 맨 앞에 두고, 좌표가 있는 다음 장소를 출발지로 삼아 나머지를 최적화
+     * @param apply true면 계산한 순서로 displayOrder를 변경, false면 결과만 반환
+     */
+    @Transactional
+    public ApiResponseDto<RouteOptimizeResponseDto> optimizeRoute(Long routeId, boolean apply, User user) {
+        try {
+            Route route = routeRepository.findById(routeId)
+                    .orElseThrow(() -> new RuntimeException("루트를 찾을 수 없습니다"));
+
+            if (!hasRouteAccess(route, user)) {
+                throw new RuntimeException("동선 최적화 권한이 없습니다");
+            }
+
+            Map<Integer, List<RouteLocation>> locationsByDay = routeLocationRepository.findByRoute(route).stream()
+                    .sorted(Comparator.comparing(RouteLocation::getDisplayOrder)
+                            .thenComparing(RouteLocation::getId))
+                    .collect(Collectors.groupingBy(RouteLocation::getDayNumber, TreeMap::new, Collectors.toList()));
+
+            List<RouteOptimizeResponseDto.DayDto> days = new ArrayList<>();
+            double totalBefore = 0;
+            double totalAfter = 0;
+            for (Map.Entry<Integer, List<RouteLocation>> entry : locationsByDay.entrySet()) {
+                List<RouteLocation> stops = entry.getValue();
+                RouteLocation first = stops.get(0);
+                boolean firstWithoutCoordinates = first.getLatitude() == null || first.getLongitude() == null;
+
+                List<RouteLocation> withCoordinates = new ArrayList<>();
+                List<RouteLocation> withoutCoordinates = new ArrayList<>();
+                for (RouteLocation location : stops) {
+                    if (firstWithoutCoordinates && location == first) {
+                        continue;
+                    }
+                    if (location.getLatitude() != null && location.getLongitude() != null) {
+                        withCoordinates.add(location);
+                    } else {
+                        withoutCoordinates.add(location);
+                    }
+                }
+
+                int n = withCoordinates.size();
+                double[] latitudes = new double[n];
+                double[] longitudes = new double[n];
+                int[] currentOrder = new int[n];
+                for (int i = 0; i < n; i++) {
+                    latitudes[i] = withCoordinates.get(i).getLatitude().doubleValue();
+                    longitudes[i] = withCoordinates.get(i).getLongitude().doubleValue();
+                    currentOrder[i] = i;
+                }
+                double[][] distance = RouteStopOptimizer.distanceMatrix(latitudes, longitudes);
+                int[] optimizedOrder = RouteStopOptimizer.optimize(distance);
+                double before = RouteStopOptimizer.pathLength(distance, currentOrder);
+                double after = RouteStopOptimizer.pathLength(distance, optimizedOrder);
+
+                List<RouteLocation> ordered = new ArrayList<>(stops.size());
+                if (firstWithoutCoordinates) {
+                    ordered.add(first);
+                }
+                for (int index : optimizedOrder) {
+                    ordered.add(withCoordinates.get(index));
+                }
+                ordered.addAll(withoutCoordinates);
+
+                if (apply) {
+                    for (int i = 0; i < ordered.size(); i++) {
+                        ordered.get(i).updateOrder(i);
+                    }
+                }
+
+                totalBefore += before;
+                totalAfter += after;
+                days.add(RouteOptimizeResponseDto.DayDto.builder()
+                        .dayNumber(entry.getKey())
+                        .beforeDistanceMeters(Math.round(before))
+                        .afterDistanceMeters(Math.round(after))
+                        .locations(ordered.stream()
+                                .map(RouteResponseDto.LocationDto::from)
+                                .collect(Collectors.toList()))
+                        .build());
+            }
+
+            RouteOptimizeResponseDto response = RouteOptimizeResponseDto.builder()
+                    .routeId(routeId)
+                    .applied(apply)
+                    .beforeDistanceMeters(Math.round(totalBefore))
+                    .afterDistanceMeters(Math.round(totalAfter))
+                    .days(days)
+                    .build();
+            String message = apply ? "최적화된 방문 순서가 적용되었습니다" : "최적화된 방문 순서를 계산했습니다";
+            return ApiResponseDto.success(message, response);
+
+        } catch (Exception e) {
+            log.error("루트 동선 최적화 실패: {}", e.getMessage(), e);
+            return ApiResponseDto.error(e.getMessage());
+        }
+    }
+    
+    public ApiResponseDto<ShareLinkResponseDto> getShareLink(Long routeId, User user, boolean inlineQr) {
         try {
             Route route = routeRepository.findById(routeId)
                     .orElseThrow(() -> new RuntimeException("루트를 찾을 수 없습니다"));
@@ -606,13 +833,16 @@ public class RouteService {
                 throw new RuntimeException("공유 링크 접근 권한이 없습니다");
             }
             
-            String shareUrl = baseUrl + "/routes/share/" + route.getShareCode();
-            String qrCodeBase64 = QrCodeGenerator.generateQrCodeBase64(shareUrl);
+            String shareUrl = routeQrCodeCache.shareUrl(route.getShareCode());
+            // inlineQr=false면 data URI 대신 캐시된 PNG 이미지 URL만 반환
+            String qrCodeUrl = inlineQr
+                    ? getShareQrCode(route.getShareCode()).toDataUri()
+                    : routeQrCodeCache.imageUrl(route.getShareCode());
             
             ShareLinkResponseDto response = ShareLinkResponseDto.of(
                     shareUrl,
                     route.getShareCode(),
-                    qrCodeBase64
+                    qrCodeUrl
             );
             
             return ApiResponseDto.success(response);
@@ -623,9 +853,20 @@ public class RouteService {
         }
     }
     
+    /**
+     * 공유 코드의 QR 코드 PNG 조회 (공유 코드별로 캐시)
+     */
+    public RouteQrCodeCache.QrCode getShareQrCode(String shareCode) {
+        RouteQrCodeCache.QrCode qrCode = routeQrCodeCache.get(shareCode);
+        if (qrCode == null) {
+            throw new RuntimeException("루트를 찾을 수 없습니다");
+        }
+        return qrCode;
+    }
+    
     public ApiResponseDto<RouteResponseDto> getRouteByShareCode(String shareCode) {
         try {
-            Route route = routeRepository.findByShareCode(shareCode)
+            Route route = routeRepository.findForResponseByShareCode(shareCode)
                     .orElseThrow(() -> new RuntimeException("루트를 찾을 수 없습니다"));
             
             RouteResponseDto response = RouteResponseDto.from(route);
@@ -637,6 +878,28 @@ public class RouteService {
         }
     }
 
+    /**
+     * 일행 여러 명을 여러 행 INSERT 한 번으로 추가
+     * (IDENTITY 키 전략에서는 Hibernate가 INSERT를 배치로 묶지 않으므로 직접 실행)
+     */
+    private void insertParticipants(Long routeId, List<Long> userIds) {
+        Timestamp joinedAt = Timestamp.valueOf(LocalDateTime.now());
+        StringBuilder sql = new StringBuilder("INSERT INTO route_participants (route_id, user_id, joined_at) VALUES ");
+        List<Object> args = new ArrayList<>(userIds.size() * 3);
+        for (int i = 0; i < userIds.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            args.add(routeId);
+            args.add(userIds.get(i));
+            args.add(joinedAt);
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private boolean isRouteParticipant(Route route, Long userId) {
+        return route.getParticipants().stream()
+                .anyMatch(participant -> participant.getUser().getId().equals(userId));
+    }
+
     private String normalizeImageUrl(String imageUrl) {
         if (imageUrl == null) {
             return null;
@@ -679,23 +942,19 @@ public class RouteService {
         }
     }
 
-    private Comparator<Route> buildComparator(RouteSortType sortType, Map<Long, UserRoute> likedRouteMap) {
-        RouteSortType effectiveSort = sortType != null ? sortType : RouteSortType.LATEST;
+    /**
+     * 정렬 방식별 내 루트 keyset 쿼리 선택
+     * @return [Route, 관심 등록 시각(관심 루트가 아니면 null)] 형태의 Object[] 리스트
+     */
+    private List<Object[]> findMyRoutePage(Long userId, RouteSortType sortType, RouteCursor after, Pageable pageable) {
+        LocalDateTime lastSortAt = after != null ? after.getSortAt() : null;
+        Long lastRouteId = after != null ? after.getRouteId() : null;
 
-        return switch (effectiveSort) {
-            case PINNED -> Comparator
-                    .comparing((Route route) -> likedRouteMap.containsKey(route.getId()) ? 0 : 1)
-                    .thenComparing(route -> {
-                        UserRoute liked = likedRouteMap.get(route.getId());
-                        if (liked != null) {
-                            return liked.getUpdatedAt();
-                        }
-                        return route.getCreatedAt();
-                    }, Comparator.nullsLast(Comparator.reverseOrder()));
-            case OLDEST -> Comparator.comparing(Route::getCreatedAt,
-                    Comparator.nullsLast(Comparator.naturalOrder()));
-            case LATEST -> Comparator.comparing(Route::getCreatedAt,
-                    Comparator.nullsLast(Comparator.reverseOrder()));
+        return switch (sortType) {
+            case PINNED -> routeRepository.findMyRoutesPinned(userId,
+                    after != null ? after.getPinnedRank() : 0, lastSortAt, lastRouteId, pageable);
+            case OLDEST -> routeRepository.findMyRoutesOldest(userId, lastSortAt, lastRouteId, pageable);
+            case LATEST -> routeRepository.findMyRoutesLatest(userId, lastSortAt, lastRouteId, pageable);
         };
     }
 
@@ -705,40 +964,66 @@ public class RouteService {
     }
 
     /**
-     * HOT 루트 조회 (공개 루트만)
+     * HOT 루트 조회 (공개 루트만, 메모리 인기 점수 기준)
+     * 인기 점수가 있는 루트가 부족하거나 점수 적재 전이면 최신 공개 루트(좋아요 0개 포함)로 나머지를 채움
      */
     public List<HotRouteDto> getHotRoutes(int limit) {
         int fetchSize = Math.min(Math.max(limit, 1), 20);
 
-        List<Object[]> ranking = userRouteRepository.findHotRoutes(fetchSize, HOT_RECENT_DAYS, HOT_ALPHA);
-        log.info("HOT 루트 쿼리 결과: {} 개", ranking.size());
-        if (ranking.isEmpty()) {
-            log.warn("HOT 루트 없음 - 공개 루트가 없거나 좋아요가 없습니다");
+        List<Route> routes = new ArrayList<>(fetchSize);
+        if (trendingService.isReady()) {
+            // 비공개로 바뀐 루트를 건너뛸 수 있도록 여유 있게 조회
+            List<Long> rankedIds = trendingService.getTop(FavoriteType.ROUTE, fetchSize * 2).stream()
+                    .map(TrendingService.TrendingItem::getTargetId)
+                    .collect(Collectors.toList());
+            Map<Long, Route> routeMap = routeRepository.findAllById(rankedIds).stream()
+                    .filter(Route::isPublic)
+                    .collect(Collectors.toMap(Route::getId, route -> route));
+            rankedIds.stream()
+                    .map(routeMap::get)
+                    .filter(Objects::nonNull)
+                    .limit(fetchSize)
+                    .forEach(routes::add);
+        } else {
+            log.warn("인기 점수 적재 전이라 최신 공개 루트로 HOT 루트를 조회합니다");
+        }
+
+        if (routes.size() < fetchSize) {
+            Set<Long> selectedIds = routes.stream().map(Route::getId).collect(Collectors.toSet());
+            for (Route route : routeRepository.findLatestPublic(PageRequest.of(0, fetchSize + selectedIds.size()))) {
+                if (routes.size() >= fetchSize) {
+                    break;
+                }
+                if (selectedIds.add(route.getId())) {
+                    routes.add(route);
+                }
+            }
+        }
+
+        if (routes.isEmpty()) {
+            log.warn("HOT 루트 없음 - 공개 루트가 없습니다");
             return List.of();
         }
 
-        List<Long> routeIds = ranking.stream()
-                .map(row -> ((Number) row[0]).longValue())
+        List<Long> routeIds = routes.stream()
+                .map(Route::getId)
                 .collect(Collectors.toList());
 
-        Map<Long, Route> routeMap = routeRepository.findAllById(routeIds).stream()
-                .collect(Collectors.toMap(Route::getId, route -> route));
+        Map<Long, long[]> likeCounts = new HashMap<>();
+        for (Object[] row : userRouteRepository.countTotalAndRecentLikesByRouteIds(
+                routeIds, LocalDateTime.now().minusDays(HOT_RECENT_DAYS))) {
+            likeCounts.put(((Number) row[0]).longValue(), new long[]{
+                    row[1] != null ? ((Number) row[1]).longValue() : 0L,
+                    row[2] != null ? ((Number) row[2]).longValue() : 0L});
+        }
 
-        List<HotRouteDto> hotRoutes = new ArrayList<>();
+        List<HotRouteDto> hotRoutes = new ArrayList<>(routes.size());
         int rank = 1;
-        for (Object[] row : ranking) {
-            Long routeId = ((Number) row[0]).longValue();
-            Route route = routeMap.get(routeId);
-            if (route == null) {
-                log.warn("루트 ID {} 를 찾을 수 없습니다", routeId);
-                continue;
-            }
+        for (Route route : routes) {
+            long[] counts = likeCounts.getOrDefault(route.getId(), new long[]{0L, 0L});
 
-            Long totalLikes = row[1] != null ? ((Number) row[1]).longValue() : 0L;
-            Long recentLikes = row[2] != null ? ((Number) row[2]).longValue() : 0L;
-            
-            log.info("HOT 루트 순위 {}: ID={}, 제목={}, 공개={}, 총좋아요={}, 최근좋아요={}", 
-                    rank, routeId, route.getTitle(), route.isPublic(), totalLikes, recentLikes);
+            log.debug("HOT 루트 순위 {}: ID={}, 제목={}, 총좋아요={}, 최근좋아요={}",
+                    rank, route.getId(), route.getTitle(), counts[0], counts[1]);
 
             hotRoutes.add(HotRouteDto.builder()
                     .rank(rank++)
@@ -749,16 +1034,11 @@ public class RouteService {
                     .imageUrl(route.getImageUrl())
                     .creatorId(route.getCreator().getId())
                     .creatorNickname(route.getCreator().getNickname())
-                    .totalLikes(totalLikes)
-                    .recentLikes(recentLikes)
+                    .totalLikes(counts[0])
+                    .recentLikes(counts[1])
                     .build());
-
-            if (hotRoutes.size() >= limit) {
-                break;
-            }
         }
 
         return hotRoutes;
     }
 }
-
@@ -8,13 +8,12 @@ import com.google.zxing.client.j2se.MatrixToImageWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Base64;
 
 public class QrCodeGenerator {
     
     private static final int QR_CODE_SIZE = 300;
     
-    public static String generateQrCodeBase64(String text) {
+    public static byte[] generateQrCodePng(String text) {
         try {
             QRCodeWriter qrCodeWriter = new QRCodeWriter();
             BitMatrix bitMatrix = qrCodeWriter.encode(text, BarcodeFormat.QR_CODE, QR_CODE_SIZE, QR_CODE_SIZE);
@@ -22,8 +21,7 @@ public class QrCodeGenerator {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
             
-            byte[] qrCodeBytes = outputStream.toByteArray();
-            return "data:image/png;base64," + Base64.getEncoder().encodeToString(qrCodeBytes);
+            return outputStream.toByteArray();
             
         } catch (WriterException | IOException e) {
             throw new RuntimeException("QR 코드 생성 실패: " + e.getMessage(), e);
@@ -0,0 +1,58 @@
+package sandri.sandriweb.domain.route.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import sandri.sandriweb.domain.route.entity.Route;
+import sandri.sandriweb.domain.route.enums.RouteSortType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 내 루트 목록 커서 (정렬 방식, 고정 여부, 정렬 시각, 루트 ID)
+ * LATEST/OLDEST는 루트 생성 시간, PINNED는 관심 루트면 관심 등록 시각(그 외는 생성 시간)을 정렬 시각으로 담으므로
+ * 다음 페이지를 keyset 쿼리 한 번으로 조회할 수 있음
+ * 클라이언트에는 URL-safe Base64로 인코딩한 불투명 문자열로 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class RouteCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final RouteSortType sortType;
+    private final int pinnedRank; // 관심 루트 0, 그 외 1 (PINNED 정렬에서만 사용)
+    private final LocalDateTime sortAt;
+    private final Long routeId;
+
+    /**
+     * @param likedAt 관심 등록 시각 (관심 루트가 아니면 null)
+     */
+    public static RouteCursor from(RouteSortType sortType, Route route, LocalDateTime likedAt) {
+        boolean pinned = sortType == RouteSortType.PINNED && likedAt != null;
+        return new RouteCursor(sortType, pinned ? 0 : 1, pinned ? likedAt : route.getCreatedAt(), route.getId());
+    }
+
+    public String encode() {
+        String raw = sortType + DELIMITER + pinnedRank + DELIMITER + sortAt + DELIMITER + routeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석 (다른 정렬 방식으로 만든 커서는 거부)
+     */
+    public static RouteCursor decode(String token, RouteSortType sortType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 4 || RouteSortType.valueOf(parts[0]) != sortType) {
+                throw new IllegalArgumentException("커서 형식 오류");
+            }
+            return new RouteCursor(sortType, Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("유효하지 않은 커서입니다.");
+        }
+    }
+}
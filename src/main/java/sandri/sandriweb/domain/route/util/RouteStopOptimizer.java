@@ -0,0 +1,195 @@
+package sandri.sandriweb.domain.route.util;
+
+import sandri.sandriweb.global.util.GeoUtils;
+
+/**
+ * 하루 일정의 방문 순서 최적화 (출발지를 고정한 열린 경로 TSP 휴리스틱)
+ *
+ * Haversine 거리 행렬로 최근접 이웃 경로를 만든 뒤, 더 줄일 수 없을 때까지
+ * 2-opt(구간 뒤집기)와 Or-opt(1~3개 연속 구간 옮기기)로 개선한다.
+ * 첫 번째 장소(숙소, 출발지 등)는 항상 처음에 두고, 마지막 장소에서 다시 돌아오지 않는 경로 길이를 줄인다.
+ * 한 패스가 O(n²)이므로 하루 50곳 정도는 수 밀리초 안에 끝남
+ */
+public final class RouteStopOptimizer {
+
+    private static final double EPSILON = 1e-6;
+    private static final int MAX_OR_OPT_SEGMENT = 3;
+    private static final int MAX_PASSES = 100;
+
+    private RouteStopOptimizer() {
+    }
+
+    /**
+     * 위경도 목록으로 Haversine 거리 행렬(미터) 계산
+     */
+    public static double[][] distanceMatrix(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        double[][] distance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double meters = GeoUtils.haversineMeters(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+                distance[i][j] = meters;
+                distance[j][i] = meters;
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * 방문 순서 최적화
+     * @param distance 거리 행렬 (0번이 출발지)
+     * @return 방문 순서 (distance의 인덱스, 0번으로 시작)
+     */
+    public static int[] optimize(double[][] distance) {
+        int[] path = nearestNeighbor(distance);
+        if (path.length < 4) {
+            return path;
+        }
+
+        for (int pass = 0; pass < MAX_PASSES; pass++) {
+            boolean improved = twoOpt(distance, path);
+            improved |= orOpt(distance, path);
+            if (!improved) {
+                break;
+            }
+        }
+        return path;
+    }
+
+    /**
+     * 경로 길이 (미터, 마지막 장소에서 출발지로 돌아오는 거리는 제외)
+     */
+    public static double pathLength(double[][] distance, int[] path) {
+        double length = 0;
+        for (int i = 1; i < path.length; i++) {
+            length += distance[path[i - 1]][path[i]];
+        }
+        return length;
+    }
+
+    private static int[] nearestNeighbor(double[][] distance) {
+        int n = distance.length;
+        int[] path = new int[n];
+        boolean[] visited = new boolean[n];
+        if (n == 0) {
+            return path;
+        }
+        visited[0] = true;
+        for (int i = 1; i < n; i++) {
+            int from = path[i - 1];
+            int nearest = -1;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (!visited[candidate] && (nearest < 0 || distance[from][candidate] < distance[from][nearest])) {
+                    nearest = candidate;
+                }
+            }
+            path[i] = nearest;
+            visited[nearest] = true;
+        }
+        return path;
+    }
+
+    /**
+     * 2-opt: path[i..j] 구간을 뒤집어 줄어들면 적용 (출발지 path[0]은 고정)
+     */
+    private static boolean twoOpt(double[][] distance, int[] path) {
+        int n = path.length;
+        boolean improved = false;
+        for (int i = 1; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int before = path[i - 1];
+                int first = path[i];
+                int last = path[j];
+                double delta = distance[before][last] - distance[before][first];
+                if (j < n - 1) {
+                    int after = path[j + 1];
+                    delta += distance[first][after] - distance[last][after];
+                }
+                if (delta < -EPSILON) {
+                    reverse(path, i, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Or-opt: 길이 1~3의 연속 구간을 다른 두 장소 사이(또는 맨 끝)로 옮기며, 뒤집어 넣는 경우도 확인
+     * 구간 이동 방향별 동작을 단독으로 검증할 수 있도록 package-private
+     */
+    static boolean orOpt(double[][] distance, int[] path) {
+        int n = path.length;
+        boolean improved = false;
+        for (int length = 1; length <= MAX_OR_OPT_SEGMENT; length++) {
+            for (int i = 1; i + length - 1 < n; i++) {
+                int end = i + length - 1;
+                int prev = path[i - 1];
+                int first = path[i];
+                int last = path[end];
+
+                // 구간을 빼면서 줄어드는 거리
+                double removeGain = distance[prev][first];
+                if (end < n - 1) {
+                    int next = path[end + 1];
+                    removeGain += distance[last][next] - distance[prev][next];
+                }
+
+                for (int j = 0; j < n; j++) {
+                    if (j >= i - 1 && j <= end) {
+                        continue;
+                    }
+                    // path[j]와 path[j + 1] 사이(j가 마지막이면 맨 끝)에 넣을 때 늘어나는 거리
+                    int left = path[j];
+                    boolean atEnd = j == n - 1;
+                    double forward = distance[left][first];
+                    double reversed = distance[left][last];
+                    if (!atEnd) {
+                        int right = path[j + 1];
+                        forward += distance[last][right] - distance[left][right];
+                        reversed += distance[first][right] - distance[left][right];
+                    }
+
+                    boolean reverse = reversed < forward;
+                    double insertCost = reverse ? reversed : forward;
+                    if (insertCost - removeGain < -EPSILON) {
+                        moveSegment(path, i, end, j, reverse);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    private static void reverse(int[] path, int from, int to) {
+        while (from < to) {
+            int temp = path[from];
+            path[from++] = path[to];
+            path[to--] = temp;
+        }
+    }
+
+    /**
+     * path[from..to] 구간을 path[target] 바로 뒤로 옮김 (reverse면 뒤집어서)
+     */
+    private static void moveSegment(int[] path, int from, int to, int target, boolean reverse) {
+        int length = to - from + 1;
+        int[] segment = new int[length];
+        System.arraycopy(path, from, segment, 0, length);
+        if (reverse) {
+            reverse(segment, 0, length - 1);
+        }
+
+        if (target > to) {
+            // 구간 뒤의 장소들을 앞으로 당기고 빈 자리에 구간을 넣음
+            System.arraycopy(path, to + 1, path, from, target - to);
+            System.arraycopy(segment, 0, path, target - length + 1, length);
+        } else {
+            // 구간 앞의 장소들을 뒤로 밀고 빈 자리에 구간을 넣음
+            System.arraycopy(path, target + 1, path, target + 1 + length, from - target - 1);
+            System.arraycopy(segment, 0, path, target + 1, length);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +18,8 @@ import sandri.sandriweb.domain.user.dto.ApiResponseDto;
 import sandri.sandriweb.domain.user.entity.User;
 import sandri.sandriweb.domain.user.repository.UserRepository;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -28,6 +31,7 @@ public class SearchController {
 
     private final SearchService searchService;
     private final UserRepository userRepository;
+    private final Clock clock;
 
     @GetMapping("/places/search")
     @Operation(summary = "장소 검색", 
@@ -48,9 +52,14 @@ public class SearchController {
             @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "페이지 크기", example = "10")
             @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "지금 영업 중인 장소만 조회 (영업시간 정보가 없는 장소와 Google 보충 결과는 제외)", example = "false")
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @Parameter(description = "이 시각에 영업 중인 장소만 조회 (ISO-8601, openNow보다 우선)", example = "2025-05-01T14:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
             Authentication authentication) {
 
-        log.info("장소 검색 요청: keyword={}, category={}, page={}, size={}", keyword, category, page, size);
+        log.info("장소 검색 요청: keyword={}, category={}, page={}, size={}, openNow={}, openAt={}",
+                keyword, category, page, size, openNow, openAt);
 
         try {
             Long userId = null;
@@ -59,7 +68,8 @@ public class SearchController {
                 userId = user != null ? user.getId() : null;
             }
 
-            PlaceSearchResponseDto response = searchService.searchPlaces(keyword, category, page, size, userId);
+            LocalDateTime openFilterAt = openAt != null ? openAt : (openNow ? LocalDateTime.now(clock) : null);
+            PlaceSearchResponseDto response = searchService.searchPlaces(keyword, category, page, size, userId, openFilterAt);
             return ResponseEntity.ok(ApiResponseDto.success(response));
         } catch (Exception e) {
             log.error("장소 검색 중 오류 발생: ", e);
@@ -257,6 +267,32 @@ public class SearchController {
         }
     }
 
+    @GetMapping("/search/suggest")
+    @Operation(summary = "검색어 자동완성",
+               description = "입력 중인 검색어로 시작하는 장소 이름, 공개 루트 제목, 인기 검색어를 좋아요 많은 순으로 조회합니다. " +
+                             "초성 검색을 지원합니다. (예: ㄴㅁㅈ → 남매지) " +
+                             "키 입력마다 호출하는 용도로, 검색 로그를 남기지 않으며 몇 분 주기로 갱신되는 메모리 인덱스만 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<ApiResponseDto<List<SearchSuggestionDto>>> suggest(
+            @Parameter(description = "입력 중인 검색어 (초성 가능)", example = "ㄴㅁㅈ", required = true)
+            @RequestParam String q,
+            @Parameter(description = "최대 개수 (최대 10)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        log.debug("검색어 자동완성 요청: q={}, limit={}", q, limit);
+
+        try {
+            List<SearchSuggestionDto> response = searchService.suggest(q, limit);
+            return ResponseEntity.ok(ApiResponseDto.success(response));
+        } catch (Exception e) {
+            log.error("검색어 자동완성 중 오류 발생: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error("검색어 자동완성 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/categories")
     @Operation(summary = "카테고리 목록 조회", 
                description = "장소 검색에 사용할 수 있는 카테고리 목록을 조회합니다.")
@@ -30,6 +30,9 @@ public class PlaceSearchResponseDto {
     @Schema(description = "다음 페이지 존재 여부", example = "true")
     private Boolean hasNext;
 
+    @Schema(description = "Google 보충 검색이 제한 시간 안에 끝나지 않아 DB 결과만 포함되었는지 여부 (잠시 후 다시 검색하면 보충 결과 포함)", example = "false")
+    private Boolean partial;
+
     @Getter
     @Builder
     @NoArgsConstructor
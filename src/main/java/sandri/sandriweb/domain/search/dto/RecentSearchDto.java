@@ -25,7 +25,7 @@ public class RecentSearchDto {
     @Schema(description = "검색 타입 (PLACE, ROUTE)", example = "PLACE")
     private String searchType;
 
-    @Schema(description = "검색 일시", example = "2025-06-15T10:30:00")
+    @Schema(description = "검색 일시 (같은 검색어를 다시 검색하면 갱신)", example = "2025-06-15T10:30:00")
     private LocalDateTime createdAt;
 
     public static RecentSearchDto from(RecentSearch recentSearch) {
@@ -33,7 +33,7 @@ public class RecentSearchDto {
                 .id(recentSearch.getId())
                 .keyword(recentSearch.getKeyword())
                 .searchType(recentSearch.getSearchType().name())
-                .createdAt(recentSearch.getCreatedAt())
+                .createdAt(recentSearch.getUpdatedAt())
                 .build();
     }
 }
@@ -0,0 +1,36 @@
+package sandri.sandriweb.domain.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "검색 로그 일괄 저장 통계 DTO")
+public class SearchLogWriterStatsDto {
+
+    @Schema(description = "현재 큐에 쌓인 로그 수", example = "35")
+    private Integer queueDepth;
+
+    @Schema(description = "큐 최대 크기", example = "10000")
+    private Integer queueCapacity;
+
+    @Schema(description = "큐에 넣은 누적 로그 수", example = "120000")
+    private Long enqueuedCount;
+
+    @Schema(description = "DB에 저장된 누적 로그 수", example = "119965")
+    private Long writtenCount;
+
+    @Schema(description = "큐가 가득 차 버린 누적 로그 수", example = "0")
+    private Long droppedCount;
+
+    @Schema(description = "저장 실패로 버린 누적 로그 수", example = "0")
+    private Long failedCount;
+
+    @Schema(description = "실행한 일괄 INSERT 횟수", example = "850")
+    private Long batchCount;
+}
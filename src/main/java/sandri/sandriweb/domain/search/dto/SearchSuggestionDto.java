@@ -0,0 +1,27 @@
+package sandri.sandriweb.domain.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "검색어 자동완성 항목 DTO")
+public class SearchSuggestionDto {
+
+    @Schema(description = "항목 종류 (PLACE, ROUTE, KEYWORD)", example = "PLACE")
+    private String type;
+
+    @Schema(description = "장소 ID 또는 루트 ID (KEYWORD는 null)", example = "1")
+    private Long id;
+
+    @Schema(description = "자동완성 텍스트 (장소 이름, 루트 제목, 인기 검색어)", example = "남매지")
+    private String text;
+
+    @Schema(description = "좋아요 수 (KEYWORD는 검색 횟수)", example = "42")
+    private long likeCount;
+}
@@ -11,9 +11,13 @@ import sandri.sandriweb.global.entity.BaseEntity;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "recent_searches", indexes = {
-    @Index(name = "idx_user_id_created_at", columnList = "user_id, created_at DESC")
-})
+@Table(name = "recent_searches",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recent_search_user_keyword_type", columnNames = {"user_id", "keyword", "search_type"})
+    },
+    indexes = {
+        @Index(name = "idx_user_id_updated_at", columnList = "user_id, updated_at DESC")
+    })
 public class RecentSearch extends BaseEntity {
 
     @Id
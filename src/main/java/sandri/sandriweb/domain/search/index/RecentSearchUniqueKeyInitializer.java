@@ -0,0 +1,54 @@
+package sandri.sandriweb.domain.search.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * recent_searches (user_id, keyword, search_type) 유니크 키 생성
+ * 이전에는 같은 검색어를 비활성화하고 새 행을 추가했으므로 중복 행이 남아 있으면 ddl-auto(update)가 유니크 키를 만들지 못함
+ * 애플리케이션 시작 시 유니크 키가 없으면 비활성 행과 중복 행(가장 최근 행만 남김)을 지우고 생성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecentSearchUniqueKeyInitializer {
+
+    private static final String INDEX_NAME = "uk_recent_search_user_keyword_type";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void createUniqueKeyIfMissing() {
+        try {
+            Integer indexCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'recent_searches' AND INDEX_NAME = ?",
+                    Integer.class, INDEX_NAME);
+
+            if (indexCount != null && indexCount > 0) {
+                return;
+            }
+
+            int disabled = jdbcTemplate.update("DELETE FROM recent_searches WHERE enabled = false");
+            int duplicated = jdbcTemplate.update(
+                    "DELETE rs FROM recent_searches rs " +
+                    "JOIN recent_searches newer ON newer.user_id = rs.user_id " +
+                    "AND newer.keyword = rs.keyword " +
+                    "AND newer.search_type = rs.search_type " +
+                    "AND newer.recent_search_id > rs.recent_search_id");
+
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + INDEX_NAME +
+                    " ON recent_searches (user_id, keyword, search_type)");
+            log.info("최근 검색어 유니크 키 생성 완료: 비활성 행 {}건, 중복 행 {}건 삭제", disabled, duplicated);
+        } catch (Exception e) {
+            // 유니크 키가 없으면 같은 검색어가 여러 행으로 쌓일 수 있으나 조회는 계속 가능
+            log.error("최근 검색어 유니크 키 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package sandri.sandriweb.domain.search.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sandri.sandriweb.domain.place.index.PlaceSearchIndex;
+import sandri.sandriweb.domain.place.repository.PlaceRepository;
+import sandri.sandriweb.domain.route.repository.RouteRepository;
+import sandri.sandriweb.domain.search.dto.SearchSuggestionDto;
+import sandri.sandriweb.domain.search.entity.PopularSearch;
+import sandri.sandriweb.domain.search.repository.PopularSearchRepository;
+import sandri.sandriweb.global.util.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어 자동완성 인덱스 (장소 이름, 공개 루트 제목, 인기 검색어의 접두사 트라이)
+ *
+ * 일반 텍스트 트라이와 초성 트라이("ㄴㅁㅈ" → 남매지) 두 개를 주기적으로 DB에서 새로 만들어 통째로 교체하며,
+ * 노드마다 하위 항목 중 좋아요 순 상위 MAX_SUGGESTIONS개를 미리 계산해 두므로
+ * 요청 처리 시에는 DB나 로그 테이블에 접근하지 않고 검색어 길이만큼 노드를 따라가기만 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Suggestion> BY_LIKES = Comparator
+            .comparingLong((Suggestion suggestion) -> suggestion.likeCount).reversed()
+            .thenComparing(suggestion -> suggestion.text);
+
+    private final PlaceRepository placeRepository;
+    private final RouteRepository routeRepository;
+    private final PopularSearchRepository popularSearchRepository;
+
+    private volatile Node textRoot = Node.EMPTY;
+    private volatile Node chosungRoot = Node.EMPTY;
+
+    /**
+     * 애플리케이션 시작 시 자동완성 트라이 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 주기적으로 트라이 재구성 (장소/루트 추가, 좋아요 수, 인기 검색어 변화 반영)
+     */
+    @Scheduled(fixedDelayString = "${app.search-suggest.reload-minutes:10}",
+               initialDelayString = "${app.search-suggest.reload-minutes:10}",
+               timeUnit = TimeUnit.MINUTES)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reload() {
+        try {
+            List<Suggestion> suggestions = new ArrayList<>();
+            for (Object[] row : placeRepository.findAllEnabledNamesWithLikeCount()) {
+                suggestions.add(new Suggestion("PLACE", (Long) row[0], (String) row[1], toLong(row[2])));
+            }
+            for (Object[] row : routeRepository.findPublicTitlesWithLikeCount()) {
+                suggestions.add(new Suggestion("ROUTE", (Long) row[0], (String) row[1], toLong(row[2])));
+            }
+            Set<String> keywords = new HashSet<>();
+            for (PopularSearch popularSearch : popularSearchRepository.findLatestPopularSearches()) {
+                if (keywords.add(popularSearch.getKeyword())) {
+                    suggestions.add(new Suggestion("KEYWORD", null, popularSearch.getKeyword(),
+                            toLong(popularSearch.getSearchCount())));
+                }
+            }
+
+            BuildNode text = new BuildNode();
+            BuildNode chosung = new BuildNode();
+            for (Suggestion suggestion : suggestions) {
+                String key = PlaceSearchIndex.normalize(suggestion.text);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                text.insert(key, suggestion);
+                chosung.insert(HangulUtils.toChosung(key), suggestion);
+            }
+
+            textRoot = text.freeze();
+            chosungRoot = chosung.freeze();
+            log.info("검색어 자동완성 인덱스 구성 완료: {}개 항목", suggestions.size());
+        } catch (Exception e) {
+            log.error("검색어 자동완성 인덱스 구성 실패 (이전 인덱스 유지): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 접두사 자동완성 (좋아요 많은 순)
+     * 검색어에 초성 자음(ㄱ~ㅎ)이 있으면 초성 트라이에서, 없으면 텍스트 트라이에서 찾는다.
+     * @param query 입력 중인 검색어
+     * @param limit 최대 개수 (1 ~ MAX_SUGGESTIONS)
+     * @return 자동완성 목록
+     */
+    public List<SearchSuggestionDto> suggest(String query, int limit) {
+        String key = PlaceSearchIndex.normalize(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node;
+        if (HangulUtils.containsChosung(key)) {
+            node = chosungRoot.find(HangulUtils.toChosung(key));
+        } else {
+            node = textRoot.find(key);
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(node.top)
+                .limit(Math.max(1, Math.min(limit, MAX_SUGGESTIONS)))
+                .map(suggestion -> SearchSuggestionDto.builder()
+                        .type(suggestion.type)
+                        .id(suggestion.id)
+                        .text(suggestion.text)
+                        .likeCount(suggestion.likeCount)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    private static class Suggestion {
+        private final String type;
+        private final Long id;
+        private final String text;
+        private final long likeCount;
+
+        Suggestion(String type, Long id, String text, long likeCount) {
+            this.type = type;
+            this.id = id;
+            this.text = text;
+            this.likeCount = likeCount;
+        }
+    }
+
+    /**
+     * 구성용 트라이 노드 (구성이 끝나면 freeze로 조회용 노드로 변환)
+     */
+    private static class BuildNode {
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private final List<Suggestion> terminals = new ArrayList<>(1);
+
+        void insert(String key, Suggestion suggestion) {
+            BuildNode node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            node.terminals.add(suggestion);
+        }
+
+        /**
+         * 자식부터 변환하면서 자신의 항목 + 자식들의 상위 항목 중 상위 MAX_SUGGESTIONS개를 계산
+         */
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            List<Suggestion> candidates = new ArrayList<>(terminals);
+            int i = 0;
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().freeze();
+                candidates.addAll(Arrays.asList(nodes[i].top));
+                i++;
+            }
+            Suggestion[] top = candidates.stream()
+                    .sorted(BY_LIKES)
+                    .limit(MAX_SUGGESTIONS)
+                    .toArray(Suggestion[]::new);
+            return new Node(keys, nodes, top);
+        }
+    }
+
+    /**
+     * 조회용 트라이 노드 (불변, 자식은 문자 오름차순 배열로 보관하여 이진 탐색)
+     */
+    private static class Node {
+        private static final Node EMPTY = new Node(new char[0], new Node[0], new Suggestion[0]);
+
+        private final char[] keys;
+        private final Node[] children;
+        private final Suggestion[] top;
+
+        Node(char[] keys, Node[] children, Suggestion[] top) {
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node find(String prefix) {
+            Node node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                int index = Arrays.binarySearch(node.keys, prefix.charAt(i));
+                node = index >= 0 ? node.children[index] : null;
+            }
+            return node;
+        }
+    }
+}
@@ -21,21 +21,11 @@ public interface PopularSearchRepository extends JpaRepository<PopularSearch, Lo
     List<PopularSearch> findLatestPopularSearches();
 
     /**
-     * 이전 집계 결과 조회 (순위 변동 계산용)
-     * @return 이전 인기 검색어 목록
-     */
-    @Query("SELECT ps FROM PopularSearch ps " +
-           "WHERE ps.enabled = true " +
-           "AND ps.aggregatedAt < (SELECT MAX(ps2.aggregatedAt) FROM PopularSearch ps2 WHERE ps2.enabled = true) " +
-           "ORDER BY ps.aggregatedAt DESC, ps.rank ASC " +
-           "LIMIT 5")
-    List<PopularSearch> findPreviousPopularSearches();
-
-    /**
-     * 이전 집계 결과 비활성화 (새 집계 결과 저장 전)
+     * 저장된 인기 검색어 전체 삭제 (새 순위 저장 전, 같은 트랜잭션에서 사용)
+     * 순위 변동은 엔진이 메모리에서 계산하므로 이전 저장분을 남길 필요가 없음
+     * @return 삭제된 행 수
      */
     @Modifying
-    @Query("UPDATE PopularSearch ps SET ps.enabled = false WHERE ps.enabled = true")
-    void disableAllPopularSearches();
+    @Query("DELETE FROM PopularSearch ps")
+    int deleteAllPopularSearches();
 }
-
@@ -2,77 +2,79 @@ package sandri.sandriweb.domain.search.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import sandri.sandriweb.domain.search.entity.PopularSearch;
 import sandri.sandriweb.domain.search.repository.PopularSearchRepository;
-import sandri.sandriweb.domain.search.repository.SearchLogRepository;
+import sandri.sandriweb.domain.search.service.PopularSearchEngine;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * 인기 검색어 저장 스케줄러
+ * 순위는 PopularSearchEngine이 검색마다 실시간으로 계산하므로, 여기서는 현재 순위를 주기적으로 저장만 한다.
+ * (재시작 시 복원 및 자동완성 인덱스의 인기 검색어 원본으로 사용)
+ *
+ * 저장할 때마다 이전 행을 모두 지우고 현재 순위만 남기므로 테이블은 항상 최대 10행이다.
+ * 순위는 인스턴스별 메모리 스케치로 계산되므로 여러 인스턴스로 실행하면 각 인스턴스가 자신이 받은 검색만으로
+ * 계산한 순위를 번갈아 덮어쓴다 (마지막으로 저장한 인스턴스의 순위가 남음). 트래픽이 인스턴스에 고르게 분산되면
+ * 순위 자체는 비슷하지만 검색 수는 인스턴스 수만큼 작게 저장된다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PopularSearchScheduler {
 
-    private final SearchLogRepository searchLogRepository;
     private final PopularSearchRepository popularSearchRepository;
+    private final PopularSearchEngine popularSearchEngine;
 
-    private static final int POPULAR_SEARCH_COUNT = 5;
-    private static final int HOURS_24 = 24;
+    private static final int POPULAR_SEARCH_COUNT = 10;
 
-    @Scheduled(cron = "0 0 */6 * * *")
+    @Scheduled(fixedDelayString = "${app.popular-search.persist-minutes:10}",
+               initialDelayString = "${app.popular-search.persist-minutes:10}",
+               timeUnit = TimeUnit.MINUTES)
     @Transactional
     public void aggregatePopularSearches() {
-        log.info("인기 검색어 집계 시작");
-
         try {
-            LocalDateTime startTime = LocalDateTime.now().minusHours(HOURS_24);
-            List<Object[]> searchCounts = searchLogRepository.countSearchesByKeyword(startTime);
-
-            if (searchCounts.isEmpty()) {
-                log.info("집계할 검색 로그가 없습니다.");
+            List<PopularSearchEngine.RankedKeyword> ranking = popularSearchEngine.getTop(POPULAR_SEARCH_COUNT);
+            if (ranking.isEmpty()) {
+                log.debug("저장할 인기 검색어가 없습니다.");
                 return;
             }
 
-            List<PopularSearch> previousSearches = popularSearchRepository.findPreviousPopularSearches();
-            Map<String, Integer> previousRankMap = new HashMap<>();
-            previousSearches.forEach(ps -> previousRankMap.put(ps.getKeyword(), ps.getRank()));
-
-            popularSearchRepository.disableAllPopularSearches();
+            int deleted = popularSearchRepository.deleteAllPopularSearches();
 
             LocalDateTime aggregatedAt = LocalDateTime.now();
-            AtomicInteger rankCounter = new AtomicInteger(1);
-            List<PopularSearch> newPopularSearches = searchCounts.stream()
-                    .limit(POPULAR_SEARCH_COUNT)
-                    .map(result -> {
-                        String keyword = (String) result[0];
-                        Long searchCount = ((Number) result[1]).longValue();
-                        Integer previousRank = previousRankMap.get(keyword);
-                        int currentRank = rankCounter.getAndIncrement();
-                        
-                        return PopularSearch.builder()
-                                .rank(currentRank)
-                                .keyword(keyword)
-                                .searchCount(searchCount)
-                                .previousRank(previousRank)
-                                .aggregatedAt(aggregatedAt)
-                                .build();
-                    })
+            List<PopularSearch> newPopularSearches = ranking.stream()
+                    .map(ranked -> PopularSearch.builder()
+                            .rank(ranked.getRank())
+                            .keyword(ranked.getKeyword())
+                            .searchCount(ranked.getSearchCount())
+                            .previousRank(ranked.getPreviousRank())
+                            .aggregatedAt(aggregatedAt)
+                            .build())
                     .collect(Collectors.toList());
 
             popularSearchRepository.saveAll(newPopularSearches);
 
-            log.info("인기 검색어 집계 완료: {}개 키워드", newPopularSearches.size());
+            log.info("인기 검색어 저장 완료: {}개 키워드 (이전 {}행 삭제)", newPopularSearches.size(), deleted);
         } catch (Exception e) {
-            log.error("인기 검색어 집계 중 오류 발생", e);
+            log.error("인기 검색어 저장 중 오류 발생", e);
         }
     }
-}
 
+    /**
+     * 종료 시 마지막 순위 저장
+     */
+    @EventListener(ContextClosedEvent.class)
+    @Transactional
+    public void aggregateOnShutdown() {
+        aggregatePopularSearches();
+    }
+}
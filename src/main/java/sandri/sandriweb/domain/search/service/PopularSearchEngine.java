@@ -0,0 +1,272 @@
+package sandri.sandriweb.domain.search.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import sandri.sandriweb.domain.search.entity.PopularSearch;
+import sandri.sandriweb.domain.search.repository.PopularSearchRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 실시간 인기 검색어 엔진 (최근 24시간 슬라이딩 윈도우)
+ *
+ * 검색마다 키워드를 시간별 Count-Min Sketch 버킷에 더하고, 24개 버킷의 합계 스케치로 최근 24시간 검색 수를 추정한다.
+ * 시간이 지나 버킷이 만료되면 합계 스케치에서 빼고 비우므로 search_logs 전체 스캔이 필요 없다.
+ * 추정치가 높은 키워드만 최소 힙(top-K 후보)으로 추적하여 순위를 계산한다.
+ *
+ * 순위 변동은 한 시간 전(버킷이 바뀌기 직전) 순위와 비교하며,
+ * 주기적으로 popular_searches 테이블에 저장하여 재시작 시 후보와 이전 순위를 복원한다.
+ * 스케치는 인스턴스마다 따로 유지되므로 순위는 해당 인스턴스가 받은 검색 기준이다 (PopularSearchScheduler 참고).
+ */
+@Component
+@Slf4j
+public class PopularSearchEngine {
+
+    private static final int WINDOW_HOURS = 24;
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    private static final Comparator<Candidate> BY_COUNT_ASC = Comparator
+            .comparingLong((Candidate candidate) -> candidate.count)
+            .thenComparing(candidate -> candidate.keyword, Comparator.reverseOrder());
+
+    private final PopularSearchRepository popularSearchRepository;
+    private final int trackedKeywords;
+
+    // 시간별 스케치 (시각 / 1시간 % 24 위치에 저장) 및 24개 버킷 합계
+    private final long[][][] buckets = new long[WINDOW_HOURS][SKETCH_DEPTH][SKETCH_WIDTH];
+    private final long[][] window = new long[SKETCH_DEPTH][SKETCH_WIDTH];
+    private long currentHour = System.currentTimeMillis() / MILLIS_PER_HOUR;
+
+    // top-K 후보 (추정 검색 수가 가장 작은 후보가 힙의 맨 앞)
+    private final Map<String, Candidate> candidates = new HashMap<>();
+    private final PriorityQueue<Candidate> minHeap = new PriorityQueue<>(BY_COUNT_ASC);
+
+    // 한 시간 전 순위 (순위 변동 계산용)
+    private Map<String, Integer> previousRanks = new HashMap<>();
+
+    public PopularSearchEngine(PopularSearchRepository popularSearchRepository,
+                               @Value("${app.popular-search.tracked-keywords:100}") int trackedKeywords) {
+        this.popularSearchRepository = popularSearchRepository;
+        this.trackedKeywords = Math.max(trackedKeywords, 10);
+    }
+
+    /**
+     * 애플리케이션 시작 시 마지막으로 저장된 인기 검색어로 후보와 이전 순위 복원
+     * (저장된 검색 수는 현재 시간 버킷에 넣으므로 24시간 뒤 만료됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void load() {
+        try {
+            List<PopularSearch> saved = popularSearchRepository.findLatestPopularSearches();
+            synchronized (this) {
+                Map<String, Integer> ranks = new HashMap<>();
+                for (PopularSearch popularSearch : saved) {
+                    String keyword = normalize(popularSearch.getKeyword());
+                    if (keyword == null || ranks.containsKey(keyword)) {
+                        continue;
+                    }
+                    ranks.put(keyword, popularSearch.getRank());
+                    long count = popularSearch.getSearchCount() != null ? popularSearch.getSearchCount() : 0L;
+                    if (count > 0) {
+                        add(keyword, count);
+                    }
+                }
+                previousRanks = ranks;
+            }
+            log.info("인기 검색어 엔진 복원 완료: {}개 키워드", saved.size());
+        } catch (Exception e) {
+            log.error("인기 검색어 엔진 복원 실패 (빈 상태로 시작): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 검색 1회 반영
+     */
+    public void record(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized == null) {
+            return;
+        }
+        synchronized (this) {
+            add(normalized, 1L);
+        }
+    }
+
+    /**
+     * 현재 인기 검색어 순위 (최근 24시간 추정 검색 수 순)
+     * @param limit 조회 개수
+     * @return 순위 목록 (1위부터)
+     */
+    public synchronized List<RankedKeyword> getTop(int limit) {
+        advanceTo(System.currentTimeMillis() / MILLIS_PER_HOUR);
+        List<Candidate> sorted = sortedCandidates();
+
+        List<RankedKeyword> result = new ArrayList<>(Math.min(limit, sorted.size()));
+        for (int i = 0; i < sorted.size() && result.size() < limit; i++) {
+            Candidate candidate = sorted.get(i);
+            result.add(new RankedKeyword(i + 1, candidate.keyword, candidate.count,
+                    previousRanks.get(candidate.keyword)));
+        }
+        return result;
+    }
+
+    /**
+     * 키워드 정규화 (앞뒤 공백 제거, 연속 공백 하나로, 최대 100자)
+     */
+    private static String normalize(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+        String normalized = keyword.trim().replaceAll("\\s+", " ");
+        return normalized.length() > MAX_KEYWORD_LENGTH ? normalized.substring(0, MAX_KEYWORD_LENGTH) : normalized;
+    }
+
+    private void add(String keyword, long count) {
+        long hour = System.currentTimeMillis() / MILLIS_PER_HOUR;
+        advanceTo(hour);
+
+        long[][] bucket = buckets[(int) (hour % WINDOW_HOURS)];
+        int hash = keyword.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            int column = column(hash, row);
+            bucket[row][column] += count;
+            window[row][column] += count;
+            estimate = Math.min(estimate, window[row][column]);
+        }
+        offer(keyword, estimate);
+    }
+
+    /**
+     * 추정치로 후보 갱신 (후보가 가득 차면 가장 작은 후보보다 클 때만 교체)
+     */
+    private void offer(String keyword, long estimate) {
+        Candidate existing = candidates.get(keyword);
+        if (existing != null) {
+            minHeap.remove(existing);
+            existing.count = estimate;
+            minHeap.add(existing);
+            return;
+        }
+
+        if (candidates.size() >= trackedKeywords) {
+            Candidate smallest = minHeap.peek();
+            if (smallest == null || smallest.count >= estimate) {
+                return;
+            }
+            minHeap.poll();
+            candidates.remove(smallest.keyword);
+        }
+        Candidate candidate = new Candidate(keyword, estimate);
+        candidates.put(keyword, candidate);
+        minHeap.add(candidate);
+    }
+
+    /**
+     * 시간이 바뀌었으면 지난 순위를 이전 순위로 남기고, 윈도우를 벗어난 버킷을 합계에서 빼고 비움
+     */
+    private void advanceTo(long hour) {
+        if (hour <= currentHour) {
+            return;
+        }
+
+        Map<String, Integer> ranks = new HashMap<>();
+        List<Candidate> sorted = sortedCandidates();
+        for (int i = 0; i < sorted.size(); i++) {
+            ranks.put(sorted.get(i).keyword, i + 1);
+        }
+        previousRanks = ranks;
+
+        long steps = Math.min(hour - currentHour, WINDOW_HOURS);
+        for (long h = hour - steps + 1; h <= hour; h++) {
+            long[][] expired = buckets[(int) (h % WINDOW_HOURS)];
+            for (int row = 0; row < SKETCH_DEPTH; row++) {
+                for (int column = 0; column < SKETCH_WIDTH; column++) {
+                    window[row][column] -= expired[row][column];
+                    expired[row][column] = 0L;
+                }
+            }
+        }
+        currentHour = hour;
+
+        // 만료된 검색 수를 빼고 후보 추정치 재계산 (0이 된 후보는 제거)
+        minHeap.clear();
+        candidates.values().removeIf(candidate -> {
+            candidate.count = estimate(candidate.keyword);
+            return candidate.count <= 0;
+        });
+        minHeap.addAll(candidates.values());
+    }
+
+    private long estimate(String keyword) {
+        int hash = keyword.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            estimate = Math.min(estimate, window[row][column(hash, row)]);
+        }
+        return estimate;
+    }
+
+    private List<Candidate> sortedCandidates() {
+        List<Candidate> sorted = new ArrayList<>(candidates.values());
+        sorted.sort(BY_COUNT_ASC.reversed());
+        return sorted;
+    }
+
+    /**
+     * 행마다 다른 해시로 열 위치 계산
+     */
+    private static int column(int hash, int row) {
+        int h = hash * 0x9E3779B9 + (row + 1) * 0x85EBCA6B;
+        h ^= h >>> 16;
+        h *= 0x7FEB352D;
+        h ^= h >>> 15;
+        h *= 0x846CA68B;
+        h ^= h >>> 16;
+        return (h & Integer.MAX_VALUE) % SKETCH_WIDTH;
+    }
+
+    private static class Candidate {
+        private final String keyword;
+        private long count;
+
+        Candidate(String keyword, long count) {
+            this.keyword = keyword;
+            this.count = count;
+        }
+    }
+
+    /**
+     * 순위가 매겨진 인기 검색어
+     */
+    @Getter
+    public static class RankedKeyword {
+        private final int rank;
+        private final String keyword;
+        private final long searchCount;
+        private final Integer previousRank; // 한 시간 전 순위 (순위 밖이었으면 null)
+
+        RankedKeyword(int rank, String keyword, long searchCount, Integer previousRank) {
+            this.rank = rank;
+            this.keyword = keyword;
+            this.searchCount = searchCount;
+            this.previousRank = previousRank;
+        }
+    }
+}
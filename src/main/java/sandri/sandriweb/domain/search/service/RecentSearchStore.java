@@ -0,0 +1,300 @@
+package sandri.sandriweb.domain.search.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import sandri.sandriweb.domain.search.dto.RecentSearchDto;
+import sandri.sandriweb.domain.search.entity.RecentSearch;
+import sandri.sandriweb.domain.search.repository.RecentSearchRepository;
+import sandri.sandriweb.global.cache.CacheRegistry;
+import sandri.sandriweb.global.cache.LruTtlCache;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 최근 검색어 저장소
+ *
+ * 사용자마다 최근 MAX_RECENT_SEARCHES개를 링 버퍼로 캐시에 보관하여 조회는 DB 없이 버퍼 복사만 한다.
+ * 추가는 (user_id, keyword, search_type) 유니크 키에 대한 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 끝나고
+ * (기존 행이면 LAST_INSERT_ID(recent_search_id)로 그 ID를 생성 키로 돌려받음),
+ * 버퍼에서 검색어가 밀려나면 전용 스레드가 그 사용자의 최신 MAX_RECENT_SEARCHES개를 제외한 행을 지워
+ * 테이블에는 사용자당 최대 개수 정도만 남는다.
+ */
+@Component
+@Slf4j
+public class RecentSearchStore {
+
+    public static final int MAX_RECENT_SEARCHES = 10;
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO recent_searches (user_id, keyword, search_type, enabled, created_at, updated_at) " +
+            "VALUES (?, ?, ?, true, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE recent_search_id = LAST_INSERT_ID(recent_search_id), " +
+            "keyword = VALUES(keyword), enabled = true, disabled_at = NULL, updated_at = VALUES(updated_at)";
+
+    // MySQL은 IN 서브쿼리의 LIMIT과 삭제 대상 테이블 참조를 허용하지 않으므로 파생 테이블로 한 번 감쌈
+    private static final String TRIM_SQL =
+            "DELETE FROM recent_searches WHERE user_id = ? AND recent_search_id NOT IN (" +
+            "SELECT recent_search_id FROM (" +
+            "SELECT recent_search_id FROM recent_searches WHERE user_id = ? " +
+            "ORDER BY updated_at DESC, recent_search_id DESC LIMIT " + MAX_RECENT_SEARCHES + ") kept)";
+
+    private final RecentSearchRepository recentSearchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final LruTtlCache<Long, RecentSearchBuffer> cache;
+    private final ThreadPoolExecutor trimExecutor;
+
+    public RecentSearchStore(RecentSearchRepository recentSearchRepository,
+                             JdbcTemplate jdbcTemplate,
+                             CacheRegistry cacheRegistry,
+                             @Value("${app.cache.recent-search.max-size:10000}") int maxSize,
+                             @Value("${app.cache.recent-search.ttl-minutes:30}") long ttlMinutes) {
+        this.recentSearchRepository = recentSearchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = cacheRegistry.create("recentSearch", maxSize, Duration.ofMinutes(ttlMinutes));
+        // 대기열이 가득 차면 버림 (버려진 정리로 남은 행은 같은 사용자의 검색어가 다시 밀려날 때 함께 지워지고,
+        // 조회는 최신 MAX_RECENT_SEARCHES개만 읽으므로 그 전까지 남아 있어도 결과에는 영향 없음)
+        this.trimExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1000), runnable -> {
+                    Thread thread = new Thread(runnable, "recent-search-trim");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    void shutdownTrimExecutor() {
+        trimExecutor.shutdown();
+    }
+
+    /**
+     * 최근 검색어 조회 (최신순, 최대 MAX_RECENT_SEARCHES개)
+     */
+    public List<RecentSearchDto> get(Long userId) {
+        return buffer(userId).snapshot();
+    }
+
+    /**
+     * 최근 검색어 추가 (이미 있는 검색어면 검색 일시만 갱신하여 맨 앞으로)
+     * 사용자 조회 없이 바로 저장하고, 없는 사용자면 user_id 외래 키 위반을 "사용자를 찾을 수 없습니다."로 변환
+     */
+    public RecentSearchDto add(Long userId, String keyword, RecentSearch.SearchType searchType) {
+        String trimmed = keyword.trim();
+        if (trimmed.length() > MAX_KEYWORD_LENGTH) {
+            trimmed = trimmed.substring(0, MAX_KEYWORD_LENGTH);
+        }
+        RecentSearchBuffer buffer = buffer(userId);
+
+        LocalDateTime searchedAt = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(searchedAt);
+        String storedKeyword = trimmed;
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(UPSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                statement.setLong(1, userId);
+                statement.setString(2, storedKeyword);
+                statement.setString(3, searchType.name());
+                statement.setTimestamp(4, timestamp);
+                statement.setTimestamp(5, timestamp);
+                return statement;
+            }, keyHolder);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.", e);
+        }
+        Long id = generatedId(keyHolder);
+
+        Entry entry = new Entry(id, trimmed, searchType, searchedAt);
+        Entry evicted = buffer.push(entry);
+        if (evicted != null) {
+            trimExecutor.execute(() -> trim(userId));
+        }
+        return entry.toDto();
+    }
+
+    /**
+     * 추가/갱신된 행의 ID
+     * 기존 행을 갱신하면 영향받은 행 수가 2로 보고되어 드라이버가 키를 2개(ID, ID+1) 돌려줄 수 있으므로 첫 번째 키만 사용
+     */
+    private static Long generatedId(KeyHolder keyHolder) {
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.isEmpty() || keys.get(0).isEmpty()) {
+            throw new IllegalStateException("최근 검색어 ID를 확인할 수 없습니다");
+        }
+        return ((Number) keys.get(0).values().iterator().next()).longValue();
+    }
+
+    /**
+     * 캐시된 최근 검색어 중 해당 ID가 있는지 확인
+     */
+    public boolean contains(Long userId, Long searchId) {
+        return buffer(userId).contains(searchId);
+    }
+
+    /**
+     * 최근 검색어 삭제 (본인 검색어만 삭제됨)
+     */
+    public void remove(Long userId, Long searchId) {
+        jdbcTemplate.update("DELETE FROM recent_searches WHERE recent_search_id = ? AND user_id = ?",
+                searchId, userId);
+        RecentSearchBuffer buffer = cache.get(userId);
+        if (buffer != null) {
+            buffer.remove(searchId);
+        }
+    }
+
+    /**
+     * 사용자의 최근 검색어 전체 삭제
+     */
+    public void removeAll(Long userId) {
+        jdbcTemplate.update("DELETE FROM recent_searches WHERE user_id = ?", userId);
+        cache.put(userId, new RecentSearchBuffer());
+    }
+
+    private RecentSearchBuffer buffer(Long userId) {
+        return cache.getCoalesced(userId, this::load);
+    }
+
+    /**
+     * DB에서 최신순 MAX_RECENT_SEARCHES개를 읽어 버퍼 구성 (오래된 것부터 넣음)
+     */
+    private RecentSearchBuffer load(Long userId) {
+        List<RecentSearch> recentSearches = new ArrayList<>(recentSearchRepository
+                .findRecentByUserId(userId, PageRequest.of(0, MAX_RECENT_SEARCHES)));
+        Collections.reverse(recentSearches);
+
+        RecentSearchBuffer buffer = new RecentSearchBuffer();
+        for (RecentSearch recentSearch : recentSearches) {
+            buffer.push(new Entry(recentSearch.getId(), recentSearch.getKeyword(),
+                    recentSearch.getSearchType(), recentSearch.getUpdatedAt()));
+        }
+        return buffer;
+    }
+
+    /**
+     * 사용자의 최신 MAX_RECENT_SEARCHES개(updated_at 기준)를 제외한 검색어 행 삭제
+     * 밀려난 행 하나가 아니라 범위로 지우므로 이전에 버려지거나 실패한 정리분도 함께 지워지고,
+     * 그 사이 같은 검색어를 다시 검색했으면 updated_at이 바뀌어 최신 목록에 들어가므로 지우지 않음
+     */
+    private void trim(Long userId) {
+        try {
+            jdbcTemplate.update(TRIM_SQL, userId, userId);
+        } catch (Exception e) {
+            log.warn("오래된 최근 검색어 정리 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    private static class Entry {
+        private final Long id;
+        private final String keyword;
+        private final RecentSearch.SearchType searchType;
+        private final LocalDateTime searchedAt;
+
+        Entry(Long id, String keyword, RecentSearch.SearchType searchType, LocalDateTime searchedAt) {
+            this.id = id;
+            this.keyword = keyword;
+            this.searchType = searchType;
+            this.searchedAt = searchedAt;
+        }
+
+        RecentSearchDto toDto() {
+            return RecentSearchDto.builder()
+                    .id(id)
+                    .keyword(keyword)
+                    .searchType(searchType.name())
+                    .createdAt(searchedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * 고정 크기 링 버퍼 (head가 가장 최근 항목, 가득 차면 가장 오래된 항목을 덮어씀)
+     */
+    private static class RecentSearchBuffer {
+        private final Entry[] slots = new Entry[MAX_RECENT_SEARCHES];
+        private int head = 0;
+        private int size = 0;
+
+        /**
+         * 맨 앞에 추가 (같은 행이 있으면 옮김)
+         * @return 가득 차서 밀려난 가장 오래된 항목 (없으면 null)
+         */
+        synchronized Entry push(Entry entry) {
+            int existing = indexOf(entry.id);
+            if (existing >= 0) {
+                removeAt(existing);
+            }
+            Entry evicted = null;
+            if (size == slots.length) {
+                evicted = at(size - 1);
+                slots[(head + size - 1) % slots.length] = null;
+                size--;
+            }
+            head = (head - 1 + slots.length) % slots.length;
+            slots[head] = entry;
+            size++;
+            return evicted;
+        }
+
+        synchronized boolean contains(Long id) {
+            return indexOf(id) >= 0;
+        }
+
+        synchronized void remove(Long id) {
+            int index = indexOf(id);
+            if (index >= 0) {
+                removeAt(index);
+            }
+        }
+
+        synchronized List<RecentSearchDto> snapshot() {
+            List<RecentSearchDto> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(at(i).toDto());
+            }
+            return result;
+        }
+
+        private Entry at(int index) {
+            return slots[(head + index) % slots.length];
+        }
+
+        private int indexOf(Long id) {
+            for (int i = 0; i < size; i++) {
+                if (at(i).id.equals(id)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * index 뒤의 항목을 한 칸씩 당기고 마지막 칸을 비움
+         */
+        private void removeAt(int index) {
+            for (int i = index; i < size - 1; i++) {
+                slots[(head + i) % slots.length] = at(i + 1);
+            }
+            slots[(head + size - 1) % slots.length] = null;
+            size--;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package sandri.sandriweb.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sandri.sandriweb.domain.place.cache.PlaceThumbnailCache;
+import sandri.sandriweb.domain.place.repository.PlaceRepository;
+import sandri.sandriweb.domain.route.entity.Route;
+import sandri.sandriweb.domain.route.repository.RouteLocationRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 루트 검색 결과의 대표 이미지 일괄 조회
+ * imageUrl이 있으면 그대로 사용하고, 없으면 첫 번째 장소 이름으로 Place를 찾아 대표 사진 사용
+ * 루트 수와 관계없이 첫 장소 이름 조회 1회 + Place 조회 1회 + 대표 사진은 캐시 미스분만 1회
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteThumbnailResolver {
+
+    private final RouteLocationRepository routeLocationRepository;
+    private final PlaceRepository placeRepository;
+    private final PlaceThumbnailCache placeThumbnailCache;
+
+    /**
+     * @param routes 검색된 루트 목록
+     * @return 루트 ID → 대표 이미지 URL (없으면 포함되지 않음)
+     */
+    public Map<Long, String> resolve(List<Route> routes) {
+        Map<Long, String> thumbnailByRouteId = new HashMap<>();
+        List<Long> routeIdsWithoutImage = new ArrayList<>();
+        for (Route route : routes) {
+            if (route.getImageUrl() != null && !route.getImageUrl().isBlank()) {
+                thumbnailByRouteId.put(route.getId(), route.getImageUrl());
+            } else {
+                routeIdsWithoutImage.add(route.getId());
+            }
+        }
+        if (routeIdsWithoutImage.isEmpty()) {
+            return thumbnailByRouteId;
+        }
+
+        Map<Long, String> firstLocationNameByRouteId = new HashMap<>();
+        for (Object[] row : routeLocationRepository.findFirstLocationNamesByRouteIdIn(routeIdsWithoutImage)) {
+            if (row[1] != null) {
+                firstLocationNameByRouteId.putIfAbsent((Long) row[0], (String) row[1]);
+            }
+        }
+        if (firstLocationNameByRouteId.isEmpty()) {
+            return thumbnailByRouteId;
+        }
+
+        Map<String, Long> placeIdByName = new HashMap<>();
+        placeRepository.findByNameIn(new HashSet<>(firstLocationNameByRouteId.values()))
+                .forEach(place -> placeIdByName.putIfAbsent(place.getName(), place.getId()));
+        Map<Long, String> photoUrlByPlaceId = placeThumbnailCache.getAll(placeIdByName.values());
+
+        firstLocationNameByRouteId.forEach((routeId, name) -> {
+            Long placeId = placeIdByName.get(name);
+            String photoUrl = placeId != null ? photoUrlByPlaceId.get(placeId) : null;
+            if (photoUrl != null) {
+                thumbnailByRouteId.put(routeId, photoUrl);
+            }
+        });
+        return thumbnailByRouteId;
+    }
+}
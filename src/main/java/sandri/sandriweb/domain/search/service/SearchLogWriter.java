@@ -0,0 +1,202 @@
+package sandri.sandriweb.domain.search.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import sandri.sandriweb.domain.search.dto.SearchLogWriterStatsDto;
+import sandri.sandriweb.domain.search.entity.SearchLog;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검색 로그 지연 일괄 저장 (write-behind)
+ *
+ * 검색 요청은 로그를 메모리 큐에 넣기만 하고, 전용 스레드가 batchSize개가 모이거나
+ * 첫 항목 이후 flushIntervalMs가 지나면 여러 행 INSERT 한 번으로 저장한다.
+ * 큐가 가득 차면 검색을 막지 않고 로그를 버리며(drop) 횟수를 집계한다.
+ * 애플리케이션 종료 시 남은 로그를 모두 저장한다.
+ */
+@Component
+@Slf4j
+public class SearchLogWriter {
+
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BlockingQueue<PendingLog> queue;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private volatile boolean running = false;
+    private Thread writerThread;
+
+    public SearchLogWriter(JdbcTemplate jdbcTemplate,
+                           @Value("${app.search-log.queue-capacity:10000}") int queueCapacity,
+                           @Value("${app.search-log.batch-size:200}") int batchSize,
+                           @Value("${app.search-log.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(batchSize, 1);
+        this.flushIntervalMs = Math.max(flushIntervalMs, 1);
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "search-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 저장 스레드를 멈추고 큐에 남은 로그를 모두 저장
+     */
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("검색 로그 저장 스레드 종료: 종료 시 저장 {}건, 누적 저장 {}건, 버림 {}건",
+                remaining.size(), written.sum(), dropped.sum());
+    }
+
+    /**
+     * 검색 로그 적재 (즉시 반환, 큐가 가득 차면 버림)
+     */
+    public void enqueue(String keyword, SearchLog.SearchType searchType) {
+        if (!StringUtils.hasText(keyword) || searchType == null) {
+            return;
+        }
+        String trimmed = keyword.trim();
+        if (trimmed.length() > MAX_KEYWORD_LENGTH) {
+            trimmed = trimmed.substring(0, MAX_KEYWORD_LENGTH);
+        }
+
+        if (queue.offer(new PendingLog(trimmed, searchType, LocalDateTime.now()))) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+            log.debug("검색 로그 큐가 가득 차 버림: keyword={}", trimmed);
+        }
+    }
+
+    public SearchLogWriterStatsDto getStats() {
+        return SearchLogWriterStatsDto.builder()
+                .queueDepth(queue.size())
+                .queueCapacity(queue.size() + queue.remainingCapacity())
+                .enqueuedCount(enqueued.sum())
+                .writtenCount(written.sum())
+                .droppedCount(dropped.sum())
+                .failedCount(failed.sum())
+                .batchCount(batches.sum())
+                .build();
+    }
+
+    private void runWriter() {
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 항목 이후 flushIntervalMs 동안 batchSize개까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    PendingLog next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // 종료 요청: 모으던 로그는 바로 저장하고, 큐에 남은 로그는 shutdown에서 저장
+                write(batch);
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 여러 행 INSERT 한 번으로 저장 (실패 시 해당 배치는 버리고 횟수만 집계)
+     */
+    private void write(List<PendingLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO search_logs (keyword, search_type, searched_at, enabled, created_at, updated_at) VALUES ");
+        List<Object> args = new ArrayList<>(logs.size() * 6);
+        for (int i = 0; i < logs.size(); i++) {
+            PendingLog pending = logs.get(i);
+            Timestamp searchedAt = Timestamp.valueOf(pending.searchedAt);
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?)");
+            args.add(pending.keyword);
+            args.add(pending.searchType.name());
+            args.add(searchedAt);
+            args.add(true);
+            args.add(searchedAt);
+            args.add(searchedAt);
+        }
+
+        try {
+            jdbcTemplate.update(sql.toString(), args.toArray());
+            written.add(logs.size());
+            batches.increment();
+        } catch (Exception e) {
+            failed.add(logs.size());
+            log.warn("검색 로그 일괄 저장 실패: {}건, {}", logs.size(), e.getMessage());
+        }
+    }
+
+    private static class PendingLog {
+        private final String keyword;
+        private final SearchLog.SearchType searchType;
+        private final LocalDateTime searchedAt;
+
+        PendingLog(String keyword, SearchLog.SearchType searchType, LocalDateTime searchedAt) {
+            this.keyword = keyword;
+            this.searchType = searchType;
+            this.searchedAt = searchedAt;
+        }
+    }
+}
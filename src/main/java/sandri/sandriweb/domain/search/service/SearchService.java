@@ -3,14 +3,17 @@ package sandri.sandriweb.domain.search.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sandri.sandriweb.domain.place.entity.Place;
-import sandri.sandriweb.domain.place.entity.PlacePhoto;
 import sandri.sandriweb.domain.place.enums.Category;
-import sandri.sandriweb.domain.place.repository.PlacePhotoRepository;
+import sandri.sandriweb.domain.place.enums.PlaceCategory;
+import sandri.sandriweb.domain.place.cache.PlaceThumbnailCache;
+import sandri.sandriweb.domain.place.index.PlaceOpeningHoursIndex;
+import sandri.sandriweb.domain.place.index.PlaceSearchIndex;
 import sandri.sandriweb.domain.place.repository.PlaceRepository;
 import sandri.sandriweb.domain.place.repository.UserPlaceRepository;
 import sandri.sandriweb.domain.route.entity.Route;
@@ -19,16 +22,19 @@ import sandri.sandriweb.domain.search.dto.*;
 import sandri.sandriweb.domain.search.entity.PopularSearch;
 import sandri.sandriweb.domain.search.entity.RecentSearch;
 import sandri.sandriweb.domain.search.entity.SearchLog;
+import sandri.sandriweb.domain.search.index.SearchSuggestIndex;
 import sandri.sandriweb.domain.search.repository.PopularSearchRepository;
 import sandri.sandriweb.domain.search.repository.RecentSearchRepository;
-import sandri.sandriweb.domain.search.repository.SearchLogRepository;
-import sandri.sandriweb.domain.user.entity.User;
-import sandri.sandriweb.domain.user.repository.UserRepository;
 import sandri.sandriweb.global.service.GooglePlacesService;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,40 +45,69 @@ public class SearchService {
     private final PlaceRepository placeRepository;
     private final RouteRepository routeRepository;
     private final RecentSearchRepository recentSearchRepository;
-    private final SearchLogRepository searchLogRepository;
+    private final RecentSearchStore recentSearchStore;
+    private final SearchLogWriter searchLogWriter;
+    private final PopularSearchEngine popularSearchEngine;
     private final PopularSearchRepository popularSearchRepository;
-    private final PlacePhotoRepository placePhotoRepository;
+    private final RouteThumbnailResolver routeThumbnailResolver;
+    private final PlaceThumbnailCache placeThumbnailCache;
     private final UserPlaceRepository userPlaceRepository;
-    private final UserRepository userRepository;
     private final GooglePlacesService googlePlacesService;
+    private final PlaceOpeningHoursIndex placeOpeningHoursIndex;
+    private final PlaceSearchIndex placeSearchIndex;
+    private final SearchSuggestIndex searchSuggestIndex;
 
     @Value("${google.maps.api-key}")
     private String googleMapsApiKey;
 
-    private static final int MAX_RECENT_SEARCHES = 10;
+    // Google 보충 검색을 기다리는 최대 시간 (넘기면 DB 결과만 partial=true로 반환)
+    @Value("${app.search.google-fallback-deadline-ms:300}")
+    private long googleFallbackDeadlineMs;
+
+    // 영업 중 필터 적용 시 메모리에서 거를 최대 후보 수
+    private static final int OPEN_FILTER_MAX_CANDIDATES = 500;
 
     /**
      * 장소 검색 (DB 우선, 결과 부족하면 Google Places로 보충)
+     * Google 보충은 비동기로 호출하여 기한(app.search.google-fallback-deadline-ms)까지만 기다리며,
+     * 기한을 넘기면 DB 결과만 partial=true로 반환한다. (늦게 도착한 결과는 캐시되어 다음 같은 검색에서 사용)
+     * openAt이 있으면 영업 중인 DB 장소만 반환 (Google 결과는 영업시간을 알 수 없으므로 보충하지 않음)
      */
     @Transactional
-    public PlaceSearchResponseDto searchPlaces(String keyword, String category, int page, int size, Long userId) {
+    public PlaceSearchResponseDto searchPlaces(String keyword, String category, int page, int size, Long userId,
+                                               LocalDateTime openAt) {
         // 검색 로그 저장
         saveSearchLog(keyword, SearchLog.SearchType.PLACE);
         
         // 1단계: 내부 DB에서 검색
         Pageable pageable = PageRequest.of(page - 1, size);
         
-        // 카테고리 문자열을 enum으로 변환
+        // 카테고리 문자열을 enum으로 변환 (세부 카테고리가 아니면 대분류로 해석)
         Category categoryEnum = null;
+        PlaceCategory groupEnum = null;
         if (category != null && !category.isEmpty()) {
             categoryEnum = Category.fromDisplayName(category);
             if (categoryEnum == null) {
+                groupEnum = Arrays.stream(PlaceCategory.values())
+                        .filter(group -> group.name().equals(category))
+                        .findFirst()
+                        .orElse(null);
+            }
+            if (categoryEnum == null && groupEnum == null) {
                 log.warn("유효하지 않은 카테고리: {}", category);
             }
         }
         
         Page<Place> placePage;
-        if (categoryEnum != null) {
+        if (placeSearchIndex.isReady()) {
+            placePage = searchPlacesInIndex(keyword, groupEnum, categoryEnum, openAt, pageable);
+            if (openAt != null) {
+                log.info("영업 중 장소 검색 결과: keyword={}, open={}", keyword, placePage.getTotalElements());
+                return buildDbResponse(placePage.getContent(), placePage, page, size);
+            }
+        } else if (openAt != null) {
+            return searchOpenPlaces(keyword, categoryEnum, page, size, openAt);
+        } else if (categoryEnum != null) {
             placePage = placeRepository.searchByKeywordAndCategory(keyword, categoryEnum, pageable);
         } else {
             placePage = placeRepository.searchByKeyword(keyword, pageable);
@@ -90,7 +125,24 @@ public class SearchService {
         int needMore = size - dbPlaces.size();
         log.info("DB 결과 부족. Google Places에서 {}개 추가 검색: keyword={}", needMore, keyword);
         
-        List<GooglePlacesService.PlaceSearchResult> googleResults = googlePlacesService.searchPlaces(keyword, "ko", "kr");
+        CompletableFuture<List<GooglePlacesService.PlaceSearchResult>> googleSearch =
+                googlePlacesService.searchPlacesAsync(keyword, "ko", "kr");
+        List<GooglePlacesService.PlaceSearchResult> googleResults;
+        boolean partial = false;
+        try {
+            googleResults = googleSearch.get(googleFallbackDeadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Google 보충 검색이 {}ms 안에 끝나지 않아 DB 결과만 반환: keyword={}", googleFallbackDeadlineMs, keyword);
+            googleResults = List.of();
+            partial = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            googleResults = List.of();
+            partial = true;
+        } catch (ExecutionException e) {
+            log.error("Google 보충 검색 실패: keyword={}", keyword, e.getCause());
+            googleResults = List.of();
+        }
         
         // DB 장소 이름과 중복 제거 (Google 결과에서)
         Set<String> dbPlaceNames = dbPlaces.stream()
@@ -106,9 +158,62 @@ public class SearchService {
         log.info("Google 보충 결과: count={}", filteredGoogleResults.size());
         
         // 4단계: DB + Google 결과 합쳐서 반환
-        return buildMixedResponse(dbPlaces, filteredGoogleResults, placePage.getTotalElements(), page, size, category);
+        return buildMixedResponse(dbPlaces, filteredGoogleResults, placePage.getTotalElements(), page, size, category, partial);
+    }
+
+
+    /**
+     * 메모리 검색 인덱스로 장소 검색
+     * 관련도 순 전체 ID 목록에서 요청 페이지만 잘라 DB에서 조회 (LIKE 전체 스캔/count 쿼리 없음)
+     */
+    private Page<Place> searchPlacesInIndex(String keyword, PlaceCategory group, Category category,
+                                            LocalDateTime openAt, Pageable pageable) {
+        List<Long> rankedIds = placeSearchIndex.search(keyword, group, category);
+        if (openAt != null) {
+            Predicate<Long> openFilter = placeOpeningHoursIndex.openAt(openAt);
+            rankedIds = rankedIds.stream()
+                    .filter(openFilter)
+                    .collect(Collectors.toList());
+        }
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(fromIndex, toIndex);
+
+        Map<Long, Place> placeById = placeRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Place::getId, place -> place));
+        List<Place> places = pageIds.stream()
+                .map(placeById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(places, pageable, rankedIds.size());
     }
 
+    /**
+     * 영업 중인 장소만 검색 (검색 인덱스 적재 전 DB 대체 경로)
+     * 후보를 한 번에 가져와 메모리 영업시간 인덱스로 거른 뒤 페이지를 나눔
+     */
+    private PlaceSearchResponseDto searchOpenPlaces(String keyword, Category categoryEnum, int page, int size,
+                                                    LocalDateTime openAt) {
+        Pageable candidatePageable = PageRequest.of(0, OPEN_FILTER_MAX_CANDIDATES);
+        List<Place> candidates = categoryEnum != null
+                ? placeRepository.searchByKeywordAndCategory(keyword, categoryEnum, candidatePageable).getContent()
+                : placeRepository.searchByKeyword(keyword, candidatePageable).getContent();
+
+        Predicate<Long> openFilter = placeOpeningHoursIndex.openAt(openAt);
+        List<Place> openPlaces = candidates.stream()
+                .filter(place -> openFilter.test(place.getId()))
+                .collect(Collectors.toList());
+
+        Pageable pageable = PageRequest.of(page - 1, size);
+        int fromIndex = (int) Math.min(pageable.getOffset(), openPlaces.size());
+        int toIndex = Math.min(fromIndex + size, openPlaces.size());
+        Page<Place> placePage = new PageImpl<>(openPlaces.subList(fromIndex, toIndex), pageable, openPlaces.size());
+
+        log.info("영업 중 장소 검색 결과: keyword={}, candidates={}, open={}", keyword, candidates.size(), openPlaces.size());
+        return buildDbResponse(placePage.getContent(), placePage, page, size);
+    }
 
     /**
      * DB 결과만으로 응답 생성
@@ -117,17 +222,7 @@ public class SearchService {
         List<Long> placeIds = places.stream().map(Place::getId).collect(Collectors.toList());
 
         // 사진 URL 조회 (배치)
-        final Map<Long, String> photoUrlMap;
-        if (!placeIds.isEmpty()) {
-            List<Object[]> photoResults = placePhotoRepository.findFirstPhotoUrlByPlaceIdIn(placeIds);
-            photoUrlMap = photoResults.stream()
-                    .collect(Collectors.toMap(
-                            result -> ((Number) result[0]).longValue(),
-                            result -> (String) result[1]
-                    ));
-        } else {
-            photoUrlMap = new HashMap<>();
-        }
+        final Map<Long, String> photoUrlMap = placeThumbnailCache.getAll(placeIds);
 
         // DTO 변환
         List<PlaceSearchResponseDto.PlaceSearchItemDto> items = places.stream()
@@ -154,6 +249,7 @@ public class SearchService {
                 .page(page)
                 .size(size)
                 .hasNext(placePage.hasNext())
+                .partial(false)
                 .build();
     }
 
@@ -166,23 +262,14 @@ public class SearchService {
             long dbTotalCount,
             int page, 
             int size,
-            String category) {
+            String category,
+            boolean partial) {
         
         List<PlaceSearchResponseDto.PlaceSearchItemDto> items = new ArrayList<>();
         
         // 1. DB 결과 변환
         List<Long> placeIds = dbPlaces.stream().map(Place::getId).collect(Collectors.toList());
-        final Map<Long, String> photoUrlMap;
-        if (!placeIds.isEmpty()) {
-            List<Object[]> photoResults = placePhotoRepository.findFirstPhotoUrlByPlaceIdIn(placeIds);
-            photoUrlMap = photoResults.stream()
-                    .collect(Collectors.toMap(
-                            result -> ((Number) result[0]).longValue(),
-                            result -> (String) result[1]
-                    ));
-        } else {
-            photoUrlMap = new HashMap<>();
-        }
+        final Map<Long, String> photoUrlMap = placeThumbnailCache.getAll(placeIds);
         
         dbPlaces.forEach(place -> {
             List<String> hashtags = generateHashtags(place);
@@ -231,6 +318,7 @@ public class SearchService {
                 .page(page)
                 .size(size)
                 .hasNext(false) // 혼합 결과는 페이징 복잡하므로 false
+                .partial(partial)
                 .build();
     }
 
@@ -300,6 +388,13 @@ public class SearchService {
         return hashtags;
     }
 
+    /**
+     * 검색어 자동완성 (메모리 트라이만 조회, 검색 로그 저장/DB 조회 없음)
+     */
+    public List<SearchSuggestionDto> suggest(String query, int limit) {
+        return searchSuggestIndex.suggest(query, limit);
+    }
+
     /**
      * 루트 검색
      */
@@ -313,11 +408,13 @@ public class SearchService {
 
         List<Route> routes = routePage.getContent();
 
+        // 대표 이미지 일괄 조회 (페이지 크기와 무관하게 고정 쿼리 수)
+        Map<Long, String> thumbnailByRouteId = routeThumbnailResolver.resolve(routes);
+
         // DTO 변환
         List<RouteSearchResponseDto.RouteSearchItemDto> items = routes.stream()
                 .map(route -> {
-                    // 대표 이미지: 첫 번째 RouteLocation의 name으로 Place를 찾아서 첫 번째 사진 사용
-                    String thumbnailUrl = getRouteThumbnail(route);
+                    String thumbnailUrl = thumbnailByRouteId.get(route.getId());
 
                     // 해시태그 생성 (카테고리 기반, 루트의 경우 설명에서 추출하거나 기본값)
                     List<String> hashtags = generateRouteHashtags(route);
@@ -344,106 +441,74 @@ public class SearchService {
     }
 
     /**
-     * 최근 검색어 조회
+     * 최근 검색어 조회 (캐시된 링 버퍼에서 최대 10개)
      */
-    @Transactional(readOnly = true)
     public List<RecentSearchDto> getRecentSearches(Long userId) {
-        List<RecentSearch> recentSearches = recentSearchRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        
-        // 최대 10개만 반환
-        return recentSearches.stream()
-                .limit(MAX_RECENT_SEARCHES)
-                .map(RecentSearchDto::from)
-                .collect(Collectors.toList());
+        return recentSearchStore.get(userId);
     }
 
     /**
      * 최근 검색어 추가
+     * 같은 검색어가 있으면 검색 일시만 갱신하여 맨 앞으로 옮기고, 10개를 넘으면 가장 오래된 것이 밀려남
      */
-    @Transactional
     public RecentSearchDto addRecentSearch(Long userId, String keyword, RecentSearch.SearchType searchType) {
-        // 기존 검색어가 있으면 삭제하고 새로 추가 (최신순 유지)
-        recentSearchRepository.findByUserIdAndKeywordAndSearchTypeAndEnabledTrue(userId, keyword, searchType)
-                .ifPresent(recentSearch -> {
-                    recentSearch.disable();
-                    recentSearchRepository.save(recentSearch);
-                });
-
-        // 새 검색어 추가
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        RecentSearch recentSearch = RecentSearch.builder()
-                .user(user)
-                .keyword(keyword)
-                .searchType(searchType)
-                .build();
-
-        RecentSearch saved = recentSearchRepository.save(recentSearch);
-
-        // 최대 개수 초과 시 오래된 것 삭제
-        List<RecentSearch> allRecentSearches = recentSearchRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        if (allRecentSearches.size() > MAX_RECENT_SEARCHES) {
-            List<RecentSearch> toDelete = allRecentSearches.subList(MAX_RECENT_SEARCHES, allRecentSearches.size());
-            toDelete.forEach(RecentSearch::disable);
-            recentSearchRepository.saveAll(toDelete);
-        }
-
-        return RecentSearchDto.from(saved);
+        return recentSearchStore.add(userId, keyword, searchType);
     }
 
     /**
      * 최근 검색어 삭제
      */
-    @Transactional
     public void deleteRecentSearch(Long userId, Long searchId) {
-        RecentSearch recentSearch = recentSearchRepository.findById(searchId)
-                .orElseThrow(() -> new RuntimeException("최근 검색어를 찾을 수 없습니다."));
+        // 캐시된 최근 검색어에 없을 때만 DB에서 존재 여부와 권한 확인
+        if (!recentSearchStore.contains(userId, searchId)) {
+            RecentSearch recentSearch = recentSearchRepository.findById(searchId)
+                    .orElseThrow(() -> new RuntimeException("최근 검색어를 찾을 수 없습니다."));
 
-        if (!recentSearch.getUser().getId().equals(userId)) {
-            throw new RuntimeException("삭제 권한이 없습니다.");
+            if (!recentSearch.getUser().getId().equals(userId)) {
+                throw new RuntimeException("삭제 권한이 없습니다.");
+            }
         }
 
-        recentSearch.disable();
-        recentSearchRepository.save(recentSearch);
+        recentSearchStore.remove(userId, searchId);
     }
 
     /**
      * 모든 최근 검색어 삭제
      */
-    @Transactional
     public void deleteAllRecentSearches(Long userId) {
-        recentSearchRepository.deleteAllByUserId(userId);
+        recentSearchStore.removeAll(userId);
     }
 
     /**
      * 인기 검색어 조회
+     * 실시간 엔진 순위를 우선 사용하고, 검색이 적어 5개가 안 되면 저장된 집계 결과/기본값 사용
      */
     @Transactional(readOnly = true)
     public List<PopularSearchDto> getPopularSearches() {
+        List<PopularSearchEngine.RankedKeyword> ranking = popularSearchEngine.getTop(5);
+        if (ranking.size() >= 5) {
+            return ranking.stream()
+                    .map(ranked -> PopularSearchDto.builder()
+                            .rank(ranked.getRank())
+                            .keyword(ranked.getKeyword())
+                            .rankChange(rankChange(ranked.getRank(), ranked.getPreviousRank()))
+                            .previousRank(ranked.getPreviousRank())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
         List<PopularSearch> popularSearches = popularSearchRepository.findLatestPopularSearches();
         
         // 집계된 데이터가 있으면 반환
         if (!popularSearches.isEmpty() && popularSearches.size() >= 5) {
             return popularSearches.stream()
                     .limit(5)
-                    .map(ps -> {
-                        String rankChange = "SAME";
-                        if (ps.getPreviousRank() != null) {
-                            if (ps.getRank() < ps.getPreviousRank()) {
-                                rankChange = "UP";
-                            } else if (ps.getRank() > ps.getPreviousRank()) {
-                                rankChange = "DOWN";
-                            }
-                        }
-                        
-                        return PopularSearchDto.builder()
-                                .rank(ps.getRank())
-                                .keyword(ps.getKeyword())
-                                .rankChange(rankChange)
-                                .previousRank(ps.getPreviousRank())
-                                .build();
-                    })
+                    .map(ps -> PopularSearchDto.builder()
+                            .rank(ps.getRank())
+                            .keyword(ps.getKeyword())
+                            .rankChange(rankChange(ps.getRank(), ps.getPreviousRank()))
+                            .previousRank(ps.getPreviousRank())
+                            .build())
                     .collect(Collectors.toList());
         }
         
@@ -457,6 +522,13 @@ public class SearchService {
         );
     }
 
+    private String rankChange(int rank, Integer previousRank) {
+        if (previousRank == null || rank == previousRank) {
+            return "SAME";
+        }
+        return rank < previousRank ? "UP" : "DOWN";
+    }
+
     /**
      * 카테고리 목록 조회
      */
@@ -471,20 +543,11 @@ public class SearchService {
     }
 
     /**
-     * 검색 로그 저장
+     * 검색 로그 저장 (큐에 넣기만 하고 SearchLogWriter가 모아서 일괄 저장) 및 실시간 인기 검색어 반영
      */
     private void saveSearchLog(String keyword, SearchLog.SearchType searchType) {
-        try {
-            SearchLog searchLog = SearchLog.builder()
-                    .keyword(keyword)
-                    .searchType(searchType)
-                    .searchedAt(LocalDateTime.now())
-                    .build();
-            searchLogRepository.save(searchLog);
-        } catch (Exception e) {
-            // 검색 로그 저장 실패해도 검색은 계속 진행
-            log.warn("검색 로그 저장 실패: keyword={}, searchType={}", keyword, searchType, e);
-        }
+        searchLogWriter.enqueue(keyword, searchType);
+        popularSearchEngine.record(keyword);
     }
 
     /**
@@ -535,27 +598,4 @@ public class SearchService {
         
         return hashtags;
     }
-
-    /**
-     * 루트의 썸네일 이미지 조회
-     * 첫 번째 RouteLocation의 name으로 Place를 찾아서 첫 번째 사진을 반환
-     */
-    private String getRouteThumbnail(Route route) {
-        if (route.getImageUrl() != null && !route.getImageUrl().isBlank()) {
-            return route.getImageUrl();
-        }
-
-        if (route.getLocations().isEmpty()) {
-            return null;
-        }
-
-        String firstLocationName = route.getLocations().get(0).getName();
-        return placeRepository.findByName(firstLocationName)
-                .map(place -> {
-                    List<PlacePhoto> photos = placePhotoRepository.findByPlaceId(place.getId());
-                    return photos.isEmpty() ? null : photos.get(0).getPhotoUrl();
-                })
-                .orElse(null);
-    }
 }
-
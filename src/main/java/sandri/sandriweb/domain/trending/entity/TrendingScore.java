@@ -0,0 +1,40 @@
+package sandri.sandriweb.domain.trending.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import sandri.sandriweb.domain.favorite.enums.FavoriteType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 점수 스냅샷 (재시작 시 메모리 점수 복원용)
+ * score는 scoredAt 시점 기준으로 감쇠가 반영된 값
+ */
+@Entity
+@Table(name = "trending_scores", uniqueConstraints = {
+    @UniqueConstraint(name = "uc_trending_target", columnNames = {"target_type", "target_id"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TrendingScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "trending_score_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private FavoriteType targetType; // PLACE, ROUTE, MAGAZINE
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+}
@@ -0,0 +1,9 @@
+package sandri.sandriweb.domain.trending.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import sandri.sandriweb.domain.trending.entity.TrendingScore;
+
+@Repository
+public interface TrendingScoreRepository extends JpaRepository<TrendingScore, Long> {
+}
@@ -0,0 +1,447 @@
+package sandri.sandriweb.domain.trending.service;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sandri.sandriweb.domain.favorite.enums.FavoriteType;
+import sandri.sandriweb.domain.magazine.repository.UserMagazineRepository;
+import sandri.sandriweb.domain.place.repository.UserPlaceRepository;
+import sandri.sandriweb.domain.route.repository.UserRouteRepository;
+import sandri.sandriweb.domain.trending.entity.TrendingScore;
+import sandri.sandriweb.domain.trending.repository.TrendingScoreRepository;
+import sandri.sandriweb.global.util.TransactionUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 좋아요 이벤트 기반 인기(HOT) 점수 엔진 (장소/루트/매거진)
+ *
+ * 좋아요 1회는 발생 시각 기준 1점이며, 반감기(half-life)마다 절반으로 감쇠한다.
+ * 모든 항목을 매번 감쇠시키지 않도록 기준 시각(landmark) 대비 exp(λ·t)로 가중한 값을 누적하고(forward decay),
+ * 조회 시 현재 시각 기준으로 환산한다. 점수 순서는 기준 시각과 무관하므로 정렬 구조를 그대로 유지할 수 있다.
+ *
+ * 점수는 메모리에만 유지하고, 주기적으로 trending_scores 테이블에 스냅샷을 남겨 재시작 시 복원한다.
+ */
+@Service
+@Slf4j
+public class TrendingService {
+
+    // 감쇠 지수가 이 값을 넘으면 기준 시각을 현재로 옮김 (double 범위 초과 방지)
+    private static final double MAX_EXPONENT = 300.0;
+    // 현재 기준 점수가 이 값보다 작으면 추적 대상에서 제외
+    private static final double MIN_SCORE = 1e-3;
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final UserPlaceRepository userPlaceRepository;
+    private final UserRouteRepository userRouteRepository;
+    private final UserMagazineRepository userMagazineRepository;
+
+    private final double decayRatePerHour;
+    private final int maxTracked;
+    private final int snapshotSize;
+
+    private final Map<FavoriteType, TrendingBoard> boards = new EnumMap<>(FavoriteType.class);
+    // 점수 갱신은 읽기 락, 기준 시각 이동(전체 재계산)은 쓰기 락
+    private final ReadWriteLock landmarkLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile long landmarkMillis = System.currentTimeMillis();
+    private volatile boolean ready = false;
+
+    public TrendingService(TrendingScoreRepository trendingScoreRepository,
+                           UserPlaceRepository userPlaceRepository,
+                           UserRouteRepository userRouteRepository,
+                           UserMagazineRepository userMagazineRepository,
+                           @Value("${app.trending.half-life-hours:72}") double halfLifeHours,
+                           @Value("${app.trending.max-tracked:5000}") int maxTracked,
+                           @Value("${app.trending.snapshot-size:1000}") int snapshotSize) {
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.userPlaceRepository = userPlaceRepository;
+        this.userRouteRepository = userRouteRepository;
+        this.userMagazineRepository = userMagazineRepository;
+        this.decayRatePerHour = Math.log(2) / halfLifeHours;
+        this.maxTracked = maxTracked;
+        this.snapshotSize = snapshotSize;
+        for (FavoriteType type : FavoriteType.values()) {
+            boards.put(type, new TrendingBoard());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 스냅샷에서 점수 복원 (스냅샷이 없으면 좋아요 테이블에서 최초 계산)
+     * 실패하면 retryLoad가 주기적으로 다시 시도하며, 그동안 HOT 목록은 각 서비스의 DB 대체 목록으로 채워짐
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void load() {
+        if (ready) {
+            return;
+        }
+        try {
+            // 실패 시 재시도에서 중복 합산되지 않도록 임시 점수판에 모은 뒤 한 번에 반영
+            Map<FavoriteType, Map<Long, Double>> loaded = new EnumMap<>(FavoriteType.class);
+            for (FavoriteType type : FavoriteType.values()) {
+                loaded.put(type, new HashMap<>());
+            }
+
+            List<TrendingScore> snapshot = trendingScoreRepository.findAll();
+            boolean fromSnapshot = !snapshot.isEmpty();
+            if (fromSnapshot) {
+                for (TrendingScore row : snapshot) {
+                    loaded.get(row.getTargetType()).merge(row.getTargetId(),
+                            row.getScore() * weightAt(toMillis(row.getScoredAt())), Double::sum);
+                }
+            } else {
+                seed(loaded.get(FavoriteType.PLACE), userPlaceRepository.findEnabledLikeTimes());
+                seed(loaded.get(FavoriteType.ROUTE), userRouteRepository.findEnabledLikeTimes());
+                seed(loaded.get(FavoriteType.MAGAZINE), userMagazineRepository.findEnabledLikeTimes());
+            }
+
+            // 좋아요 테이블에는 적재 전에 들어온 좋아요도 이미 있으므로 최초 계산은 덮어쓰고, 스냅샷은 그 이후 이벤트와 합산
+            apply(loaded, !fromSnapshot);
+            prune(MIN_SCORE * weightAt(System.currentTimeMillis()));
+            ready = true;
+
+            if (fromSnapshot) {
+                log.info("인기 점수 스냅샷 복원 완료: {}개", snapshot.size());
+            } else {
+                dirty.set(true);
+                log.info("인기 점수 최초 계산 완료: place={}, route={}, magazine={}",
+                        boards.get(FavoriteType.PLACE).size(),
+                        boards.get(FavoriteType.ROUTE).size(),
+                        boards.get(FavoriteType.MAGAZINE).size());
+            }
+        } catch (Exception e) {
+            log.error("인기 점수 적재 실패 (재시도 예정, 그동안 HOT 목록은 DB 대체 목록으로 제공): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 점수 적재에 실패했으면 주기적으로 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${app.trending.load-retry-minutes:1}",
+               initialDelayString = "${app.trending.load-retry-minutes:1}",
+               timeUnit = TimeUnit.MINUTES)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void retryLoad() {
+        if (!ready) {
+            load();
+        }
+    }
+
+    /**
+     * 점수 사용 가능 여부 (적재 전이면 호출하는 쪽에서 DB 대체 목록을 사용해야 함)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 좋아요 반영 (트랜잭션 커밋 후 현재 시각 기준 1점 추가)
+     * @param type 대상 종류
+     * @param targetId 대상 ID
+     */
+    public void recordLike(FavoriteType type, Long targetId) {
+        if (targetId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            addRaw(type, targetId, System.currentTimeMillis(), 1.0);
+            dirty.set(true);
+        });
+    }
+
+    /**
+     * 좋아요 취소 반영 (트랜잭션 커밋 후 적용)
+     * 좋아요할 때 더한 만큼만 빼도록 좋아요 시각 기준 가중치로 차감 (현재 시각 기준으로 빼면 감쇠된 점수보다 많이 빠짐)
+     * @param type 대상 종류
+     * @param targetId 대상 ID
+     * @param likedAt 취소하기 전 좋아요 행의 갱신 시각 (좋아요한 시각, 모르면 null)
+     */
+    public void recordUnlike(FavoriteType type, Long targetId, LocalDateTime likedAt) {
+        if (targetId == null) {
+            return;
+        }
+        long likedAtMillis = likedAt != null ? toMillis(likedAt) : System.currentTimeMillis();
+        TransactionUtils.afterCommit(() -> {
+            addRaw(type, targetId, likedAtMillis, -1.0);
+            dirty.set(true);
+        });
+    }
+
+    /**
+     * 인기 순 상위 항목 조회 (메모리)
+     * @param type 대상 종류
+     * @param limit 조회 개수
+     * @return 점수 높은 순 목록 (점수는 현재 시각 기준으로 감쇠된 좋아요 수)
+     */
+    public List<TrendingItem> getTop(FavoriteType type, int limit) {
+        double toNow = 1.0 / weightAt(System.currentTimeMillis());
+        List<TrendingItem> items = new ArrayList<>(Math.max(limit, 0));
+        Iterator<Ranked> iterator = boards.get(type).iterator();
+        while (iterator.hasNext() && items.size() < limit) {
+            Ranked ranked = iterator.next();
+            items.add(new TrendingItem(ranked.getTargetId(), ranked.getScore() * toNow));
+        }
+        return items;
+    }
+
+    /**
+     * 주기적으로 스냅샷 저장 (변경이 있을 때만)
+     */
+    @Scheduled(fixedDelayString = "${app.trending.snapshot-interval-minutes:10}",
+               initialDelayString = "${app.trending.snapshot-interval-minutes:10}",
+               timeUnit = TimeUnit.MINUTES)
+    @Transactional
+    public void snapshot() {
+        rebaseIfNeeded();
+        if (ready && dirty.getAndSet(false)) {
+            writeSnapshot();
+        }
+    }
+
+    /**
+     * 종료 시 마지막 스냅샷 저장
+     */
+    @EventListener(ContextClosedEvent.class)
+    @Transactional
+    public void snapshotOnShutdown() {
+        if (ready && dirty.getAndSet(false)) {
+            writeSnapshot();
+        }
+    }
+
+    private void writeSnapshot() {
+        long now = System.currentTimeMillis();
+        double toNow = 1.0 / weightAt(now);
+        LocalDateTime scoredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+
+        prune(MIN_SCORE / toNow);
+
+        List<TrendingScore> rows = new ArrayList<>();
+        for (Map.Entry<FavoriteType, TrendingBoard> entry : boards.entrySet()) {
+            Iterator<Ranked> iterator = entry.getValue().iterator();
+            int count = 0;
+            while (iterator.hasNext() && count++ < snapshotSize) {
+                Ranked ranked = iterator.next();
+                rows.add(TrendingScore.builder()
+                        .targetType(entry.getKey())
+                        .targetId(ranked.getTargetId())
+                        .score(ranked.getScore() * toNow)
+                        .scoredAt(scoredAt)
+                        .build());
+            }
+        }
+
+        trendingScoreRepository.deleteAllInBatch();
+        trendingScoreRepository.saveAll(rows);
+        log.info("인기 점수 스냅샷 저장 완료: {}개", rows.size());
+    }
+
+    /**
+     * 점수가 너무 작은 항목 제거 및 최대 추적 개수 유지 (갱신과 겹치지 않도록 쓰기 락)
+     * @param rawThreshold 기준 시각 가중치가 반영된 최소 점수
+     */
+    private void prune(double rawThreshold) {
+        landmarkLock.writeLock().lock();
+        try {
+            for (TrendingBoard board : boards.values()) {
+                board.removeBelow(rawThreshold);
+                board.trim(maxTracked);
+            }
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+    }
+
+    private void seed(Map<Long, Double> scores, List<Object[]> likeTimes) {
+        for (Object[] row : likeTimes) {
+            Long targetId = ((Number) row[0]).longValue();
+            LocalDateTime likedAt = (LocalDateTime) row[1];
+            scores.merge(targetId, weightAt(likedAt != null ? toMillis(likedAt) : System.currentTimeMillis()),
+                    Double::sum);
+        }
+    }
+
+    /**
+     * 적재한 점수를 점수판에 반영 (갱신과 겹치지 않도록 쓰기 락)
+     * @param replace true면 기존 점수를 지우고 교체, false면 합산
+     */
+    private void apply(Map<FavoriteType, Map<Long, Double>> loaded, boolean replace) {
+        landmarkLock.writeLock().lock();
+        try {
+            for (Map.Entry<FavoriteType, Map<Long, Double>> entry : loaded.entrySet()) {
+                TrendingBoard board = boards.get(entry.getKey());
+                if (replace) {
+                    board.clear();
+                }
+                entry.getValue().forEach(board::add);
+            }
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이벤트 시각 기준 가중치를 점수에 더함 (기준 시각 이동과 겹치지 않도록 가중치 계산도 읽기 락 안에서)
+     * 0 이하가 되면 추적 대상에서 제외되므로 점수가 음수로 남지 않음
+     * @param sign 1: 좋아요, -1: 좋아요 취소
+     */
+    private void addRaw(FavoriteType type, Long targetId, long eventMillis, double sign) {
+        landmarkLock.readLock().lock();
+        try {
+            boards.get(type).add(targetId, sign * weightAt(eventMillis));
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 시각 대비 가중치 exp(λ·(t - landmark))
+     */
+    private double weightAt(long epochMillis) {
+        return Math.exp(decayRatePerHour * (epochMillis - landmarkMillis) / MILLIS_PER_HOUR);
+    }
+
+    /**
+     * 기준 시각이 너무 오래되어 가중치가 커지면 현재 시각으로 옮기고 전체 점수를 환산
+     */
+    private void rebaseIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (decayRatePerHour * (now - landmarkMillis) / MILLIS_PER_HOUR < MAX_EXPONENT) {
+            return;
+        }
+        landmarkLock.writeLock().lock();
+        try {
+            double factor = 1.0 / weightAt(now);
+            boards.values().forEach(board -> board.rescale(factor));
+            landmarkMillis = now;
+            log.info("인기 점수 기준 시각 이동 완료");
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 인기 항목 (대상 ID + 현재 시각 기준 점수)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class TrendingItem {
+        private final Long targetId;
+        private final double score;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Ranked {
+        private final Long targetId;
+        private final double score;
+    }
+
+    /**
+     * 대상 종류별 점수판
+     * 점수 Map과 점수 순 정렬 Set을 함께 유지하며, 항목별 갱신은 ConcurrentHashMap.compute로 원자적으로 처리
+     * 제거/재계산(trim, removeBelow, rescale)은 쓰기 락 안에서만 호출
+     */
+    private static class TrendingBoard {
+
+        private static final Comparator<Ranked> BY_SCORE_DESC = Comparator
+                .comparingDouble(Ranked::getScore).reversed()
+                .thenComparing(Ranked::getTargetId);
+
+        private final ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(BY_SCORE_DESC);
+
+        void add(Long targetId, double delta) {
+            scores.compute(targetId, (id, previous) -> {
+                if (previous != null) {
+                    ranking.remove(new Ranked(id, previous));
+                }
+                double updated = (previous != null ? previous : 0.0) + delta;
+                if (updated <= 0) {
+                    return null;
+                }
+                ranking.add(new Ranked(id, updated));
+                return updated;
+            });
+        }
+
+        Iterator<Ranked> iterator() {
+            return ranking.iterator();
+        }
+
+        int size() {
+            return scores.size();
+        }
+
+        void clear() {
+            ranking.clear();
+            scores.clear();
+        }
+
+        /**
+         * 하위 항목부터 제거하여 최대 개수 유지
+         */
+        void trim(int maxSize) {
+            while (scores.size() > maxSize) {
+                Ranked lowest = ranking.pollLast();
+                if (lowest == null) {
+                    return;
+                }
+                scores.remove(lowest.getTargetId(), lowest.getScore());
+            }
+        }
+
+        void removeBelow(double threshold) {
+            Ranked lowest;
+            while ((lowest = ranking.pollLast()) != null) {
+                if (lowest.getScore() >= threshold) {
+                    ranking.add(lowest);
+                    return;
+                }
+                scores.remove(lowest.getTargetId(), lowest.getScore());
+            }
+        }
+
+        void rescale(double factor) {
+            List<Ranked> current = new ArrayList<>(ranking);
+            ranking.clear();
+            scores.clear();
+            for (Ranked ranked : current) {
+                double scaled = ranked.getScore() * factor;
+                scores.put(ranked.getTargetId(), scaled);
+                ranking.add(new Ranked(ranked.getTargetId(), scaled));
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sandri.sandriweb.domain.place.entity.Place;
+import sandri.sandriweb.domain.place.cache.PlaceThumbnailCache;
 import sandri.sandriweb.domain.place.repository.PlacePhotoRepository;
 import sandri.sandriweb.domain.place.repository.PlaceRepository;
 import sandri.sandriweb.domain.review.repository.PlaceReviewRepository;
@@ -30,6 +31,7 @@ public class UserService {
     private final UserVisitedPlaceRepository userVisitedPlaceRepository;
     private final PlaceRepository placeRepository;
     private final PlacePhotoRepository placePhotoRepository;
+    private final PlaceThumbnailCache placeThumbnailCache;
     private final PlaceReviewRepository placeReviewRepository;
     @Transactional
     public ApiResponseDto<LoginResponseDto> login(LoginRequestDto request) {
@@ -200,11 +202,7 @@ public class UserService {
                     .collect(Collectors.toList());
             
             // 배치로 썸네일 URL 조회 (N+1 문제 방지)
-            Map<Long, String> thumbnailMap = placePhotoRepository.findFirstPhotoUrlByPlaceIdIn(placeIds).stream()
-                    .collect(Collectors.toMap(
-                            result -> ((Number) result[0]).longValue(),
-                            result -> (String) result[1]
-                    ));
+            Map<Long, String> thumbnailMap = placeThumbnailCache.getAll(placeIds);
             
             // 각 방문 장소의 리뷰 작성 여부 확인
             List<VisitedPlaceResponseDto> responseDtos = visitedPlaces.stream()
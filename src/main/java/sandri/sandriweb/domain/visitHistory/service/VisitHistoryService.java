@@ -10,7 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sandri.sandriweb.domain.place.entity.Place;
 import sandri.sandriweb.domain.place.entity.PlacePhoto;
-import sandri.sandriweb.domain.place.repository.PlacePhotoRepository;
+import sandri.sandriweb.domain.place.cache.PlaceThumbnailCache;
 import sandri.sandriweb.domain.place.repository.PlaceRepository;
 import sandri.sandriweb.domain.point.enums.ConditionType;
 import sandri.sandriweb.domain.point.service.PointService;
@@ -41,7 +41,7 @@ public class VisitHistoryService {
 
     private final UserPlaceHistoryRepository userPlaceHistoryRepository;
     private final PlaceRepository placeRepository;
-    private final PlacePhotoRepository placePhotoRepository;
+    private final PlaceThumbnailCache placeThumbnailCache;
     private final PlaceReviewRepository placeReviewRepository;
     private final PointService pointService;
     private final RouteRepository routeRepository;
@@ -340,14 +340,7 @@ public class VisitHistoryService {
             return new HashMap<>();
         }
 
-        // 배치 조회로 각 장소당 첫 번째 사진만 조회 (N+1 문제 방지)
-        List<Object[]> photoResults = placePhotoRepository.findFirstPhotoUrlByPlaceIdIn(placeIds);
-
-        return photoResults.stream()
-                .collect(Collectors.toMap(
-                        result -> ((Number) result[0]).longValue(), // place_id
-                        result -> (String) result[1],  // photo_url
-                        (existing, replacement) -> existing // 중복 시 기존 값 유지
-                ));
+        // 캐시에 없는 장소만 배치 조회 (N+1 문제 방지)
+        return placeThumbnailCache.getAll(placeIds);
     }
 }
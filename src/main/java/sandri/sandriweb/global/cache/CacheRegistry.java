@@ -0,0 +1,39 @@
+package sandri.sandriweb.global.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * 애플리케이션 내 메모리 캐시 생성 및 통계 조회
+ */
+@Component
+public class CacheRegistry {
+
+    private final List<LruTtlCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    /**
+     * 캐시 생성 및 등록
+     * @param name 캐시 이름 (통계 조회 시 구분용)
+     * @param maxSize 최대 항목 수
+     * @param ttl 항목 만료 시간
+     * @return 생성된 캐시
+     */
+    public <K, V> LruTtlCache<K, V> create(String name, int maxSize, Duration ttl) {
+        LruTtlCache<K, V> cache = new LruTtlCache<>(name, maxSize, ttl);
+        caches.add(cache);
+        return cache;
+    }
+
+    /**
+     * 등록된 모든 캐시의 통계 조회
+     */
+    public List<CacheStatsDto> getStats() {
+        return caches.stream()
+                .map(LruTtlCache::stats)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,42 @@
+package sandri.sandriweb.global.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "메모리 캐시 통계 DTO")
+public class CacheStatsDto {
+
+    @Schema(description = "캐시 이름", example = "placeDetail")
+    private String name;
+
+    @Schema(description = "현재 저장된 항목 수", example = "120")
+    private Integer size;
+
+    @Schema(description = "최대 저장 가능 항목 수", example = "1000")
+    private Integer maxSize;
+
+    @Schema(description = "히트 횟수", example = "9500")
+    private Long hitCount;
+
+    @Schema(description = "미스 횟수", example = "500")
+    private Long missCount;
+
+    @Schema(description = "용량 초과/만료로 제거된 횟수", example = "30")
+    private Long evictionCount;
+
+    @Schema(description = "히트율 (0.0 ~ 1.0)", example = "0.95")
+    private Double hitRate;
+
+    @Schema(description = "loader 실행 횟수 (실제 DB/외부 API 호출 수)", example = "480")
+    private Long loadCount;
+
+    @Schema(description = "진행 중인 같은 키 로딩에 합류하여 loader 실행을 생략한 횟수", example = "20")
+    private Long coalescedCount;
+}
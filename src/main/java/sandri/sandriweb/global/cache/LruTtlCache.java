@@ -0,0 +1,302 @@
+package sandri.sandriweb.global.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 최대 개수(LRU)와 만료 시간(TTL)이 있는 메모리 캐시
+ * 히트/미스/제거 횟수를 집계하여 캐시 크기 조정에 사용
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입 (null은 저장하지 않음)
+ */
+public class LruTtlCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // 무효화가 일어날 때마다 증가 (로딩 중 무효화된 값이 다시 저장되는 것을 방지)
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    // 키별 진행 중인 로딩 (getCoalesced에서 같은 키의 동시 미스를 한 번의 로딩으로 합치기 위함)
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public LruTtlCache(String name, int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruTtlCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 캐시 조회 (만료된 값은 제거 후 미스로 처리)
+     */
+    public V get(K key) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader로 로딩하여 저장 (read-through)
+     * loader는 락 밖에서 실행되며, 로딩 도중 무효화가 일어나면 결과를 저장하지 않음
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long epoch = invalidationEpoch.get();
+        loads.increment();
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            putIfNotInvalidatedSince(key, loaded, epoch);
+        }
+        return loaded;
+    }
+
+    /**
+     * read-through 조회 + 같은 키의 동시 미스 합치기 (singleflight)
+     * 같은 키를 로딩 중인 요청이 있으면 loader를 다시 실행하지 않고 그 결과를 기다려 함께 사용한다.
+     * 외부 API처럼 느리고 비용이 드는 로딩에 사용 (loader가 null을 반환하거나 예외를 던지면 저장하지 않음)
+     */
+    public V getCoalesced(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        load(key, loader, flight);
+        return await(flight);
+    }
+
+    /**
+     * getCoalesced의 비동기 버전 (미스 시 loader를 executor에서 실행)
+     * 호출자가 기다리기를 포기해도 로딩은 계속되어 결과가 캐시에 저장되므로, 이후 요청은 그 결과를 바로 사용한다.
+     * @return 로딩 결과 (호출자별 사본이므로 완료/취소해도 다른 요청에 영향 없음)
+     */
+    public CompletableFuture<V> getCoalescedAsync(K key, Function<? super K, ? extends V> loader, Executor executor) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+        misses.increment();
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+
+        try {
+            executor.execute(() -> load(key, loader, flight));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+        return flight.copy();
+    }
+
+    private void load(K key, Function<? super K, ? extends V> loader, CompletableFuture<V> flight) {
+        try {
+            // 미스 확인과 등록 사이에 앞선 로딩이 끝나 저장했을 수 있으므로 한 번 더 확인
+            V loaded = getIfPresent(key);
+            if (loaded == null) {
+                long epoch = invalidationEpoch.get();
+                loads.increment();
+                loaded = loader.apply(key);
+                if (loaded != null) {
+                    putIfNotInvalidatedSince(key, loaded, epoch);
+                }
+            }
+            flight.complete(loaded);
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 여러 키 일괄 조회 (히트한 값만 반환, 미스 키는 결과에 포함되지 않음)
+     */
+    public Map<K, V> getAllPresent(Collection<? extends K> keys) {
+        Map<K, V> result = new HashMap<>();
+        for (K key : keys) {
+            V value = getIfPresent(key);
+            if (value != null) {
+                hits.increment();
+                result.put(key, value);
+            } else {
+                misses.increment();
+            }
+        }
+        return result;
+    }
+
+    public void put(K key, V value) {
+        if (value == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    /**
+     * 무효화 시점(epoch) 이후 다른 무효화가 없었을 때만 저장
+     * @param epoch 로딩 시작 전에 {@link #currentEpoch()}로 얻은 값
+     */
+    public void putIfNotInvalidatedSince(K key, V value, long epoch) {
+        if (value == null) {
+            return;
+        }
+        synchronized (entries) {
+            if (invalidationEpoch.get() == epoch) {
+                entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+            }
+        }
+    }
+
+    public long currentEpoch() {
+        return invalidationEpoch.get();
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            invalidationEpoch.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll(Collection<? extends K> keys) {
+        synchronized (entries) {
+            invalidationEpoch.incrementAndGet();
+            for (K key : keys) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidationEpoch.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 현재까지의 캐시 통계
+     */
+    public CacheStatsDto stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requestCount = hitCount + missCount;
+        return CacheStatsDto.builder()
+                .name(name)
+                .size(size())
+                .maxSize(maxSize)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .evictionCount(evictions.sum())
+                .hitRate(requestCount == 0 ? 0.0 : (double) hitCount / requestCount)
+                .loadCount(loads.sum())
+                .coalescedCount(coalesced.sum())
+                .build();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private V getIfPresent(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt - System.nanoTime() <= 0) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package sandri.sandriweb.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * 서비스 기준 시계 (한국 시간)
+ * 영업시간 등 현지 시각 기준 판단은 서버(JVM) 기본 시간대와 무관하게 이 시계를 사용
+ */
+@Configuration
+public class ClockConfig {
+
+    public static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Bean
+    public Clock clock() {
+        return Clock.system(SERVICE_ZONE);
+    }
+}
@@ -80,6 +80,7 @@ public class SecurityConfig {
                         // 검색 관련 API - 로그인 없이 접근 가능
                         .requestMatchers("/api/popular-searches").permitAll() // 인기 검색어 조회
                         .requestMatchers("/api/categories").permitAll() // 카테고리 목록 조회
+                        .requestMatchers("/api/search/suggest").permitAll() // 검색어 자동완성
                         .requestMatchers("/api/me/recent-searches").permitAll() // 최근 검색어 조회 (로그인 없이도 가능)
                         .requestMatchers("/api/me/**").authenticated() // 나머지 마이페이지 관련 API는 인증 필요
                         .requestMatchers("/api/admin/**").permitAll() // 관리자 API는 인증 없이 가능 (더 구체적인 경로 이후에 배치)
@@ -2,6 +2,7 @@ package sandri.sandriweb.global.service;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,10 +12,18 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
+import sandri.sandriweb.global.cache.CacheRegistry;
+import sandri.sandriweb.global.cache.LruTtlCache;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,39 +33,133 @@ public class GooglePlacesService {
     private final RestTemplate restTemplate;
     private final String apiKey;
     private final String baseUrl;
+    // Text Search 결과 캐시 (키: 정규화한 키워드|언어|지역)
+    private final LruTtlCache<String, List<PlaceSearchResult>> searchCache;
+    // 비동기 검색 전용 스레드 풀 (요청 스레드가 외부 API 응답을 기다리지 않도록)
+    private final ExecutorService searchExecutor;
 
     public GooglePlacesService(RestTemplateBuilder restTemplateBuilder,
+                               CacheRegistry cacheRegistry,
                                @Value("${google.maps.api-key}") String apiKey,
-                               @Value("${google.maps.base-url:https://maps.googleapis.com/maps/api}") String baseUrl) {
-        this.restTemplate = restTemplateBuilder.build();
+                               @Value("${google.maps.base-url:https://maps.googleapis.com/maps/api}") String baseUrl,
+                               @Value("${app.cache.google-places-search.max-size:1000}") int cacheMaxSize,
+                               @Value("${app.cache.google-places-search.ttl-minutes:360}") long cacheTtlMinutes,
+                               @Value("${app.google-places.connect-timeout-ms:1000}") long connectTimeoutMs,
+                               @Value("${app.google-places.read-timeout-ms:3000}") long readTimeoutMs,
+                               @Value("${app.google-places.search-concurrency:4}") int searchConcurrency) {
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
+        this.searchCache = cacheRegistry.create("googlePlacesSearch", cacheMaxSize, Duration.ofMinutes(cacheTtlMinutes));
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.searchExecutor = Executors.newFixedThreadPool(Math.max(searchConcurrency, 1), runnable -> {
+            Thread thread = new Thread(runnable, "google-places-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownSearchExecutor() {
+        searchExecutor.shutdown();
     }
 
     /**
      * Google Places Text Search API로 장소 검색
+     * 같은 키워드/언어/지역의 결과는 캐시에서 반환하고, 동시에 들어온 같은 검색은 API 호출 한 번으로 합친다.
+     * (호출 실패 결과는 캐시하지 않음)
      * @param keyword 검색 키워드
      * @param language 언어 코드 (ko, en 등)
      * @param region 지역 코드 (kr 등)
      * @return 검색 결과 리스트
      */
     public List<PlaceSearchResult> searchPlaces(String keyword, String language, String region) {
-        if (!StringUtils.hasText(keyword)) {
+        SearchKey searchKey = toSearchKey(keyword, language, region);
+        if (searchKey == null) {
             return List.of();
         }
 
+        List<PlaceSearchResult> results = searchCache.getCoalesced(searchKey.cacheKey(),
+                key -> fetchPlaces(searchKey.getKeyword(), searchKey.getLanguage(), searchKey.getRegion()));
+        return results != null ? results : List.of();
+    }
+
+    /**
+     * searchPlaces의 비동기 버전 (캐시 히트면 즉시 완료, 미스면 전용 스레드 풀에서 API 호출)
+     * 호출자가 기한 내에 결과를 받지 못하고 포기해도 호출은 끝까지 진행되어 결과가 캐시되므로,
+     * 같은 검색의 다음 요청은 그 결과를 바로 사용한다.
+     * @return 검색 결과 (실패 시 빈 리스트로 완료)
+     */
+    public CompletableFuture<List<PlaceSearchResult>> searchPlacesAsync(String keyword, String language, String region) {
+        SearchKey searchKey = toSearchKey(keyword, language, region);
+        if (searchKey == null) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        return searchCache.getCoalescedAsync(searchKey.cacheKey(),
+                        key -> fetchPlaces(searchKey.getKeyword(), searchKey.getLanguage(), searchKey.getRegion()),
+                        searchExecutor)
+                .handle((results, ex) -> {
+                    if (ex != null) {
+                        log.error("Google Places API 비동기 호출 실패: keyword={}", keyword, ex);
+                        return List.<PlaceSearchResult>of();
+                    }
+                    return results != null ? results : List.<PlaceSearchResult>of();
+                });
+    }
+
+    /**
+     * 검색 조건 정규화 (키워드가 비었거나 API Key가 없으면 null)
+     */
+    private SearchKey toSearchKey(String keyword, String language, String region) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+
         if (!StringUtils.hasText(apiKey) || apiKey.contains("your-pop-google-maps-api-key-here")) {
             log.warn("Google Maps API Key가 설정되지 않았습니다. 빈 결과를 반환합니다.");
-            return List.of();
+            return null;
         }
 
+        return new SearchKey(
+                keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT),
+                language != null ? language : "ko",
+                region != null ? region : "kr");
+    }
+
+    @Getter
+    private static class SearchKey {
+        private final String keyword;
+        private final String language;
+        private final String region;
+
+        SearchKey(String keyword, String language, String region) {
+            this.keyword = keyword;
+            this.language = language;
+            this.region = region;
+        }
+
+        String cacheKey() {
+            return keyword + "|" + language + "|" + region;
+        }
+    }
+
+    /**
+     * Text Search API 실제 호출
+     * @return 검색 결과 (ZERO_RESULTS는 빈 리스트, 호출 실패/오류 응답은 null)
+     */
+    private List<PlaceSearchResult> fetchPlaces(String keyword, String language, String region) {
         try {
             URI uri = UriComponentsBuilder
                     .fromUriString(baseUrl + "/place/textsearch/json")
                     .queryParam("query", keyword)
                     .queryParam("key", apiKey)
-                    .queryParam("language", language != null ? language : "ko")
-                    .queryParam("region", region != null ? region : "kr")
+                    .queryParam("language", language)
+                    .queryParam("region", region)
                     .build()
                     .toUri();
 
@@ -65,23 +168,23 @@ public class GooglePlacesService {
 
             if (response == null) {
                 log.error("Google Places API 응답이 비어 있습니다.");
-                return List.of();
+                return null;
             }
 
             if ("OK".equalsIgnoreCase(response.getStatus()) && response.getResults() != null) {
                 return response.getResults().stream()
                         .map(PlaceSearchResult::from)
-                        .collect(Collectors.toList());
+                        .collect(Collectors.toUnmodifiableList());
             } else if ("ZERO_RESULTS".equalsIgnoreCase(response.getStatus())) {
                 log.info("Google Places API 검색 결과 없음: keyword={}", keyword);
                 return List.of();
             } else {
                 log.error("Google Places API 오류 status={}, keyword={}", response.getStatus(), keyword);
-                return List.of();
+                return null;
             }
         } catch (RestClientException ex) {
             log.error("Google Places API 호출 중 오류가 발생했습니다.", ex);
-            return List.of();
+            return null;
         }
     }
 
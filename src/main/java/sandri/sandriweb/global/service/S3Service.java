@@ -2,6 +2,7 @@ package sandri.sandriweb.global.service;
 
 import org.springframework.web.multipart.MultipartFile;
 import sandri.sandriweb.domain.review.dto.PresignedUrlDto;
+import sandri.sandriweb.global.service.dto.S3UploadResult;
 
 import java.util.List;
 
@@ -19,11 +20,20 @@ public interface S3Service {
 
     /**
      * 여러 파일을 S3에 업로드 (백엔드를 통한 업로드)
+     * 하나라도 실패하면 이미 업로드된 파일을 삭제한 뒤 예외 발생
      * @param files 업로드할 파일 리스트
      * @return 업로드된 파일들의 URL 리스트
      */
     List<String> uploadFiles(List<MultipartFile> files);
 
+    /**
+     * 여러 파일을 S3에 병렬 업로드 (일부 실패해도 나머지는 계속 업로드)
+     * DB 트랜잭션 밖에서 호출해야 함 (업로드 동안 커넥션을 점유하지 않도록)
+     * @param files 업로드할 파일 리스트
+     * @return 파일별 업로드 결과 (요청 순서와 동일)
+     */
+    List<S3UploadResult> uploadFilesWithResults(List<MultipartFile> files);
+
     /**
      * Presigned URL 생성 (프론트엔드가 직접 S3에 업로드하기 위한 URL)
      * @param fileName 파일명 (S3 키, 프론트엔드에서 전달받은 원본 파일명)
@@ -37,5 +47,11 @@ public interface S3Service {
      * @param fileUrl 삭제할 파일의 URL
      */
     void deleteFile(String fileUrl);
+
+    /**
+     * 여러 파일을 S3에서 삭제 (업로드 후 저장 실패 시 정리용, 삭제 실패는 로그만 남기고 계속 진행)
+     * @param fileUrls 삭제할 파일 URL 리스트
+     */
+    void deleteFilesQuietly(List<String> fileUrls);
 }
 
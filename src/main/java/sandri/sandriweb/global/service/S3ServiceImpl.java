@@ -4,20 +4,29 @@ import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import sandri.sandriweb.domain.review.dto.PresignedUrlDto;
+import sandri.sandriweb.global.service.dto.S3UploadResult;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -36,8 +45,30 @@ public class S3ServiceImpl implements S3Service {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 동시에 진행할 최대 업로드 수 (S3 커넥션 풀 기본값 50보다 작게 유지)
+    @Value("${app.s3.upload-concurrency:4}")
+    private int uploadConcurrency;
+
     private static final int PRESIGNED_URL_EXPIRY_MINUTES = 5; // Presigned URL 만료 시간 (5분)
 
+    // 다중 파일 업로드 전용 스레드 풀 (요청 스레드와 분리하여 동시 업로드 수 제한)
+    private ExecutorService uploadExecutor;
+
+    @PostConstruct
+    void initUploadExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        uploadExecutor = Executors.newFixedThreadPool(Math.max(uploadConcurrency, 1), runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownUploadExecutor() {
+        uploadExecutor.shutdown();
+    }
+
     /**
      * BASE_URL 생성 (버킷 이름과 리전 기반)
      */
@@ -71,9 +102,72 @@ public class S3ServiceImpl implements S3Service {
 
     @Override
     public List<String> uploadFiles(List<MultipartFile> files) {
-        return files.stream()
-                .map(this::uploadFile)
+        List<S3UploadResult> results = uploadFilesWithResults(files);
+
+        List<String> uploadedUrls = results.stream()
+                .filter(S3UploadResult::isSuccess)
+                .map(S3UploadResult::getUrl)
+                .collect(Collectors.toList());
+        List<String> failed = results.stream()
+                .filter(result -> !result.isSuccess())
+                .map(S3UploadResult::getOriginalFileName)
                 .collect(Collectors.toList());
+        if (!failed.isEmpty()) {
+            // 전부 성공하거나 전부 실패해야 하므로 먼저 성공한 파일은 지움
+            deleteFilesQuietly(uploadedUrls);
+            throw new RuntimeException("파일 업로드 중 오류가 발생했습니다: " + failed);
+        }
+
+        return uploadedUrls;
+    }
+
+    /**
+     * 파일별 업로드를 전용 스레드 풀에서 병렬로 실행
+     * 각 파일은 Content-Length를 지정한 InputStream으로 전송되므로 파일 전체를 메모리에 올리지 않음
+     */
+    @Override
+    public List<S3UploadResult> uploadFilesWithResults(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<Future<S3UploadResult>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(uploadExecutor.submit(() -> uploadFileSafely(file)));
+        }
+
+        List<S3UploadResult> results = new ArrayList<>(files.size());
+        for (int i = 0; i < futures.size(); i++) {
+            String originalFileName = files.get(i) != null ? files.get(i).getOriginalFilename() : null;
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.subList(i, futures.size()).forEach(future -> future.cancel(true));
+                results.add(S3UploadResult.failure(originalFileName, "업로드가 중단되었습니다."));
+                for (int j = i + 1; j < files.size(); j++) {
+                    results.add(S3UploadResult.failure(
+                            files.get(j) != null ? files.get(j).getOriginalFilename() : null, "업로드가 중단되었습니다."));
+                }
+                break;
+            } catch (ExecutionException e) {
+                results.add(S3UploadResult.failure(originalFileName, e.getCause().getMessage()));
+            }
+        }
+
+        long successCount = results.stream().filter(S3UploadResult::isSuccess).count();
+        log.info("S3 다중 업로드 완료 - 요청={}, 성공={}, 실패={}", files.size(), successCount, files.size() - successCount);
+        return results;
+    }
+
+    private S3UploadResult uploadFileSafely(MultipartFile file) {
+        String originalFileName = file != null ? file.getOriginalFilename() : null;
+        try {
+            return S3UploadResult.success(originalFileName, uploadFile(file));
+        } catch (Exception e) {
+            log.warn("S3 업로드 실패 - fileName={}: {}", originalFileName, e.getMessage());
+            return S3UploadResult.failure(originalFileName, e.getMessage());
+        }
     }
 
     @Override
@@ -115,9 +209,28 @@ public class S3ServiceImpl implements S3Service {
 
     @Override
     public void deleteFile(String fileUrl) {
-        // TODO: AWS S3 SDK를 사용한 실제 삭제 구현
-        log.warn("AWS S3 파일 삭제가 아직 구현되지 않았습니다. URL: {}", fileUrl);
-        throw new UnsupportedOperationException("AWS S3 파일 삭제 기능이 아직 구현되지 않았습니다.");
+        String prefix = getBaseUrl() + "/";
+        if (fileUrl == null || !fileUrl.startsWith(prefix)) {
+            throw new IllegalArgumentException("이 버킷의 파일 URL이 아닙니다: " + fileUrl);
+        }
+
+        String key = fileUrl.substring(prefix.length());
+        amazonS3Client.deleteObject(bucketName, key);
+        log.debug("S3 파일 삭제 완료 - key={}", key);
+    }
+
+    @Override
+    public void deleteFilesQuietly(List<String> fileUrls) {
+        if (fileUrls == null) {
+            return;
+        }
+        for (String fileUrl : fileUrls) {
+            try {
+                deleteFile(fileUrl);
+            } catch (Exception e) {
+                log.error("S3 파일 정리 실패 (수동 삭제 필요) - url={}: {}", fileUrl, e.getMessage());
+            }
+        }
     }
 
     /**
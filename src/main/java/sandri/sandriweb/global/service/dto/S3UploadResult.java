@@ -0,0 +1,27 @@
+package sandri.sandriweb.global.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 파일별 S3 업로드 결과 (요청 순서와 같은 순서로 반환)
+ */
+@Getter
+@AllArgsConstructor
+public class S3UploadResult {
+    private final String originalFileName;
+    private final String url;          // 업로드 성공 시 최종 URL (실패 시 null)
+    private final String errorMessage; // 업로드 실패 사유 (성공 시 null)
+
+    public static S3UploadResult success(String originalFileName, String url) {
+        return new S3UploadResult(originalFileName, url, null);
+    }
+
+    public static S3UploadResult failure(String originalFileName, String errorMessage) {
+        return new S3UploadResult(originalFileName, null, errorMessage);
+    }
+
+    public boolean isSuccess() {
+        return url != null;
+    }
+}
@@ -0,0 +1,128 @@
+package sandri.sandriweb.global.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지오해시 인코딩 및 반경 조회용 셀 계산 유틸리티
+ * 같은 접두어를 가진 지오해시는 같은 사각형 셀 안에 있으므로, DB에서는 문자열 접두어(LIKE 'abc%') 조회만으로 후보를 찾을 수 있음
+ */
+public final class GeoHash {
+
+    // 저장용 지오해시 길이 (9자리 ≒ 4.8m x 4.8m)
+    public static final int STORED_PRECISION = 9;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    /**
+     * 위경도를 지오해시 문자열로 인코딩
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true; // 짝수 번째 비트는 경도, 홀수 번째 비트는 위도
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLng = mid;
+                } else {
+                    index = index << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[index]);
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 해당 길이의 지오해시 셀 높이 (위도, 도 단위)
+     */
+    public static double cellHeightDegrees(int precision) {
+        int latBits = (precision * 5) / 2;
+        return 180.0 / Math.pow(2, latBits);
+    }
+
+    /**
+     * 해당 길이의 지오해시 셀 너비 (경도, 도 단위)
+     */
+    public static double cellWidthDegrees(int precision) {
+        int lngBits = (precision * 5 + 1) / 2;
+        return 360.0 / Math.pow(2, lngBits);
+    }
+
+    /**
+     * 중심점에서 반경(미터) 원을 모두 덮는 지오해시 셀 목록 (중심 셀 + 주변 8개 셀)
+     * 셀 크기가 반경 이상인 가장 긴 길이를 선택하므로, 원은 3x3 셀 범위를 벗어나지 않음
+     * 반경이 너무 커서 1자리 셀로도 덮을 수 없으면 빈 문자열 하나(전체 조회)를 반환
+     */
+    public static List<String> coveringCells(double latitude, double longitude, double radiusMeters) {
+        // 위도 1도 거리 근사치와 원의 경도 폭 오차를 감안하여 반경에 10% 여유를 둠
+        double safeRadius = radiusMeters * 1.1;
+        double latDelta = GeoUtils.latitudeDelta(safeRadius);
+        double lngDelta = GeoUtils.longitudeDelta(safeRadius, latitude);
+
+        int precision = 0;
+        for (int candidate = STORED_PRECISION; candidate >= 1; candidate--) {
+            if (cellHeightDegrees(candidate) >= latDelta && cellWidthDegrees(candidate) >= lngDelta) {
+                precision = candidate;
+                break;
+            }
+        }
+        if (precision == 0) {
+            return List.of("");
+        }
+
+        double height = cellHeightDegrees(precision);
+        double width = cellWidthDegrees(precision);
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (int latStep = -1; latStep <= 1; latStep++) {
+            double cellLat = latitude + latStep * height;
+            if (cellLat < -90.0 || cellLat > 90.0) {
+                continue;
+            }
+            for (int lngStep = -1; lngStep <= 1; lngStep++) {
+                cells.add(encode(cellLat, wrapLongitude(longitude + lngStep * width), precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    private static double wrapLongitude(double longitude) {
+        if (longitude < -180.0) {
+            return longitude + 360.0;
+        }
+        if (longitude >= 180.0) {
+            return longitude - 360.0;
+        }
+        return longitude;
+    }
+}
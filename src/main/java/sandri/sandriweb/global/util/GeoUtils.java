@@ -0,0 +1,88 @@
+package sandri.sandriweb.global.util;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * 위경도 좌표 계산 유틸리티
+ */
+public final class GeoUtils {
+
+    // 지구 반지름 (미터)
+    public static final double EARTH_RADIUS_METERS = 6371000.0;
+
+    // 위도 1도당 거리 (미터)
+    public static final double METERS_PER_DEGREE_LATITUDE = 111320.0;
+
+    private static final double BOUNDING_BOX_MARGIN = 1.01;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 지점 간의 거리 계산 (Haversine 공식, 미터 단위)
+     */
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_METERS * c;
+    }
+
+    /**
+     * 반경(미터)을 위도 차이(도)로 변환
+     */
+    public static double latitudeDelta(double radiusMeters) {
+        return radiusMeters / METERS_PER_DEGREE_LATITUDE;
+    }
+
+    /**
+     * 반경(미터)을 특정 위도에서의 경도 차이(도)로 변환
+     * 극지방에 가까워 cos 값이 0에 수렴하면 경도 전체(180도)를 반환
+     */
+    public static double longitudeDelta(double radiusMeters, double latitude) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        if (cos < 1e-6) {
+            return 180.0;
+        }
+        return Math.min(180.0, radiusMeters / (METERS_PER_DEGREE_LATITUDE * cos));
+    }
+
+    /**
+     * 중심점에서 반경(미터)을 감싸는 위경도 사각형 범위 (공간 인덱스 사전 필터용)
+     * 위경도 범위를 벗어나지 않도록 보정하고, 반경이 0이어도 면적이 있는 사각형이 되도록 최소 1m로 계산
+     * 위도 1도 길이(111,320m)가 Haversine 기준(약 111,195m)보다 길고 원의 경도 폭은 중심보다 극 쪽에서 넓어지므로,
+     * 경계 근처 장소가 빠지지 않도록 반경을 1% 넓혀 계산 (사각형은 후보 조회용이고 거리는 호출하는 쪽에서 다시 확인)
+     */
+    public static Envelope boundingEnvelope(double latitude, double longitude, double radiusMeters) {
+        double boxRadius = Math.max(radiusMeters, 1.0) * BOUNDING_BOX_MARGIN;
+        double latDelta = latitudeDelta(boxRadius);
+        double lngDelta = longitudeDelta(boxRadius, latitude);
+
+        return new Envelope(
+                Math.max(-180.0, longitude - lngDelta), Math.min(180.0, longitude + lngDelta),
+                Math.max(-90.0, latitude - latDelta), Math.min(90.0, latitude + latDelta));
+    }
+
+    /**
+     * 중심점에서 반경(미터)을 감싸는 사각형 영역 생성 (DB 공간 인덱스 사전 필터용)
+     * 중심점과 같은 GeometryFactory(SRID)를 사용하며, 범위 계산은 boundingEnvelope와 같음
+     */
+    public static Polygon boundingBox(Point center, double radiusMeters) {
+        Envelope envelope = boundingEnvelope(center.getY(), center.getX(), radiusMeters);
+        return center.getFactory().createPolygon(new Coordinate[]{
+                new Coordinate(envelope.getMinX(), envelope.getMinY()),
+                new Coordinate(envelope.getMaxX(), envelope.getMinY()),
+                new Coordinate(envelope.getMaxX(), envelope.getMaxY()),
+                new Coordinate(envelope.getMinX(), envelope.getMaxY()),
+                new Coordinate(envelope.getMinX(), envelope.getMinY())
+        });
+    }
+}
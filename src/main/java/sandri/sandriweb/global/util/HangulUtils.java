@@ -0,0 +1,64 @@
+package sandri.sandriweb.global.util;
+
+/**
+ * 한글 초성 처리 유틸리티
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_START = '가';
+    private static final char SYLLABLE_END = '힣';
+    // 한 초성에 속하는 음절 수 (중성 21 x 종성 28)
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    // 초성 순서대로 나열한 호환용 자모 (ㄱ ㄲ ㄴ ㄷ ㄸ ㄹ ㅁ ㅂ ㅃ ㅅ ㅆ ㅇ ㅈ ㅉ ㅊ ㅋ ㅌ ㅍ ㅎ)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 완성형 한글 음절은 초성으로 바꾸고 나머지 문자는 그대로 둔 문자열 ("남매지" → "ㄴㅁㅈ")
+     */
+    public static String toChosung(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_START && c <= SYLLABLE_END) {
+                result.append(CHOSUNG[(c - SYLLABLE_START) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 초성 자음(ㄱ~ㅎ)이 하나라도 포함되어 있는지 여부 (초성 검색어 판별용)
+     */
+    public static boolean containsChosung(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
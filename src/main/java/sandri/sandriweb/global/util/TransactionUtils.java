@@ -0,0 +1,30 @@
+package sandri.sandriweb.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 동기화 유틸리티
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 실행 (트랜잭션이 없으면 즉시 실행)
+     * 메모리 캐시/인덱스를 DB 커밋 결과와 맞추기 위해 사용
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package sandri.sandriweb.domain.place.index;
+
+import org.junit.jupiter.api.Test;
+import sandri.sandriweb.domain.place.entity.PlaceOpenTime;
+import sandri.sandriweb.domain.place.index.PlaceOpeningHoursIndex.WeeklyHours;
+import sandri.sandriweb.domain.place.repository.PlaceOpenTimeRepository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlaceOpeningHoursIndexTest {
+
+    @Test
+    void weeklyHours_overnight_continuesIntoNextDay() {
+        WeeklyHours hours = WeeklyHours.from(List.of(openTime(DayOfWeek.FRIDAY, "18:00", "02:00")));
+
+        assertThat(hours.isOpenAt(minute(DayOfWeek.FRIDAY, 17, 59))).isFalse();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.FRIDAY, 18, 0))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.SATURDAY, 1, 59))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.SATURDAY, 2, 0))).isFalse();
+    }
+
+    @Test
+    void weeklyHours_sundayOvernight_wrapsToMonday() {
+        WeeklyHours hours = WeeklyHours.from(List.of(openTime(DayOfWeek.SUNDAY, "20:00", "03:00")));
+
+        assertThat(hours.isOpenAt(minute(DayOfWeek.SUNDAY, 19, 59))).isFalse();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.SUNDAY, 23, 59))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 0, 0))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 2, 59))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 3, 0))).isFalse();
+    }
+
+    @Test
+    void weeklyHours_breakTime_isExcluded() {
+        WeeklyHours hours = WeeklyHours.from(List.of(
+                openTime(DayOfWeek.MONDAY, "09:00", "18:00", "12:00", "13:00")));
+
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 11, 59))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 12, 0))).isFalse();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 12, 59))).isFalse();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 13, 0))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 18, 0))).isFalse();
+    }
+
+    @Test
+    void weeklyHours_breakAfterMidnight_isExcludedFromOvernightHours() {
+        // 토요일 18:00 ~ 일요일 04:00 영업, 일요일 01:00 ~ 02:00 휴게
+        WeeklyHours hours = WeeklyHours.from(List.of(
+                openTime(DayOfWeek.SATURDAY, "18:00", "04:00", "01:00", "02:00")));
+
+        assertThat(hours.isOpenAt(minute(DayOfWeek.SUNDAY, 0, 59))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.SUNDAY, 1, 0))).isFalse();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.SUNDAY, 2, 0))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.SUNDAY, 4, 0))).isFalse();
+    }
+
+    @Test
+    void weeklyHours_binarySearch_checksIntervalEdges() {
+        // 요일마다 한 구간씩 7개 구간: 시작 시각은 포함, 끝 시각은 제외
+        List<PlaceOpenTime> openTimes = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            openTimes.add(openTime(day, "10:00", "11:00"));
+        }
+        WeeklyHours hours = WeeklyHours.from(openTimes);
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            assertThat(hours.isOpenAt(minute(day, 9, 59))).isFalse();
+            assertThat(hours.isOpenAt(minute(day, 10, 0))).isTrue();
+            assertThat(hours.isOpenAt(minute(day, 10, 59))).isTrue();
+            assertThat(hours.isOpenAt(minute(day, 11, 0))).isFalse();
+        }
+        assertThat(hours.isOpenAt(0)).isFalse();
+        assertThat(hours.isOpenAt(7 * 24 * 60 - 1)).isFalse();
+    }
+
+    @Test
+    void weeklyHours_missingTimes_meansOpenAllDay() {
+        WeeklyHours hours = WeeklyHours.from(List.of(openTime(DayOfWeek.MONDAY, null, null)));
+
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 0, 0))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.MONDAY, 23, 59))).isTrue();
+        assertThat(hours.isOpenAt(minute(DayOfWeek.TUESDAY, 0, 0))).isFalse();
+    }
+
+    @Test
+    void openAt_beforeLoad_readsCandidateFromDbWithoutFullReload() {
+        PlaceOpenTimeRepository placeOpenTimeRepository = mock(PlaceOpenTimeRepository.class);
+        when(placeOpenTimeRepository.findEnabledByPlaceId(1L))
+                .thenReturn(List.of(openTime(DayOfWeek.MONDAY, "09:00", "18:00")));
+        when(placeOpenTimeRepository.findEnabledByPlaceId(2L)).thenReturn(List.of());
+        PlaceOpeningHoursIndex index = new PlaceOpeningHoursIndex(placeOpenTimeRepository);
+
+        // 2025-05-05는 월요일
+        Predicate<Long> openFilter = index.openAt(LocalDateTime.of(2025, 5, 5, 10, 0));
+
+        assertThat(openFilter.test(1L)).isTrue();
+        assertThat(openFilter.test(1L)).isTrue();
+        assertThat(openFilter.test(2L)).isFalse();
+        verify(placeOpenTimeRepository, times(1)).findEnabledByPlaceId(1L);
+        verify(placeOpenTimeRepository, never()).findAllEnabled();
+    }
+
+    private static int minute(DayOfWeek day, int hour, int minute) {
+        return (day.getValue() - 1) * 24 * 60 + hour * 60 + minute;
+    }
+
+    private static PlaceOpenTime openTime(DayOfWeek day, String open, String close) {
+        return openTime(day, open, close, null, null);
+    }
+
+    private static PlaceOpenTime openTime(DayOfWeek day, String open, String close,
+                                          String breakStart, String breakEnd) {
+        return PlaceOpenTime.builder()
+                .dayOfWeek(day)
+                .openTime(time(open))
+                .closeTime(time(close))
+                .breakStartTime(time(breakStart))
+                .breakEndTime(time(breakEnd))
+                .build();
+    }
+
+    private static LocalTime time(String value) {
+        return value != null ? LocalTime.parse(value) : null;
+    }
+}
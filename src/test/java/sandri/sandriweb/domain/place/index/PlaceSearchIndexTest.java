@@ -0,0 +1,67 @@
+package sandri.sandriweb.domain.place.index;
+
+import org.junit.jupiter.api.Test;
+import sandri.sandriweb.domain.place.entity.Place;
+import sandri.sandriweb.domain.place.enums.Category;
+import sandri.sandriweb.domain.place.enums.PlaceCategory;
+import sandri.sandriweb.domain.place.repository.PlaceRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlaceSearchIndexTest {
+
+    private final PlaceRepository placeRepository = mock(PlaceRepository.class);
+    private final PlaceSearchIndex index = new PlaceSearchIndex(placeRepository);
+
+    @Test
+    void search_summaryOnlyMatch_requiresContiguousText() {
+        when(placeRepository.findAllEnabledForSearchIndex()).thenReturn(rows(
+                row(1L, "반곡지", "경북 경산시", "가나나다 풍경"),
+                row(2L, "남매지", "경북 경산시", "가나다 호수")));
+        index.reload();
+
+        // "가나다"의 n-gram("가나", "나다")은 두 장소 모두에 있지만 연속으로 포함된 곳은 2번뿐
+        assertThat(index.search("가나다", null, null)).containsExactly(2L);
+    }
+
+    @Test
+    void reload_keepsChangesCommittedWhileRebuilding() {
+        when(placeRepository.findAllEnabledForSearchIndex()).thenReturn(rows(row(1L, "반곡지", "경북 경산시", null)));
+        index.reload();
+
+        // DB를 읽는 도중 다른 요청이 장소를 추가/삭제한 상황 (재적재 결과에는 반영되지 않은 변경)
+        when(placeRepository.findAllEnabledForSearchIndex()).thenAnswer(invocation -> {
+            index.index(place(2L, "남매지"));
+            index.remove(1L);
+            return rows(row(1L, "반곡지", "경북 경산시", null));
+        });
+        index.reload();
+
+        assertThat(index.search("남매지", null, null)).containsExactly(2L);
+        assertThat(index.search("반곡지", null, null)).isEmpty();
+    }
+
+    private static Place place(Long id, String name) {
+        Place place = mock(Place.class);
+        when(place.getId()).thenReturn(id);
+        when(place.getName()).thenReturn(name);
+        when(place.getAddress()).thenReturn("경북 경산시");
+        when(place.isEnabled()).thenReturn(true);
+        when(place.getGroup()).thenReturn(PlaceCategory.관광지);
+        when(place.getCategory()).thenReturn(Category.자연_힐링);
+        return place;
+    }
+
+    private static Object[] row(Long id, String name, String address, String summary) {
+        return new Object[]{id, name, address, summary, PlaceCategory.관광지, Category.자연_힐링};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,192 @@
+package sandri.sandriweb.domain.place.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sandri.sandriweb.domain.place.entity.Place;
+import sandri.sandriweb.domain.place.enums.Category;
+import sandri.sandriweb.domain.place.enums.PlaceCategory;
+import sandri.sandriweb.domain.place.index.PlaceGeohashFinder;
+import sandri.sandriweb.domain.place.index.PlaceLocationIndexInitializer;
+import sandri.sandriweb.global.util.GeoHash;
+import sandri.sandriweb.global.util.GeoUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반경 조회 지연 시간 벤치마크 (MySQL 전용, 장소 1만/10만 개)
+ * PlaceService가 호출하는 PlaceGeohashFinder.findWithinRadius(공간 인덱스 MBRContains 경로)와
+ * 다른 DB에서 쓰는 지오해시 셀 조회(findEnabledByGeohashCells)를 같은 데이터로 비교하고,
+ * 두 경로 모두 전체 장소를 Haversine으로 거른 결과와 같은 장소 집합을 반환하는지 확인
+ *
+ * 테이블을 새로 만들고 끝나면 지우므로(create-drop) 비어 있는 벤치마크 전용 스키마에서만 실행
+ * 예) BENCHMARK_MYSQL_URL=jdbc:mysql://localhost:3306/sandri_bench BENCHMARK_MYSQL_USER=root ./gradlew test --tests '*PlaceSpatialQueryBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MYSQL_URL", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.datasource.url=${BENCHMARK_MYSQL_URL}",
+        "spring.datasource.username=${BENCHMARK_MYSQL_USER:root}",
+        "spring.datasource.password=${BENCHMARK_MYSQL_PASS:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PlaceGeohashFinder.class, PlaceLocationIndexInitializer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlaceSpatialQueryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceSpatialQueryBenchmarkTest.class);
+
+    private static final double RADIUS_METERS = 10000.0;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    // 경산/대구 일대 (실제 데이터 분포와 비슷한 범위)
+    private static final double MIN_LAT = 35.0;
+    private static final double MAX_LAT = 37.0;
+    private static final double MIN_LNG = 127.5;
+    private static final double MAX_LNG = 130.0;
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceGeohashFinder placeGeohashFinder;
+
+    @Autowired
+    private PlaceLocationIndexInitializer placeLocationIndexInitializer;
+
+    private final Random random = new Random(42);
+    private final List<Place> seeded = new ArrayList<>();
+
+    @BeforeAll
+    void createSpatialIndex() {
+        // 테스트 컨텍스트에서는 ApplicationReadyEvent가 발생하지 않으므로 직접 실행
+        placeLocationIndexInitializer.createSpatialIndexIfMissing();
+        assertThat(placeLocationIndexInitializer.isReady()).isTrue();
+    }
+
+    @Test
+    void radiusQueryLatency() {
+        for (int total : new int[]{10_000, 100_000}) {
+            seedUpTo(total);
+
+            double[][] centers = randomCenters(WARMUP + ITERATIONS);
+            long[] envelope = new long[ITERATIONS];
+            long[] geohash = new long[ITERATIONS];
+            for (int i = 0; i < centers.length; i++) {
+                double latitude = centers[i][0];
+                double longitude = centers[i][1];
+                Set<Long> expected = bruteForce(latitude, longitude);
+
+                long start = System.nanoTime();
+                Set<Long> envelopeIds = ids(() ->
+                        placeGeohashFinder.findWithinRadius(latitude, longitude, RADIUS_METERS, place -> true));
+                long envelopeNanos = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                Set<Long> geohashIds = ids(() -> placeRepository
+                        .findEnabledByGeohashCells(GeoHash.coveringCells(latitude, longitude, RADIUS_METERS)).stream()
+                        .filter(place -> GeoUtils.haversineMeters(latitude, longitude,
+                                place.getLatitude(), place.getLongitude()) <= RADIUS_METERS)
+                        .collect(Collectors.toList()));
+                long geohashNanos = System.nanoTime() - start;
+
+                assertThat(envelopeIds).isEqualTo(expected);
+                assertThat(geohashIds).isEqualTo(expected);
+
+                if (i >= WARMUP) {
+                    envelope[i - WARMUP] = envelopeNanos;
+                    geohash[i - WARMUP] = geohashNanos;
+                }
+            }
+
+            log.info("[places={}, radius={}m] 공간 인덱스(findWithinRadius) p50={}ms p95={}ms | 지오해시 셀 p50={}ms p95={}ms",
+                    total, (long) RADIUS_METERS,
+                    percentileMillis(envelope, 50), percentileMillis(envelope, 95),
+                    percentileMillis(geohash, 50), percentileMillis(geohash, 95));
+        }
+    }
+
+    /**
+     * 기대 결과: 저장한 모든 장소를 Haversine으로 거른 enabled 장소 ID
+     */
+    private Set<Long> bruteForce(double latitude, double longitude) {
+        return seeded.stream()
+                .filter(Place::isEnabled)
+                .filter(place -> GeoUtils.haversineMeters(latitude, longitude,
+                        place.getLatitude(), place.getLongitude()) <= RADIUS_METERS)
+                .map(Place::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<Long> ids(Supplier<List<Place>> query) {
+        return query.get().stream().map(Place::getId).collect(Collectors.toSet());
+    }
+
+    private void seedUpTo(int total) {
+        while (seeded.size() < total) {
+            int batchSize = Math.min(total - seeded.size(), SEED_BATCH_SIZE);
+            List<Place> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                Place place = Place.builder()
+                        .name("벤치마크 장소 " + (seeded.size() + i))
+                        .location(GEOMETRY_FACTORY.createPoint(new Coordinate(randomLongitude(), randomLatitude())))
+                        .group(PlaceCategory.관광지)
+                        .category(Category.자연_힐링)
+                        .build();
+                if (random.nextInt(10) == 0) {
+                    place.disable();
+                }
+                batch.add(place);
+            }
+            seeded.addAll(placeRepository.saveAll(batch));
+        }
+    }
+
+    private double[][] randomCenters(int count) {
+        double[][] centers = new double[count][];
+        for (int i = 0; i < count; i++) {
+            centers[i] = new double[]{randomLatitude(), randomLongitude()};
+        }
+        return centers;
+    }
+
+    private double randomLatitude() {
+        return MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+    }
+
+    private double randomLongitude() {
+        return MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG);
+    }
+
+    private static String percentileMillis(long[] nanos, int percentile) {
+        long[] sorted = Arrays.copyOf(nanos, nanos.length);
+        Arrays.sort(sorted);
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return String.format("%.2f", sorted[Math.max(index, 0)] / 1_000_000.0);
+    }
+}
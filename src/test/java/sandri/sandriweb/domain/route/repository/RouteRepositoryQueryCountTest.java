@@ -0,0 +1,106 @@
+package sandri.sandriweb.domain.route.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sandri.sandriweb.domain.route.dto.RouteResponseDto;
+import sandri.sandriweb.domain.route.entity.Route;
+import sandri.sandriweb.domain.route.entity.RouteLocation;
+import sandri.sandriweb.domain.route.entity.RouteParticipant;
+import sandri.sandriweb.support.JpaTestFixtures;
+import sandri.sandriweb.support.QueryCountJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답용 루트 조회(findForResponseById / findForResponseByShareCode) 쿼리 수 회귀 테스트
+ * 일행 20명, 장소 50곳인 루트를 RouteResponseDto로 변환할 때까지 쿼리가 2번만 실행되는지 Hibernate Statistics로 확인
+ */
+@QueryCountJpaTest
+class RouteRepositoryQueryCountTest {
+
+    private static final int PARTICIPANT_COUNT = 20;
+    private static final int DAY_COUNT = 5;
+    private static final int STOPS_PER_DAY = 10;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Long routeId;
+    private String shareCode;
+
+    @BeforeEach
+    void setUp() {
+        Route route = Route.builder()
+                .title("경산 2박 3일")
+                .startDate(LocalDate.of(2025, 5, 1))
+                .endDate(LocalDate.of(2025, 5, 5))
+                .creator(JpaTestFixtures.persistUser(entityManager, "user0"))
+                .isPublic(false)
+                .build();
+        entityManager.persist(route);
+
+        for (int i = 1; i <= PARTICIPANT_COUNT; i++) {
+            entityManager.persist(RouteParticipant.create(route, JpaTestFixtures.persistUser(entityManager, "user" + i)));
+        }
+
+        // 일차별 순서를 역순으로 저장해 정렬이 쿼리에서 처리되는지도 확인
+        for (int day = DAY_COUNT; day >= 1; day--) {
+            for (int order = STOPS_PER_DAY - 1; order >= 0; order--) {
+                entityManager.persist(RouteLocation.builder()
+                        .route(route)
+                        .dayNumber(day)
+                        .name("장소 " + day + "-" + order)
+                        .latitude(BigDecimal.valueOf(35.8 + order * 0.001))
+                        .longitude(BigDecimal.valueOf(128.7 + day * 0.001))
+                        .displayOrder(order)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        routeId = route.getId();
+        shareCode = route.getShareCode();
+        statistics = JpaTestFixtures.resetStatistics(entityManager);
+    }
+
+    @Test
+    void findForResponseById_loadsWholeResponseInTwoQueries() {
+        Route route = routeRepository.findForResponseById(routeId).orElseThrow();
+        RouteResponseDto response = RouteResponseDto.from(route);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertResponse(response);
+    }
+
+    @Test
+    void findForResponseByShareCode_loadsWholeResponseInTwoQueries() {
+        Route route = routeRepository.findForResponseByShareCode(shareCode).orElseThrow();
+        RouteResponseDto response = RouteResponseDto.from(route);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertResponse(response);
+    }
+
+    private void assertResponse(RouteResponseDto response) {
+        assertThat(response.getCreatorNickname()).isEqualTo("user0");
+        assertThat(response.getParticipants()).hasSize(PARTICIPANT_COUNT);
+        assertThat(response.getParticipants()).allSatisfy(participant ->
+                assertThat(participant.getUserNickname()).startsWith("user"));
+        assertThat(response.getLocations()).hasSize(DAY_COUNT * STOPS_PER_DAY);
+        assertThat(response.getLocations().get(0).getDayNumber()).isEqualTo(1);
+        assertThat(response.getLocations().get(0).getDisplayOrder()).isEqualTo(0);
+        assertThat(response.getLocations().get(STOPS_PER_DAY).getDayNumber()).isEqualTo(2);
+    }
+}
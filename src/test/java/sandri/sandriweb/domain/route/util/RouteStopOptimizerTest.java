@@ -0,0 +1,121 @@
+package sandri.sandriweb.domain.route.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteStopOptimizerTest {
+
+    @Test
+    void optimize_keepsFirstStopFixed() {
+        // 출발지(0번)가 가운데에 있어도 맨 앞에서 움직이지 않아야 함
+        double[][] distance = lineDistance(5, 0, 10, 1, 9, 2);
+
+        int[] path = RouteStopOptimizer.optimize(distance);
+
+        assertThat(path[0]).isEqualTo(0);
+        assertPermutation(path, distance.length);
+    }
+
+    @Test
+    void optimize_fewerThanFourStops_returnsNearestNeighborOrder() {
+        assertThat(RouteStopOptimizer.optimize(new double[0][0])).isEmpty();
+        assertThat(RouteStopOptimizer.optimize(lineDistance(3))).containsExactly(0);
+        assertThat(RouteStopOptimizer.optimize(lineDistance(0, 5, 1))).containsExactly(0, 2, 1);
+    }
+
+    @Test
+    void optimize_zigZagInput_getsShorter() {
+        // 도로를 따라 양쪽을 번갈아 오가는 순서로 입력된 10곳
+        double[] latitudes = new double[10];
+        double[] longitudes = new double[10];
+        for (int i = 0; i < 10; i++) {
+            latitudes[i] = 35.80 + (i % 2) * 0.02;
+            longitudes[i] = 128.70 + (i % 2 == 0 ? i : 9 - i) * 0.01;
+        }
+        double[][] distance = RouteStopOptimizer.distanceMatrix(latitudes, longitudes);
+        int[] inputOrder = identity(10);
+
+        int[] path = RouteStopOptimizer.optimize(distance);
+
+        assertThat(path[0]).isEqualTo(0);
+        assertPermutation(path, 10);
+        assertThat(RouteStopOptimizer.pathLength(distance, path))
+                .isLessThan(RouteStopOptimizer.pathLength(distance, inputOrder) * 0.6);
+    }
+
+    @Test
+    void orOpt_movesStopForward() {
+        // 두 번째 장소(x=4)가 너무 일찍 방문됨 → 뒤쪽으로 옮겨져야 함
+        double[][] distance = lineDistance(0, 4, 1, 2, 3);
+        int[] path = identity(5);
+
+        assertThat(RouteStopOptimizer.orOpt(distance, path)).isTrue();
+
+        assertThat(path).containsExactly(0, 2, 3, 4, 1);
+        assertThat(RouteStopOptimizer.pathLength(distance, path)).isEqualTo(4.0);
+    }
+
+    @Test
+    void orOpt_movesStopBackward() {
+        // 마지막 장소(x=1)가 너무 늦게 방문됨 → 출발지 바로 뒤로 옮겨져야 함
+        double[][] distance = lineDistance(0, 2, 3, 4, 1);
+        int[] path = identity(5);
+
+        assertThat(RouteStopOptimizer.orOpt(distance, path)).isTrue();
+
+        assertThat(path).containsExactly(0, 4, 1, 2, 3);
+        assertThat(RouteStopOptimizer.pathLength(distance, path)).isEqualTo(4.0);
+    }
+
+    @Test
+    void optimize_fiftyStops_returnsShorterPathFromFirstStop() {
+        Random random = new Random(7);
+        double[] latitudes = new double[50];
+        double[] longitudes = new double[50];
+        for (int i = 0; i < 50; i++) {
+            latitudes[i] = 35.7 + random.nextDouble() * 0.3;
+            longitudes[i] = 128.6 + random.nextDouble() * 0.3;
+        }
+        double[][] distance = RouteStopOptimizer.distanceMatrix(latitudes, longitudes);
+
+        // 실행 시간은 RouteStopOptimizerBenchmark(src/jmh)에서 측정
+        int[] path = RouteStopOptimizer.optimize(distance);
+
+        assertThat(path[0]).isEqualTo(0);
+        assertPermutation(path, 50);
+        assertThat(RouteStopOptimizer.pathLength(distance, path))
+                .isLessThan(RouteStopOptimizer.pathLength(distance, identity(50)));
+    }
+
+    /**
+     * 직선 위 좌표로 거리 행렬 생성
+     */
+    private static double[][] lineDistance(double... positions) {
+        int n = positions.length;
+        double[][] distance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                distance[i][j] = Math.abs(positions[i] - positions[j]);
+            }
+        }
+        return distance;
+    }
+
+    private static int[] identity(int n) {
+        int[] path = new int[n];
+        for (int i = 0; i < n; i++) {
+            path[i] = i;
+        }
+        return path;
+    }
+
+    private static void assertPermutation(int[] path, int n) {
+        int[] sorted = Arrays.copyOf(path, path.length);
+        Arrays.sort(sorted);
+        assertThat(sorted).containsExactly(identity(n));
+    }
+}
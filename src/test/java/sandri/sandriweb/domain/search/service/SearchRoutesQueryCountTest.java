@@ -0,0 +1,177 @@
+package sandri.sandriweb.domain.search.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import sandri.sandriweb.domain.place.cache.PlaceThumbnailCache;
+import sandri.sandriweb.domain.place.entity.Place;
+import sandri.sandriweb.domain.place.entity.PlacePhoto;
+import sandri.sandriweb.domain.place.enums.Category;
+import sandri.sandriweb.domain.place.enums.PlaceCategory;
+import sandri.sandriweb.domain.place.index.PlaceOpeningHoursIndex;
+import sandri.sandriweb.domain.place.index.PlaceSearchIndex;
+import sandri.sandriweb.domain.route.entity.Route;
+import sandri.sandriweb.domain.route.entity.RouteLocation;
+import sandri.sandriweb.domain.search.dto.RouteSearchResponseDto;
+import sandri.sandriweb.domain.search.index.SearchSuggestIndex;
+import sandri.sandriweb.domain.user.entity.User;
+import sandri.sandriweb.global.cache.CacheRegistry;
+import sandri.sandriweb.global.service.GooglePlacesService;
+import sandri.sandriweb.support.JpaTestFixtures;
+import sandri.sandriweb.support.QueryCountJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 루트 검색(SearchService.searchRoutes) 쿼리 수 회귀 테스트
+ * 루트 30개(일차 3개, 일차별 장소 5곳) 중 한 페이지(20개)를 응답으로 만들 때까지
+ * 페이지 조회(작성자 fetch join) + count + 첫 장소 이름 + Place + 대표 사진, 루트 수와 관계없이 5번만 실행되는지 확인
+ * 검색 로그/인기 검색어/장소 인덱스 등 루트 검색 경로에서 DB를 쓰지 않는 협력 객체만 목으로 대체
+ */
+@QueryCountJpaTest
+@Import({SearchService.class, RouteThumbnailResolver.class, PlaceThumbnailCache.class, CacheRegistry.class})
+class SearchRoutesQueryCountTest {
+
+    private static final int ROUTE_COUNT = 30;
+    private static final int PAGE_SIZE = 20;
+    private static final int DAY_COUNT = 3;
+    private static final int STOPS_PER_DAY = 5;
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private RecentSearchStore recentSearchStore;
+
+    @MockitoBean
+    private SearchLogWriter searchLogWriter;
+
+    @MockitoBean
+    private PopularSearchEngine popularSearchEngine;
+
+    @MockitoBean
+    private GooglePlacesService googlePlacesService;
+
+    @MockitoBean
+    private PlaceOpeningHoursIndex placeOpeningHoursIndex;
+
+    @MockitoBean
+    private PlaceSearchIndex placeSearchIndex;
+
+    @MockitoBean
+    private SearchSuggestIndex searchSuggestIndex;
+
+    private final Map<Long, String> expectedThumbnailByRouteId = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        User creator = JpaTestFixtures.persistUser(entityManager, "creator");
+
+        for (int i = 0; i < ROUTE_COUNT; i++) {
+            // 3의 배수 번째 루트는 직접 올린 대표 이미지가 있어 장소 조회 대상에서 빠짐
+            String imageUrl = i % 3 == 0 ? "https://example.com/route-" + i + ".jpg" : null;
+            Route route = Route.builder()
+                    .title("경산 루트 " + i)
+                    .startDate(LocalDate.of(2025, 5, 1))
+                    .endDate(LocalDate.of(2025, 5, 3))
+                    .creator(creator)
+                    .isPublic(true)
+                    .imageUrl(imageUrl)
+                    .build();
+            entityManager.persist(route);
+
+            // 일차, 순서를 역순으로 저장해 첫 장소 판별이 저장 순서가 아닌 일차/순서 기준인지 확인
+            for (int day = DAY_COUNT; day >= 1; day--) {
+                for (int order = STOPS_PER_DAY - 1; order >= 0; order--) {
+                    String name = "장소 " + i + "-" + day + "-" + order;
+                    entityManager.persist(RouteLocation.builder()
+                            .route(route)
+                            .dayNumber(day)
+                            .name(name)
+                            .latitude(BigDecimal.valueOf(35.8))
+                            .longitude(BigDecimal.valueOf(128.7))
+                            .displayOrder(order)
+                            .build());
+                    Place place = persistPlaceWithPhotos(name);
+                    if (day == 1 && order == 0) {
+                        expectedThumbnailByRouteId.put(route.getId(),
+                                imageUrl != null ? imageUrl : firstPhotoUrl(place));
+                    }
+                }
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void searchRoutes_buildsPageInFiveQueries() {
+        Statistics statistics = JpaTestFixtures.resetStatistics(entityManager);
+
+        RouteSearchResponseDto response = searchService.searchRoutes("경산", 1, PAGE_SIZE);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(response.getTotalCount()).isEqualTo(ROUTE_COUNT);
+        assertThat(response.getHasNext()).isTrue();
+        assertThat(response.getRoutes()).hasSize(PAGE_SIZE);
+        assertThat(response.getRoutes()).allSatisfy(item -> {
+            assertThat(item.getCreatorNickname()).isEqualTo("creator");
+            assertThat(item.getThumbnailUrl()).isEqualTo(expectedThumbnailByRouteId.get(item.getRouteId()));
+        });
+    }
+
+    @Test
+    void searchRoutes_cachedThumbnails_skipPhotoQuery() {
+        searchService.searchRoutes("경산", 1, PAGE_SIZE);
+        entityManager.clear();
+        Statistics statistics = JpaTestFixtures.resetStatistics(entityManager);
+
+        searchService.searchRoutes("경산", 1, PAGE_SIZE);
+
+        // 대표 사진은 PlaceThumbnailCache에서 가져오므로 사진 조회가 빠짐
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    /**
+     * 사진 2장(순서 1, 0)이 있는 장소 저장 (대표 사진은 순서가 가장 작은 사진)
+     */
+    private Place persistPlaceWithPhotos(String name) {
+        Place place = Place.builder()
+                .name(name)
+                .address("경북 경산시")
+                .location(GEOMETRY_FACTORY.createPoint(new Coordinate(128.7, 35.8)))
+                .group(PlaceCategory.관광지)
+                .category(Category.자연_힐링)
+                .build();
+        entityManager.persist(place);
+        for (int order = 1; order >= 0; order--) {
+            entityManager.persist(PlacePhoto.builder()
+                    .place(place)
+                    .photoUrl("https://example.com/place-" + place.getId() + "-" + order + ".jpg")
+                    .order(order)
+                    .build());
+        }
+        return place;
+    }
+
+    private static String firstPhotoUrl(Place place) {
+        return "https://example.com/place-" + place.getId() + "-0.jpg";
+    }
+}
@@ -0,0 +1,146 @@
+package sandri.sandriweb.global.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import sandri.sandriweb.global.service.dto.S3UploadResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3ServiceImpl 업로드/정리 테스트
+ * 로컬 S3 호환 서버(PUT/DELETE 객체만 지원하는 JDK HttpServer)를 띄워 실제 SDK 요청으로 검증
+ */
+class S3ServiceImplTest {
+
+    private static final String BUCKET = "sandri-test";
+    private static final String REGION = "ap-northeast-2";
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private S3ServiceImpl s3Service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        String endpoint = "http://localhost:" + server.getAddress().getPort();
+        AmazonS3Client client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, REGION))
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+                .withPathStyleAccessEnabled(true)
+                .disableChunkedEncoding()
+                .build();
+
+        s3Service = new S3ServiceImpl(client);
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3Service, "region", REGION);
+        ReflectionTestUtils.setField(s3Service, "uploadConcurrency", 4);
+        s3Service.initUploadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Service.shutdownUploadExecutor();
+        server.stop(0);
+    }
+
+    @Test
+    void uploadFiles_allSucceed_returnsUrlsInRequestOrder() {
+        List<String> urls = s3Service.uploadFiles(List.of(image("a.jpg"), image("b.jpg"), image("c.jpg")));
+
+        assertThat(urls).hasSize(3);
+        assertThat(urls.get(0)).endsWith("_a.jpg");
+        assertThat(urls.get(2)).endsWith("_c.jpg");
+        assertThat(objects).hasSize(3);
+    }
+
+    @Test
+    void uploadFiles_oneFails_deletesAlreadyUploadedFiles() {
+        MultipartFile empty = new MockMultipartFile("files", "empty.jpg", "image/jpeg", new byte[0]);
+
+        assertThatThrownBy(() -> s3Service.uploadFiles(List.of(image("a.jpg"), empty, image("b.jpg"))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("empty.jpg");
+
+        assertThat(objects).isEmpty();
+    }
+
+    @Test
+    void uploadFilesWithResults_keepsSuccessfulUploads() {
+        MultipartFile empty = new MockMultipartFile("files", "empty.jpg", "image/jpeg", new byte[0]);
+
+        List<S3UploadResult> results = s3Service.uploadFilesWithResults(List.of(image("a.jpg"), empty));
+
+        assertThat(results).extracting(S3UploadResult::isSuccess).containsExactly(true, false);
+        assertThat(objects).hasSize(1);
+    }
+
+    @Test
+    void deleteFilesQuietly_removesObjectsAndSkipsForeignUrls() {
+        List<String> urls = s3Service.uploadFiles(List.of(image("a.jpg"), image("b.jpg")));
+
+        s3Service.deleteFilesQuietly(List.of(urls.get(0), "https://example.com/other.jpg", urls.get(1)));
+
+        assertThat(objects).isEmpty();
+    }
+
+    private MultipartFile image(String name) {
+        return new MockMultipartFile("files", name, "image/jpeg", ("image-" + name).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * path-style 요청 (/{bucket}/{key}) 중 PUT, DELETE만 처리
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String bucketPrefix = "/" + BUCKET + "/";
+        if (!path.startsWith(bucketPrefix)) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        String key = path.substring(bucketPrefix.length());
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                byte[] body;
+                try (InputStream inputStream = exchange.getRequestBody()) {
+                    body = inputStream.readAllBytes();
+                }
+                objects.put(key, body);
+                // SDK가 업로드 무결성 확인에 사용하는 MD5 ETag
+                exchange.getResponseHeaders().add("ETag", "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+                exchange.sendResponseHeaders(200, -1);
+            }
+            case "DELETE" -> {
+                objects.remove(key);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            default -> exchange.sendResponseHeaders(405, -1);
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,44 @@
+package sandri.sandriweb.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import sandri.sandriweb.domain.user.entity.User;
+
+import java.time.LocalDate;
+
+/**
+ * JPA 테스트 공용 픽스처
+ */
+public final class JpaTestFixtures {
+
+    private JpaTestFixtures() {
+    }
+
+    /**
+     * 지금부터 실행되는 쿼리만 세도록 초기화한 Hibernate Statistics
+     */
+    public static Statistics resetStatistics(EntityManager entityManager) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    /**
+     * 테스트용 사용자 저장 (아이디와 닉네임을 같은 값으로 사용)
+     */
+    public static User persistUser(EntityManager entityManager, String nickname) {
+        User user = User.builder()
+                .name("사용자")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .gender(User.Gender.OTHER)
+                .location("경산")
+                .nickname(nickname)
+                .username(nickname)
+                .password("password")
+                .phoneVerified(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,30 @@
+package sandri.sandriweb.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 쿼리 수 회귀 테스트용 @DataJpaTest 설정
+ * - Hibernate Statistics 활성화 (JpaTestFixtures.resetStatistics로 측정)
+ * - 운영 DB(MySQL)용 네이티브 쿼리(백틱 컬럼, 윈도우 함수)도 실행되도록 H2를 MySQL 호환 모드로 사용
+ *   (테스트 컨텍스트마다 별도 메모리 DB)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public @interface QueryCountJpaTest {
+}